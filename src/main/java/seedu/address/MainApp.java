@@ -16,6 +16,7 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,11 +24,14 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageConverter;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -40,6 +44,12 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    // How long to wait after a change before writing the data file, so that a burst of changes is written once
+    private static final long SAVE_DELAY_MILLIS = 500;
+
+    // How many changes the data file's journal may hold before they are compacted into the data file
+    private static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
@@ -56,7 +66,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
@@ -68,6 +78,29 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code AddressBookStorage} that keeps the data file in the format chosen in {@code userPrefs}. <br>
+     * The json data file is at the path in {@code userPrefs}, and the binary data file is next to it.
+     * If there is no data file in the chosen format yet, the data file in the other format is migrated to it.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage jsonStorage = new JournaledAddressBookStorage(jsonFilePath, JOURNAL_COMPACTION_THRESHOLD);
+        AddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath));
+
+        boolean isBinaryFormat = userPrefs.getAddressBookFormat() == AddressBookFormat.BINARY;
+        AddressBookStorage chosenStorage = isBinaryFormat ? binaryStorage : jsonStorage;
+        AddressBookStorage otherStorage = isBinaryFormat ? jsonStorage : binaryStorage;
+        try {
+            AddressBookStorageConverter.migrate(otherStorage, chosenStorage);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to migrate " + otherStorage.getAddressBookFilePath() + " to "
+                    + chosenStorage.getAddressBookFilePath() + " : " + StringUtil.getDetails(e));
+        }
+        return new WriteBehindAddressBookStorage(chosenStorage, SAVE_DELAY_MILLIS);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -174,6 +207,11 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        try {
+            storage.flushAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
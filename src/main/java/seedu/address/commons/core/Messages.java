@@ -30,6 +30,8 @@ public class Messages {
     public static final String MESSAGE_INVALID_ADD_INPUT =
             "Employee cannot have more than %1$s %2$s! (Can add at most %3$s %4$s)";
     public static final String MESSAGE_INSUFFICIENT_LEAVES = "Employee %1$s does not have any more leaves! \n";
+    public static final String MESSAGE_NOT_ENOUGH_LEAVES =
+            "Employee %1$s only has %2$d leave(s), which is not enough for %3$d date(s)! \n";
     public static final String MESSAGE_INVALID_DATE_FORMAT =
             "Invalid date format/value! (Correct format: YYYY-MM-DD, and given date must be valid) \n%1$s";
     public static final String MESSAGE_INVALID_FINDDATE_FORMAT =
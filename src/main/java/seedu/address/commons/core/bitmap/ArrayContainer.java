@@ -0,0 +1,150 @@
+package seedu.address.commons.core.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A container holding its values in a sorted array, for when it holds at most {@value #MAX_ARRAY_SIZE} of them.
+ */
+final class ArrayContainer extends Container {
+
+    private char[] values;
+    private int cardinality;
+
+    /**
+     * Creates an empty array container.
+     */
+    ArrayContainer() {
+        this(new char[1], 0);
+    }
+
+    private ArrayContainer(char[] values, int cardinality) {
+        this.values = values;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Returns a new array container with the values of {@code container}.
+     */
+    static ArrayContainer of(Container container) {
+        ArrayContainer array = new ArrayContainer(new char[Math.max(container.getCardinality(), 1)], 0);
+        container.forEach(0, value -> array.values[array.cardinality++] = (char) value);
+        return array;
+    }
+
+    @Override
+    int getCardinality() {
+        return cardinality;
+    }
+
+    @Override
+    int getRunCount() {
+        int runCount = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (i == 0 || values[i] != values[i - 1] + 1) {
+                runCount++;
+            }
+        }
+        return runCount;
+    }
+
+    @Override
+    boolean contains(int value) {
+        return Arrays.binarySearch(values, 0, cardinality, (char) value) >= 0;
+    }
+
+    @Override
+    Container add(int value) {
+        int index = Arrays.binarySearch(values, 0, cardinality, (char) value);
+        if (index >= 0) {
+            return this;
+        }
+        if (cardinality == MAX_ARRAY_SIZE) {
+            return toBitmapContainer().add(value);
+        }
+        int insertionPoint = -index - 1;
+        if (cardinality == values.length) {
+            values = Arrays.copyOf(values, Math.min(cardinality * 2, MAX_ARRAY_SIZE));
+        }
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, cardinality - insertionPoint);
+        values[insertionPoint] = (char) value;
+        cardinality++;
+        return this;
+    }
+
+    @Override
+    Container remove(int value) {
+        int index = Arrays.binarySearch(values, 0, cardinality, (char) value);
+        if (index >= 0) {
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+        }
+        return this;
+    }
+
+    @Override
+    Container copy() {
+        return new ArrayContainer(Arrays.copyOf(values, Math.max(cardinality, 1)), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < cardinality; i++) {
+            action.accept(high | values[i]);
+        }
+    }
+
+    @Override
+    void orInto(BitmapContainer bitmap) {
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.add(values[i]);
+        }
+    }
+
+    @Override
+    void andNotInto(BitmapContainer bitmap) {
+        for (int i = 0; i < cardinality; i++) {
+            bitmap.clear(values[i]);
+        }
+    }
+
+    /**
+     * Returns a new array container with the values of this container that are in {@code other} if
+     * {@code isKeepingContained}, or that are not in it otherwise.
+     */
+    ArrayContainer filter(Container other, boolean isKeepingContained) {
+        char[] kept = new char[Math.max(cardinality, 1)];
+        int keptCount = 0;
+        for (int i = 0; i < cardinality; i++) {
+            if (other.contains(values[i]) == isKeepingContained) {
+                kept[keptCount++] = values[i];
+            }
+        }
+        return new ArrayContainer(kept, keptCount);
+    }
+
+    /**
+     * Returns a new array container with the values in this container, {@code other} or both, merged in one pass.
+     */
+    ArrayContainer merge(ArrayContainer other) {
+        char[] merged = new char[Math.max(cardinality + other.cardinality, 1)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < cardinality && j < other.cardinality) {
+            if (values[i] == other.values[j]) {
+                merged[k++] = values[i++];
+                j++;
+            } else {
+                merged[k++] = values[i] < other.values[j] ? values[i++] : other.values[j++];
+            }
+        }
+        while (i < cardinality) {
+            merged[k++] = values[i++];
+        }
+        while (j < other.cardinality) {
+            merged[k++] = other.values[j++];
+        }
+        return new ArrayContainer(merged, k);
+    }
+}
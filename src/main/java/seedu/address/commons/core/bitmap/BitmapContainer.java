@@ -0,0 +1,159 @@
+package seedu.address.commons.core.bitmap;
+
+import java.util.function.IntConsumer;
+
+/**
+ * A container holding one bit for each of its 65536 possible values, for when it holds many of them.
+ * Containers are combined with it a 64-bit word at a time.
+ */
+final class BitmapContainer extends Container {
+
+    private static final int WORD_COUNT = CAPACITY / Long.SIZE;
+
+    private final long[] words;
+    private int cardinality;
+
+    /**
+     * Creates an empty bitmap container.
+     */
+    BitmapContainer() {
+        this(new long[WORD_COUNT], 0);
+    }
+
+    private BitmapContainer(long[] words, int cardinality) {
+        this.words = words;
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    int getCardinality() {
+        return cardinality;
+    }
+
+    @Override
+    int getRunCount() {
+        int runCount = 0;
+        long previousWord = 0;
+        for (long word : words) {
+            // A run starts at each set bit whose lower neighbour, which may be in the previous word, is clear
+            runCount += Long.bitCount(word & ~(word << 1 | previousWord >>> (Long.SIZE - 1)));
+            previousWord = word;
+        }
+        return runCount;
+    }
+
+    @Override
+    boolean contains(int value) {
+        return (words[value >>> 6] & 1L << value) != 0;
+    }
+
+    @Override
+    Container add(int value) {
+        long word = words[value >>> 6];
+        long newWord = word | 1L << value;
+        words[value >>> 6] = newWord;
+        if (newWord != word) {
+            cardinality++;
+        }
+        return this;
+    }
+
+    @Override
+    Container remove(int value) {
+        clear(value);
+        return cardinality <= MAX_ARRAY_SIZE ? ArrayContainer.of(this) : this;
+    }
+
+    /**
+     * Removes {@code value} from this container, keeping it a bitmap container.
+     */
+    void clear(int value) {
+        long word = words[value >>> 6];
+        long newWord = word & ~(1L << value);
+        words[value >>> 6] = newWord;
+        if (newWord != word) {
+            cardinality--;
+        }
+    }
+
+    /**
+     * Adds the values from {@code start} to {@code end}, inclusive, to this container.
+     */
+    void addRange(int start, int end) {
+        updateRange(start, end, true);
+    }
+
+    /**
+     * Removes the values from {@code start} to {@code end}, inclusive, from this container.
+     */
+    void clearRange(int start, int end) {
+        updateRange(start, end, false);
+    }
+
+    private void updateRange(int start, int end, boolean isAdding) {
+        int firstWord = start >>> 6;
+        int lastWord = end >>> 6;
+        for (int i = firstWord; i <= lastWord; i++) {
+            long mask = -1L;
+            if (i == firstWord) {
+                mask &= -1L << start;
+            }
+            if (i == lastWord) {
+                mask &= -1L >>> (Long.SIZE - 1 - (end & (Long.SIZE - 1)));
+            }
+            long newWord = isAdding ? words[i] | mask : words[i] & ~mask;
+            cardinality += Long.bitCount(newWord) - Long.bitCount(words[i]);
+            words[i] = newWord;
+        }
+    }
+
+    /**
+     * Keeps only the values of this container that are also in {@code other}.
+     */
+    void andWith(BitmapContainer other) {
+        cardinality = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            words[i] &= other.words[i];
+            cardinality += Long.bitCount(words[i]);
+        }
+    }
+
+    @Override
+    Container copy() {
+        return toBitmapContainer();
+    }
+
+    @Override
+    BitmapContainer toBitmapContainer() {
+        return new BitmapContainer(words.clone(), cardinality);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < WORD_COUNT; i++) {
+            long word = words[i];
+            while (word != 0) {
+                action.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+                word &= word - 1;
+            }
+        }
+    }
+
+    @Override
+    void orInto(BitmapContainer bitmap) {
+        bitmap.cardinality = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            bitmap.words[i] |= words[i];
+            bitmap.cardinality += Long.bitCount(bitmap.words[i]);
+        }
+    }
+
+    @Override
+    void andNotInto(BitmapContainer bitmap) {
+        bitmap.cardinality = 0;
+        for (int i = 0; i < WORD_COUNT; i++) {
+            bitmap.words[i] &= ~words[i];
+            bitmap.cardinality += Long.bitCount(bitmap.words[i]);
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package seedu.address.commons.core.bitmap;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative integers, compressed in the manner of a roaring bitmap.
+ * Values are grouped by their high 16 bits, and the low 16 bits of each group are held in a {@code Container} of the
+ * kind that takes the least space: a sorted array for a few values, a bitmap for many values, or runs for long
+ * stretches of consecutive values. Combining two bitmaps combines only the groups they share, a container at a time,
+ * so that sets of dense values such as employee ids are intersected or joined with a handful of word operations.
+ */
+public class CompressedBitmap {
+
+    public static final String MESSAGE_CONSTRAINTS = "Values in a compressed bitmap cannot be negative.";
+
+    private static final int LOW_BITS = 16;
+    private static final int LOW_MASK = (1 << LOW_BITS) - 1;
+
+    // High 16 bits of each group in ascending order, and the container of the group. Groups are never empty.
+    private int[] keys;
+    private Container[] containers;
+    private int size;
+    private int cardinality;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public CompressedBitmap() {
+        this(new int[1], new Container[1], 0, 0);
+    }
+
+    private CompressedBitmap(int[] keys, Container[] containers, int size, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.size = size;
+        this.cardinality = cardinality;
+    }
+
+    /**
+     * Returns a bitmap holding {@code values}.
+     */
+    public static CompressedBitmap of(int... values) {
+        requireNonNull(values);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns a bitmap holding the values in any of {@code bitmaps}.
+     * Each group is gathered into a single bitmap container, so that every bitmap is only gone through once.
+     */
+    public static CompressedBitmap orAll(Collection<CompressedBitmap> bitmaps) {
+        requireNonNull(bitmaps);
+        if (bitmaps.size() == 1) {
+            return bitmaps.iterator().next().copy();
+        }
+        TreeMap<Integer, Container> groups = new TreeMap<>();
+        for (CompressedBitmap bitmap : bitmaps) {
+            for (int i = 0; i < bitmap.size; i++) {
+                Container group = groups.get(bitmap.keys[i]);
+                if (group == null) {
+                    groups.put(bitmap.keys[i], bitmap.containers[i].copy());
+                } else {
+                    BitmapContainer union = group instanceof BitmapContainer
+                            ? (BitmapContainer) group
+                            : group.toBitmapContainer();
+                    bitmap.containers[i].orInto(union);
+                    groups.put(bitmap.keys[i], union);
+                }
+            }
+        }
+
+        CompressedBitmap union = new CompressedBitmap(new int[Math.max(groups.size(), 1)],
+                new Container[Math.max(groups.size(), 1)], 0, 0);
+        for (Map.Entry<Integer, Container> group : groups.entrySet()) {
+            union.append(group.getKey(), group.getValue().optimize());
+        }
+        return union;
+    }
+
+    /**
+     * Adds {@code value} to this bitmap.
+     */
+    public void add(int value) {
+        checkArgument(value >= 0, MESSAGE_CONSTRAINTS);
+        int index = indexOfKey(value >>> LOW_BITS);
+        if (index < 0) {
+            insert(-index - 1, value >>> LOW_BITS, new ArrayContainer().add(value & LOW_MASK));
+            cardinality++;
+        } else if (!containers[index].contains(value & LOW_MASK)) {
+            containers[index] = containers[index].add(value & LOW_MASK);
+            cardinality++;
+        }
+    }
+
+    /**
+     * Adds the values from {@code start} to {@code end}, inclusive, to this bitmap, as runs where they fill a group.
+     */
+    public void addRange(int start, int end) {
+        checkArgument(start >= 0, MESSAGE_CONSTRAINTS);
+        for (long groupStart = start; groupStart <= end; groupStart = (groupStart | LOW_MASK) + 1) {
+            int key = (int) (groupStart >>> LOW_BITS);
+            int groupEnd = (int) Math.min(end, groupStart | LOW_MASK);
+            Container range = RunContainer.ofRange((int) groupStart & LOW_MASK, groupEnd & LOW_MASK);
+            int index = indexOfKey(key);
+            if (index < 0) {
+                insert(-index - 1, key, range);
+                cardinality += range.getCardinality();
+            } else {
+                cardinality -= containers[index].getCardinality();
+                containers[index] = containers[index].or(range);
+                cardinality += containers[index].getCardinality();
+            }
+        }
+    }
+
+    /**
+     * Removes {@code value} from this bitmap.
+     *
+     * @return True if the bitmap held {@code value}.
+     */
+    public boolean remove(int value) {
+        if (!contains(value)) {
+            return false;
+        }
+        int index = indexOfKey(value >>> LOW_BITS);
+        containers[index] = containers[index].remove(value & LOW_MASK);
+        if (containers[index].getCardinality() == 0) {
+            delete(index);
+        }
+        cardinality--;
+        return true;
+    }
+
+    /**
+     * Removes every value from this bitmap.
+     */
+    public void clear() {
+        keys = new int[1];
+        containers = new Container[1];
+        size = 0;
+        cardinality = 0;
+    }
+
+    /**
+     * Returns true if this bitmap holds {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOfKey(value >>> LOW_BITS);
+        return index >= 0 && containers[index].contains(value & LOW_MASK);
+    }
+
+    /**
+     * Returns the number of values in this bitmap.
+     */
+    public int getCardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    /**
+     * Returns a bitmap with the same values, which does not change with this one.
+     */
+    public CompressedBitmap copy() {
+        Container[] copiedContainers = new Container[keys.length];
+        for (int i = 0; i < size; i++) {
+            copiedContainers[i] = containers[i].copy();
+        }
+        return new CompressedBitmap(keys.clone(), copiedContainers, size, cardinality);
+    }
+
+    /**
+     * Returns a new bitmap with the values in both this bitmap and {@code other}.
+     * Only the groups in both bitmaps are combined.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap intersection = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] == other.keys[j]) {
+                intersection.append(keys[i], containers[i++].and(other.containers[j++]));
+            } else if (keys[i] < other.keys[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns a new bitmap with the values in this bitmap, {@code other} or both.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap union = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || i < size && keys[i] < other.keys[j]) {
+                union.append(keys[i], containers[i++].copy());
+            } else if (i == size || other.keys[j] < keys[i]) {
+                union.append(other.keys[j], other.containers[j++].copy());
+            } else {
+                union.append(keys[i], containers[i++].or(other.containers[j++]));
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Returns a new bitmap with the values in this bitmap that are not in {@code other}.
+     * Negating a set of values within the values of a bitmap is this bitmap without them.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        requireNonNull(other);
+        CompressedBitmap difference = new CompressedBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            difference.append(keys[i], j < other.size && other.keys[j] == keys[i]
+                    ? containers[i].andNot(other.containers[j])
+                    : containers[i].copy());
+        }
+        return difference;
+    }
+
+    /**
+     * Passes each value of this bitmap to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << LOW_BITS, action);
+        }
+    }
+
+    /**
+     * Returns the values of this bitmap in ascending order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality];
+        int[] count = new int[1];
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the index of the group with the high bits {@code key}, or {@code -(insertion point) - 1} if there is
+     * none.
+     */
+    private int indexOfKey(int key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    /**
+     * Adds the group of {@code container}, whose key is above every key held, unless it is empty.
+     */
+    private void append(int key, Container container) {
+        if (container.getCardinality() > 0) {
+            insert(size, key, container);
+            cardinality += container.getCardinality();
+        }
+    }
+
+    private void insert(int index, int key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void delete(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        containers[--size] = null;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CompressedBitmap // instanceof handles nulls
+                && cardinality == ((CompressedBitmap) other).cardinality
+                && Arrays.equals(toArray(), ((CompressedBitmap) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
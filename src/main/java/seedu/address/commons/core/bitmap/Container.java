@@ -0,0 +1,139 @@
+package seedu.address.commons.core.bitmap;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Holds the low 16 bits of the values of a {@code CompressedBitmap} that share the same high 16 bits.
+ * A container is a sorted array when it holds few values, a bitmap of all 65536 values when it holds many, and a list
+ * of runs of consecutive values when that is smaller than both.
+ * Changing a container may return a container of another kind, which then replaces it.
+ */
+abstract class Container {
+
+    /** Number of values in a container. */
+    static final int CAPACITY = 1 << 16;
+
+    /** Most values an array container holds, as a bitmap container is smaller beyond that. */
+    static final int MAX_ARRAY_SIZE = 4096;
+
+    /** Size of a bitmap container, in bytes. */
+    static final int BITMAP_SIZE_IN_BYTES = CAPACITY / Byte.SIZE;
+
+    /**
+     * Returns the number of values in this container.
+     */
+    abstract int getCardinality();
+
+    /**
+     * Returns the number of runs of consecutive values in this container.
+     */
+    abstract int getRunCount();
+
+    /**
+     * Returns true if this container holds {@code value}.
+     */
+    abstract boolean contains(int value);
+
+    /**
+     * Adds {@code value} to this container, and returns the container now holding the values.
+     */
+    abstract Container add(int value);
+
+    /**
+     * Removes {@code value} from this container, and returns the container now holding the values.
+     */
+    abstract Container remove(int value);
+
+    /**
+     * Returns a container with the same values, which does not change with this one.
+     */
+    abstract Container copy();
+
+    /**
+     * Passes each value of this container, combined with the high bits {@code high}, to {@code action} in ascending
+     * order.
+     */
+    abstract void forEach(int high, IntConsumer action);
+
+    /**
+     * Adds the values of this container to {@code bitmap}.
+     */
+    abstract void orInto(BitmapContainer bitmap);
+
+    /**
+     * Removes the values of this container from {@code bitmap}.
+     */
+    abstract void andNotInto(BitmapContainer bitmap);
+
+    /**
+     * Returns a new bitmap container with the values of this container.
+     */
+    BitmapContainer toBitmapContainer() {
+        BitmapContainer bitmap = new BitmapContainer();
+        orInto(bitmap);
+        return bitmap;
+    }
+
+    /**
+     * Returns a new container with the values in both this container and {@code other}.
+     */
+    Container and(Container other) {
+        if (this instanceof ArrayContainer) {
+            return ((ArrayContainer) this).filter(other, true);
+        }
+        if (other instanceof ArrayContainer) {
+            return ((ArrayContainer) other).filter(this, true);
+        }
+        if (this instanceof RunContainer && other instanceof RunContainer) {
+            return ((RunContainer) this).intersect((RunContainer) other).optimize();
+        }
+        BitmapContainer bitmap = toBitmapContainer();
+        bitmap.andWith(other instanceof BitmapContainer ? (BitmapContainer) other : other.toBitmapContainer());
+        return bitmap.optimize();
+    }
+
+    /**
+     * Returns a new container with the values in this container, {@code other} or both.
+     */
+    Container or(Container other) {
+        if (this instanceof ArrayContainer && other instanceof ArrayContainer
+                && getCardinality() + other.getCardinality() <= MAX_ARRAY_SIZE) {
+            return ((ArrayContainer) this).merge((ArrayContainer) other);
+        }
+        if (this instanceof RunContainer && other instanceof RunContainer) {
+            return ((RunContainer) this).union((RunContainer) other).optimize();
+        }
+        BitmapContainer bitmap = toBitmapContainer();
+        other.orInto(bitmap);
+        return bitmap.optimize();
+    }
+
+    /**
+     * Returns a new container with the values in this container that are not in {@code other}.
+     */
+    Container andNot(Container other) {
+        if (this instanceof ArrayContainer) {
+            return ((ArrayContainer) this).filter(other, false);
+        }
+        BitmapContainer bitmap = toBitmapContainer();
+        other.andNotInto(bitmap);
+        return bitmap.optimize();
+    }
+
+    /**
+     * Returns the smallest kind of container for the values of this container, which is this container if it is
+     * already of that kind.
+     */
+    Container optimize() {
+        int cardinality = getCardinality();
+        int arraySize = cardinality * Character.BYTES;
+        int runSize = getRunCount() * RunContainer.BYTES_PER_RUN;
+        if (runSize < Math.min(arraySize, BITMAP_SIZE_IN_BYTES)) {
+            return this instanceof RunContainer ? this : RunContainer.of(this);
+        }
+        if (cardinality <= MAX_ARRAY_SIZE) {
+            return this instanceof ArrayContainer ? this : ArrayContainer.of(this);
+        }
+        return this instanceof BitmapContainer ? this : toBitmapContainer();
+    }
+}
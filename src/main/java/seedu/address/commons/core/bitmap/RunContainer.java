@@ -0,0 +1,246 @@
+package seedu.address.commons.core.bitmap;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * A container holding its values as sorted runs of consecutive values, for when they are mostly in long runs, such as
+ * the ids of employees added one after another.
+ */
+final class RunContainer extends Container {
+
+    /** Size of a run, in bytes. */
+    static final int BYTES_PER_RUN = 2 * Integer.BYTES;
+
+    // Most runs before a bitmap container is smaller
+    private static final int MAX_RUN_COUNT = BITMAP_SIZE_IN_BYTES / BYTES_PER_RUN;
+
+    // The first and last values of each run, inclusive. Runs are sorted, and neither overlap nor touch.
+    private int[] starts;
+    private int[] ends;
+    private int runCount;
+
+    /**
+     * Creates an empty run container.
+     */
+    RunContainer() {
+        this(new int[1], new int[1], 0);
+    }
+
+    private RunContainer(int[] starts, int[] ends, int runCount) {
+        this.starts = starts;
+        this.ends = ends;
+        this.runCount = runCount;
+    }
+
+    /**
+     * Returns a new run container with the values from {@code start} to {@code end}, inclusive.
+     */
+    static RunContainer ofRange(int start, int end) {
+        return new RunContainer(new int[] {start}, new int[] {end}, 1);
+    }
+
+    /**
+     * Returns a new run container with the values of {@code container}.
+     */
+    static RunContainer of(Container container) {
+        RunContainer runs = new RunContainer(new int[Math.max(container.getRunCount(), 1)],
+                new int[Math.max(container.getRunCount(), 1)], 0);
+        container.forEach(0, runs::append);
+        return runs;
+    }
+
+    /**
+     * Adds {@code value}, which is not below any value held, to the last run or as a new run.
+     */
+    private void append(int value) {
+        appendRun(value, value);
+    }
+
+    /**
+     * Adds the values from {@code start} to {@code end}, inclusive, where {@code start} is not below any value held
+     * but the last one, either to the last run or as a new run.
+     */
+    private void appendRun(int start, int end) {
+        if (runCount > 0 && start <= ends[runCount - 1] + 1) {
+            ends[runCount - 1] = Math.max(ends[runCount - 1], end);
+            return;
+        }
+        ensureCapacity(runCount + 1);
+        starts[runCount] = start;
+        ends[runCount] = end;
+        runCount++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > starts.length) {
+            int newLength = Math.max(capacity, starts.length * 2);
+            starts = Arrays.copyOf(starts, newLength);
+            ends = Arrays.copyOf(ends, newLength);
+        }
+    }
+
+    /**
+     * Returns the index of the last run starting at or before {@code value}, or -1 if there is none.
+     */
+    private int findRun(int value) {
+        int low = 0;
+        int high = runCount - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (starts[middle] <= value) {
+                low = middle + 1;
+            } else {
+                high = middle - 1;
+            }
+        }
+        return high;
+    }
+
+    @Override
+    int getCardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < runCount; i++) {
+            cardinality += ends[i] - starts[i] + 1;
+        }
+        return cardinality;
+    }
+
+    @Override
+    int getRunCount() {
+        return runCount;
+    }
+
+    @Override
+    boolean contains(int value) {
+        int index = findRun(value);
+        return index >= 0 && value <= ends[index];
+    }
+
+    @Override
+    Container add(int value) {
+        int index = findRun(value);
+        if (index >= 0 && value <= ends[index]) {
+            return this;
+        }
+        boolean isExtendingPrevious = index >= 0 && ends[index] + 1 == value;
+        boolean isExtendingNext = index + 1 < runCount && starts[index + 1] - 1 == value;
+        if (isExtendingPrevious && isExtendingNext) {
+            ends[index] = ends[index + 1];
+            deleteRun(index + 1);
+        } else if (isExtendingPrevious) {
+            ends[index] = value;
+        } else if (isExtendingNext) {
+            starts[index + 1] = value;
+        } else {
+            insertRun(index + 1, value, value);
+        }
+        return runCount > MAX_RUN_COUNT ? optimize() : this;
+    }
+
+    @Override
+    Container remove(int value) {
+        int index = findRun(value);
+        if (index < 0 || value > ends[index]) {
+            return this;
+        }
+        if (starts[index] == ends[index]) {
+            deleteRun(index);
+        } else if (value == starts[index]) {
+            starts[index]++;
+        } else if (value == ends[index]) {
+            ends[index]--;
+        } else {
+            insertRun(index + 1, value + 1, ends[index]);
+            ends[index] = value - 1;
+        }
+        return runCount > MAX_RUN_COUNT ? optimize() : this;
+    }
+
+    private void insertRun(int index, int start, int end) {
+        ensureCapacity(runCount + 1);
+        System.arraycopy(starts, index, starts, index + 1, runCount - index);
+        System.arraycopy(ends, index, ends, index + 1, runCount - index);
+        starts[index] = start;
+        ends[index] = end;
+        runCount++;
+    }
+
+    private void deleteRun(int index) {
+        System.arraycopy(starts, index + 1, starts, index, runCount - index - 1);
+        System.arraycopy(ends, index + 1, ends, index, runCount - index - 1);
+        runCount--;
+    }
+
+    @Override
+    Container copy() {
+        return new RunContainer(Arrays.copyOf(starts, Math.max(runCount, 1)),
+                Arrays.copyOf(ends, Math.max(runCount, 1)), runCount);
+    }
+
+    @Override
+    void forEach(int high, IntConsumer action) {
+        for (int i = 0; i < runCount; i++) {
+            for (int value = starts[i]; value <= ends[i]; value++) {
+                action.accept(high | value);
+            }
+        }
+    }
+
+    @Override
+    void orInto(BitmapContainer bitmap) {
+        for (int i = 0; i < runCount; i++) {
+            bitmap.addRange(starts[i], ends[i]);
+        }
+    }
+
+    @Override
+    void andNotInto(BitmapContainer bitmap) {
+        for (int i = 0; i < runCount; i++) {
+            bitmap.clearRange(starts[i], ends[i]);
+        }
+    }
+
+    /**
+     * Returns a new run container with the values in both this container and {@code other}, found by walking their
+     * runs together.
+     */
+    RunContainer intersect(RunContainer other) {
+        RunContainer intersection = new RunContainer();
+        int i = 0;
+        int j = 0;
+        while (i < runCount && j < other.runCount) {
+            int start = Math.max(starts[i], other.starts[j]);
+            int end = Math.min(ends[i], other.ends[j]);
+            if (start <= end) {
+                intersection.appendRun(start, end);
+            }
+            if (ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * Returns a new run container with the values in this container, {@code other} or both, found by walking their
+     * runs together.
+     */
+    RunContainer union(RunContainer other) {
+        RunContainer union = new RunContainer();
+        int i = 0;
+        int j = 0;
+        while (i < runCount || j < other.runCount) {
+            if (j == other.runCount || i < runCount && starts[i] <= other.starts[j]) {
+                union.appendRun(starts[i], ends[i]);
+                i++;
+            } else {
+                union.appendRun(other.starts[j], other.ends[j]);
+                j++;
+            }
+        }
+        return union;
+    }
+}
@@ -3,8 +3,12 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -32,4 +36,28 @@ public class CollectionUtil {
     public static boolean isAnyNonNull(Object... items) {
         return items != null && Arrays.stream(items).anyMatch(Objects::nonNull);
     }
+
+    /**
+     * Returns the positions of the elements of {@code items} that pass {@code predicate}.
+     * The elements are tested on the common fork-join pool, in blocks of 64 that each fill one word of the result,
+     * so {@code predicate} must be safe to test from several threads at once, and {@code items} must not change
+     * until this returns.
+     */
+    public static <T> BitSet testInParallel(List<? extends T> items, Predicate<? super T> predicate) {
+        requireAllNonNull(items, predicate);
+        int size = items.size();
+        long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        IntStream.range(0, words.length).parallel().forEach(wordIndex -> {
+            int start = wordIndex * Long.SIZE;
+            int end = Math.min(start + Long.SIZE, size);
+            long word = 0;
+            for (int i = start; i < end; i++) {
+                if (predicate.test(items.get(i))) {
+                    word |= 1L << (i - start);
+                }
+            }
+            words[wordIndex] = word;
+        });
+        return BitSet.valueOf(words);
+    }
 }
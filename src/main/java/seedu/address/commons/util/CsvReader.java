@@ -0,0 +1,172 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV data one record at a time, as described in RFC 4180.
+ * Fields can be enclosed in double quotes, so that they contain commas, line breaks and doubled double quotes.
+ * Characters are read from the underlying reader in blocks into a reused buffer, so that reader does not need to be
+ * buffered, and the strings of the fields are the only objects created for each record.
+ */
+public class CsvReader implements Closeable {
+
+    public static final String MESSAGE_UNTERMINATED_QUOTE = "A quoted field is not closed before the end of the data.";
+
+    private static final int BUFFER_SIZE = 1 << 13;
+    private static final int END_OF_DATA = -1;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+
+    // Reused for every record
+    private final StringBuilder field = new StringBuilder();
+    private final List<String> fields = new ArrayList<>();
+
+    /**
+     * Creates a {@code CsvReader} that reads the CSV data in {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the fields of the first record, which names the columns, or null if there are no records.
+     * A byte order mark at the start of the data, as written by some spreadsheet applications, is dropped.
+     * @throws IOException if the data cannot be read, or a quoted field is not closed.
+     */
+    public String[] readHeader() throws IOException {
+        String[] header = readRecord();
+        if (header != null && !header[0].isEmpty() && header[0].charAt(0) == BYTE_ORDER_MARK) {
+            header[0] = header[0].substring(1);
+        }
+        return header;
+    }
+
+    /**
+     * Returns the index of the last column of {@code header} titled {@code title}, ignoring case, or -1 if there is
+     * none.
+     */
+    public static int indexOfColumn(String[] header, String title) {
+        for (int column = header.length - 1; column >= 0; column--) {
+            if (header[column].equalsIgnoreCase(title)) {
+                return column;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     * @throws IOException if the data cannot be read, or a quoted field is not closed.
+     */
+    public String[] readRecord() throws IOException {
+        if (peek() == END_OF_DATA) {
+            return null;
+        }
+
+        fields.clear();
+        int end;
+        do {
+            field.setLength(0);
+            if (peek() == QUOTE) {
+                position++;
+                end = readQuotedField();
+            } else {
+                end = readUnquotedField();
+            }
+            fields.add(field.toString());
+        } while (end == SEPARATOR);
+
+        if (end == '\r' && peek() == '\n') {
+            position++;
+        }
+        return fields.toArray(new String[0]);
+    }
+
+    /**
+     * Appends the characters up to the end of the field to {@code field}.
+     * Returns the character that ends the field, which is consumed, or {@code END_OF_DATA}.
+     */
+    private int readUnquotedField() throws IOException {
+        while (position < limit || fill()) {
+            int start = position;
+            while (position < limit) {
+                char c = buffer[position];
+                if (c == SEPARATOR || c == '\n' || c == '\r') {
+                    field.append(buffer, start, position - start);
+                    position++;
+                    return c;
+                }
+                position++;
+            }
+            field.append(buffer, start, position - start);
+        }
+        return END_OF_DATA;
+    }
+
+    /**
+     * Appends the characters up to the closing quote to {@code field}, after the opening quote has been consumed.
+     * Any characters between the closing quote and the end of the field are appended as they are.
+     * Returns the character that ends the field, which is consumed, or {@code END_OF_DATA}.
+     */
+    private int readQuotedField() throws IOException {
+        while (position < limit || fill()) {
+            int start = position;
+            while (position < limit && buffer[position] != QUOTE) {
+                position++;
+            }
+            field.append(buffer, start, position - start);
+            if (position == limit) {
+                continue;
+            }
+
+            position++;
+            int next = peek();
+            if (next == QUOTE) {
+                field.append(QUOTE);
+                position++;
+            } else {
+                return readUnquotedField();
+            }
+        }
+        throw new IOException(MESSAGE_UNTERMINATED_QUOTE);
+    }
+
+    /**
+     * Returns the next character without consuming it, or {@code END_OF_DATA}.
+     */
+    private int peek() throws IOException {
+        return position < limit || fill() ? buffer[position] : END_OF_DATA;
+    }
+
+    /**
+     * Reads the next block of characters into the buffer. Returns false if there are no more characters.
+     */
+    private boolean fill() throws IOException {
+        int count;
+        do {
+            count = reader.read(buffer, 0, BUFFER_SIZE);
+        } while (count == 0);
+        position = 0;
+        limit = Math.max(count, 0);
+        return count > 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Writes CSV data one record at a time, as described in RFC 4180, in the layout read by {@link CsvReader}.
+ * Fields that contain commas, double quotes or line breaks are enclosed in double quotes.
+ * Fields are written straight to the underlying writer, which should be buffered.
+ */
+public class CsvWriter implements Closeable, Flushable {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_BREAK = "\r\n";
+
+    private final Writer writer;
+
+    /**
+     * Creates a {@code CsvWriter} that writes CSV data to {@code writer}.
+     */
+    public CsvWriter(Writer writer) {
+        requireNonNull(writer);
+        this.writer = writer;
+    }
+
+    /**
+     * Writes {@code fields} as one record. A null field is written as an empty field.
+     */
+    public void writeRecord(String... fields) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(fields[i] == null ? "" : fields[i]);
+        }
+        writer.write(LINE_BREAK);
+    }
+
+    private void writeField(String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write(QUOTE);
+        int start = 0;
+        for (int i = 0; i < field.length(); i++) {
+            if (field.charAt(i) == QUOTE) {
+                // Writes up to and including the quote, so that it is written twice
+                writer.write(field, start, i + 1 - start);
+                start = i;
+            }
+        }
+        writer.write(field, start, field.length() - start);
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+}
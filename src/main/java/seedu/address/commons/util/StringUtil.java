@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,25 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the distinct words of {@code text}, split at whitespace and lowercased, as an unmodifiable set.
+     *   <br>examples:<pre>
+     *       toLowerCaseWords(" ABc def abc ") == {"abc", "def"}
+     *       toLowerCaseWords("") == {}
+     *       </pre>
+     * @param text cannot be null
+     */
+    public static Set<String> toLowerCaseWords(String text) {
+        requireNonNull(text);
+        Set<String> words = new HashSet<>();
+        for (String word : text.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word.toLowerCase());
+            }
+        }
+        return Set.copyOf(words);
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -148,4 +170,19 @@ public class StringUtil {
 
         return isValidDouble && hasDpWithinLimit;
     }
+
+    /**
+     * Returns true if {@code value} is a finite number with less than or
+     * equals to {@code maxDecimalPlaces} decimal places (dp), when written as in {@link Double#toString(double)}
+     * e.g. -1.0, 2, 6.69 for {@code maxDecimalPlaces} = 2 <br>
+     * Will return false for e.g. 6.699 for {@code maxDecimalPlaces} = 2, or {@code Double.NaN}
+     */
+    public static boolean hasDpWithinLimit(double value, int maxDecimalPlaces) {
+        assert maxDecimalPlaces >= 0;
+
+        if (!Double.isFinite(value)) {
+            return false;
+        }
+        return BigDecimal.valueOf(value).stripTrailingZeros().scale() <= maxDecimalPlaces;
+    }
 }
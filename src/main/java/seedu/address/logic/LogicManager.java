@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -29,6 +30,9 @@ public class LogicManager implements Logic {
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    // Whether the address book has changed since it was last handed to the storage
+    private boolean isAddressBookModified = false;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -36,6 +40,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change ->
+                isAddressBookModified = true);
     }
 
     @Override
@@ -46,8 +52,14 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        // Commands that only read the address book, such as find and list, do not need to rewrite the data file
+        if (!isAddressBookModified) {
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
+            isAddressBookModified = false;
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
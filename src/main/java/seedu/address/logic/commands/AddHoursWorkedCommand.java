@@ -113,7 +113,8 @@ public class AddHoursWorkedCommand extends Command {
                     overtimeCapacityString.equals("1") ? "overtime hour worked" : "overtime hours worked"));
         }
 
-        return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+        return new Person(personToEdit.getEmployeeId(),
+                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
                 personToEdit.getAddress(), personToEdit.getRole(), personToEdit.getLeaveBalance(),
                 personToEdit.getLeavesTaken(), personToEdit.getSalary(), newHoursWorked, newOvertime,
                 personToEdit.getCalculatedPay(), personToEdit.getTags());
@@ -85,7 +85,8 @@ public class AddLeaveBalanceCommand extends Command {
                             leaveCapacityString.equals("1") ? "leave" : "leaves"));
         }
 
-        return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+        return new Person(personToEdit.getEmployeeId(),
+                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
                 personToEdit.getAddress(), personToEdit.getRole(), newLeaveBalance,
                 personToEdit.getLeavesTaken(), personToEdit.getSalary(), personToEdit.getHoursWorked(),
                 personToEdit.getOvertime(), personToEdit.getCalculatedPay(), personToEdit.getTags());
@@ -1,36 +1,73 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.CsvReader;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.LeaveBalance;
 import seedu.address.model.person.LeavesTaken;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContactIndex;
 
 /**
- * Assigns a leave with a date to an employee in HeRon.
+ * Assigns leaves with dates to an employee, to every employee in the displayed list, or to every employee in
+ * a CSV roster in HeRon.
+ * All employees are checked before any of them is changed, and the changes are made in one go.
  */
 public class AssignLeaveCommand extends Command {
 
     public static final String COMMAND_WORD = "assignLeave";
+
+    public static final String KEYWORD_ALL = "all";
+    public static final String FLAG_ROSTER = "--roster";
+    public static final String COLUMN_EMPLOYEE = ImportHoursCommand.COLUMN_EMPLOYEE;
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Allocates a leave with a date to the employee identified "
-            + "by the index number used in the last employee listing. \n"
-            + "Parameters: INDEX (must be a positive integer) "
-            + PREFIX_DATE + "DATE (of the format YYYY-MM-DD) \n"
-            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_DATE + "2021-10-30";
+            + ": Allocates leaves with dates to the employee identified "
+            + "by the index number used in the last employee listing, to all employees in the listing, "
+            + "or to all employees in a CSV roster. \n"
+            + "Parameters: INDEX (must be a positive integer) OR " + KEYWORD_ALL + " OR " + FLAG_ROSTER + " FILEPATH "
+            + PREFIX_DATE + "DATE (of the format YYYY-MM-DD, or YYYY-MM-DD:YYYY-MM-DD for a range) "
+            + "[" + PREFIX_DATE + "DATE]...\n"
+            + "The roster needs a header row with an '" + COLUMN_EMPLOYEE + "' column "
+            + "of the email or contact number of each employee. \n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_DATE + "2021-10-30\n"
+            + "Example: " + COMMAND_WORD + " " + KEYWORD_ALL + " " + PREFIX_DATE + "2021-12-24:2021-12-31";
     public static final String MESSAGE_SUCCESS =
             "Leave with date %1$s successfully assigned to employee: %2$s";
+    public static final String MESSAGE_BULK_SUCCESS =
+            "%1$d leave(s) from %2$s to %3$s successfully assigned to %4$d employee(s)";
+    public static final String MESSAGE_ROSTER_FAILURE = "Error occurred while reading the roster.\n";
+    public static final String MESSAGE_ROSTER_MISSING_FILE = MESSAGE_ROSTER_FAILURE
+            + "Please check the filepath and try again.";
+    public static final String MESSAGE_ROSTER_FORMAT_ERROR = MESSAGE_ROSTER_FAILURE
+            + "Please check that the header row has an '" + COLUMN_EMPLOYEE + "' column, "
+            + "and there is at least one entry.";
+    public static final String MESSAGE_ROSTER_ERROR_REPORT = MESSAGE_ROSTER_FAILURE
+            + "%1$d error(s) found, so no leaves were assigned:\n%2$s";
 
     private final Index index;
-    private final LocalDate date;
+    private final String rosterFilepath;
+    private final List<LocalDate> dates;
 
     /**
      * Creates an AssignLeaveCommand instance.
@@ -39,29 +76,160 @@ public class AssignLeaveCommand extends Command {
      * @param date that corresponds to the leave being allocated to the employee
      */
     public AssignLeaveCommand(Index index, LocalDate date) {
-        requireAllNonNull(index, date);
+        this(index, List.of(date));
+    }
+
+    /**
+     * Creates an AssignLeaveCommand instance that assigns several leaves to one employee.
+     *
+     * @param index of the person in the filtered employee list to assign the leaves to
+     * @param dates that correspond to the leaves being allocated to the employee
+     */
+    public AssignLeaveCommand(Index index, List<LocalDate> dates) {
+        this(requireNonNull(index), null, dates);
+    }
+
+    /**
+     * Creates an AssignLeaveCommand instance that assigns leaves to every employee in the filtered employee list.
+     *
+     * @param dates that correspond to the leaves being allocated to each employee
+     */
+    public AssignLeaveCommand(List<LocalDate> dates) {
+        this(null, null, dates);
+    }
+
+    /**
+     * Creates an AssignLeaveCommand instance that assigns leaves to every employee in a CSV roster.
+     *
+     * @param rosterFilepath The string representation of the filepath of the roster.
+     * @param dates that correspond to the leaves being allocated to each employee
+     */
+    public AssignLeaveCommand(String rosterFilepath, List<LocalDate> dates) {
+        this(null, requireNonNull(rosterFilepath), dates);
+    }
+
+    private AssignLeaveCommand(Index index, String rosterFilepath, List<LocalDate> dates) {
+        requireAllNonNull(dates);
+        assert !dates.isEmpty();
 
         this.index = index;
-        this.date = date;
+        this.rosterFilepath = rosterFilepath;
+        // Sorted and without repeats, so each employee is checked and copied once for all dates
+        this.dates = Collections.unmodifiableList(new ArrayList<>(new TreeSet<>(dates)));
     }
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Person> personsToEdit = getPersonsToEdit(model);
+
+        // Check every employee before changing any of them, and report all of their problems together
+        List<Person> editedPersons = new ArrayList<>();
+        StringBuilder errors = new StringBuilder();
+        for (Person personToEdit : personsToEdit) {
+            try {
+                editedPersons.add(getUpdatedPerson(personToEdit));
+            } catch (CommandException ce) {
+                errors.append(ce.getMessage());
+            }
+        }
+        if (errors.length() > 0) {
+            throw new CommandException(errors.toString());
+        }
+
+        model.setPersons(personsToEdit, editedPersons);
+        model.setViewingPerson(editedPersons.get(0));
+
+        if (dates.size() == 1 && editedPersons.size() == 1) {
+            return new CommandResult(String.format(MESSAGE_SUCCESS,
+                    dates.get(0).toString(),
+                    editedPersons.get(0).getName().toString()));
+        }
+        return new CommandResult(String.format(MESSAGE_BULK_SUCCESS, dates.size(), dates.get(0),
+                dates.get(dates.size() - 1), editedPersons.size()));
+    }
+
+    /**
+     * Returns the employees that the leaves are assigned to, without repeats.
+     *
+     * @throws CommandException if the index is invalid, the filtered list is empty, or the roster is invalid
+     */
+    private List<Person> getPersonsToEdit(Model model) throws CommandException {
         List<Person> lastShownList = model.getFilteredPersonList();
 
-        if (index.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        if (index != null) {
+            if (index.getZeroBased() >= lastShownList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+            }
+            return List.of(lastShownList.get(index.getZeroBased()));
         }
 
-        Person personToEdit = lastShownList.get(index.getZeroBased());
-        Person editedPerson = getUpdatedPerson(personToEdit);
+        if (rosterFilepath != null) {
+            return readRoster(model.getAddressBook().getPersonList());
+        }
 
-        model.setPerson(personToEdit, editedPerson);
-        model.setViewingPerson(editedPerson);
+        if (lastShownList.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_EMPTY_FILTERED_LIST);
+        }
+        return new ArrayList<>(lastShownList);
+    }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS,
-                date.toString(),
-                editedPerson.getName().toString()));
+    /**
+     * Reads the employees named in the roster, by email or contact number, in the order they first appear.
+     *
+     * @throws CommandException if the roster cannot be read, or any of its rows does not name an employee
+     */
+    private List<Person> readRoster(List<Person> persons) throws CommandException {
+        PersonContactIndex contactIndex = new PersonContactIndex(persons);
+        Map<EmployeeId, Person> rosteredPersons = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        int rowCount = 0;
+
+        try (CsvReader csvReader = new CsvReader(getRosterReader())) {
+            String[] header = csvReader.readHeader();
+            int employeeColumn = header == null ? -1 : CsvReader.indexOfColumn(header, COLUMN_EMPLOYEE);
+            if (employeeColumn < 0) {
+                throw new CommandException(MESSAGE_ROSTER_FORMAT_ERROR);
+            }
+
+            String[] row;
+            while ((row = csvReader.readRecord()) != null) {
+                if (row.length == 1 && row[0].isBlank()) {
+                    continue;
+                }
+                rowCount++;
+                String contact = row.length == header.length ? row[employeeColumn].trim() : null;
+                Optional<Person> person = contact == null ? Optional.empty() : contactIndex.findByContact(contact);
+                if (person.isPresent()) {
+                    rosteredPersons.putIfAbsent(person.get().getEmployeeId(), person.get());
+                } else if (contact == null) {
+                    errors.add(String.format(ImportCommand.MESSAGE_ROW_ERROR, rowCount,
+                            ImportCommand.MESSAGE_ROW_COLUMNS_MISMATCH));
+                } else {
+                    errors.add(String.format(ImportCommand.MESSAGE_ROW_ERROR, rowCount,
+                            String.format(ImportHoursCommand.MESSAGE_ROW_UNKNOWN_EMPLOYEE, contact)));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_ROSTER_FORMAT_ERROR);
+        }
+
+        if (rowCount == 0) {
+            throw new CommandException(MESSAGE_ROSTER_FORMAT_ERROR);
+        }
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ROSTER_ERROR_REPORT, errors.size(),
+                    String.join("\n", errors)));
+        }
+        return new ArrayList<>(rosteredPersons.values());
+    }
+
+    private FileReader getRosterReader() throws CommandException {
+        try {
+            return new FileReader(rosterFilepath);
+        } catch (FileNotFoundException e) {
+            throw new CommandException(MESSAGE_ROSTER_MISSING_FILE);
+        }
     }
 
     /**
@@ -71,35 +239,47 @@ public class AssignLeaveCommand extends Command {
      * @param personToEdit The person object that is to be edited.
      * @return An updated Person object.
      * @throws CommandException if the employee does not have enough leaves
-     * or a leave with the given date is already assigned to the employee
+     * or a leave with any of the given dates is already assigned to the employee
      */
     private Person getUpdatedPerson(Person personToEdit) throws CommandException {
         LeaveBalance newLeaveBalance;
-        // Check that the employee has at least 1 leave
+        // Check that the employee has a leave for every date
         try {
-            newLeaveBalance = personToEdit.getLeaveBalance().removeLeaves(new LeaveBalance("1"));
+            newLeaveBalance = personToEdit.getLeaveBalance().removeLeaves(new LeaveBalance(dates.size()));
         } catch (IllegalArgumentException iae) {
-            throw new CommandException(
-                    String.format(Messages.MESSAGE_INSUFFICIENT_LEAVES,
-                            personToEdit.getName().toString()));
+            if (personToEdit.getLeaveBalance().value == 0) {
+                throw new CommandException(String.format(Messages.MESSAGE_INSUFFICIENT_LEAVES,
+                        personToEdit.getName().toString()));
+            }
+            throw new CommandException(String.format(Messages.MESSAGE_NOT_ENOUGH_LEAVES,
+                    personToEdit.getName().toString(), personToEdit.getLeaveBalance().value, dates.size()));
         }
-        // Check that the input date is not a duplicate
-        LeavesTaken newLeavesTaken;
-        try {
-            newLeavesTaken = personToEdit.getLeavesTaken().addDate(date);
-        } catch (IllegalArgumentException iae) {
-            throw new CommandException(
-                    String.format(Messages.MESSAGE_DATE_ALREADY_ASSIGNED,
-                            personToEdit.getName().toString(), date));
+        // Check that none of the input dates are duplicates
+        List<LocalDate> takenDates = personToEdit.getLeavesTaken().getTakenDates(dates);
+        if (!takenDates.isEmpty()) {
+            throw new CommandException(String.format(Messages.MESSAGE_DATE_ALREADY_ASSIGNED,
+                    personToEdit.getName().toString(), joinDates(takenDates)));
         }
+        LeavesTaken newLeavesTaken = personToEdit.getLeavesTaken().addDates(dates);
 
-        return new Person(
+        return new Person(personToEdit.getEmployeeId(),
                 personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(), personToEdit.getAddress(),
                 personToEdit.getRole(), newLeaveBalance, newLeavesTaken, personToEdit.getSalary(),
                 personToEdit.getHoursWorked(), personToEdit.getOvertime(),
                 personToEdit.getCalculatedPay(), personToEdit.getTags());
     }
 
+    private static String joinDates(List<LocalDate> dates) {
+        StringBuilder datesString = new StringBuilder();
+        for (LocalDate date : dates) {
+            if (datesString.length() > 0) {
+                datesString.append(", ");
+            }
+            datesString.append(date);
+        }
+        return datesString.toString();
+    }
+
     @Override
     public boolean equals(Object other) {
         // Short circuit if same object
@@ -114,7 +294,8 @@ public class AssignLeaveCommand extends Command {
 
         // State check
         AssignLeaveCommand e = (AssignLeaveCommand) other;
-        return index.equals(e.index)
-                && date.equals(e.date);
+        return Objects.equals(index, e.index)
+                && Objects.equals(rosterFilepath, e.rosterFilepath)
+                && dates.equals(e.dates);
     }
 }
@@ -3,6 +3,8 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Represents the result of a command execution.
@@ -17,6 +19,9 @@ public class CommandResult {
     /** The application should exit. */
     private final boolean exit;
 
+    /** Feedback to be shown to the user once work left running in the background is done, if there is any. */
+    private final CompletionStage<String> backgroundFeedback;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -24,6 +29,18 @@ public class CommandResult {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
+        this.backgroundFeedback = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} with the specified {@code feedbackToUser}, and the feedback to be shown
+     * once the work the command left running in the background is done.
+     */
+    public CommandResult(String feedbackToUser, CompletionStage<String> backgroundFeedback) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.backgroundFeedback = requireNonNull(backgroundFeedback);
     }
 
     /**
@@ -46,6 +63,10 @@ public class CommandResult {
         return exit;
     }
 
+    public Optional<CompletionStage<String>> getBackgroundFeedback() {
+        return Optional.ofNullable(backgroundFeedback);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -60,12 +81,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && Objects.equals(backgroundFeedback, otherCommandResult.backgroundFeedback);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, backgroundFeedback);
     }
 
 }
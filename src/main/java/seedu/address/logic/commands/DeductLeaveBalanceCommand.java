@@ -87,7 +87,8 @@ public class DeductLeaveBalanceCommand extends Command {
                             personLeaveBalanceString.equals("1") ? "leave" : "leaves"));
         }
 
-        return new Person(personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
+        return new Person(personToEdit.getEmployeeId(),
+                personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(),
                 personToEdit.getAddress(), personToEdit.getRole(), newLeaveBalance,
                 personToEdit.getLeavesTaken(), personToEdit.getSalary(), personToEdit.getHoursWorked(),
                 personToEdit.getOvertime(), personToEdit.getCalculatedPay(), personToEdit.getTags());
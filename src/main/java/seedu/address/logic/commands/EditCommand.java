@@ -150,9 +150,9 @@ public class EditCommand extends Command {
                 editPersonDescriptor.getCalculatedPay().orElse(personToEdit.getCalculatedPay());
         Set<Tag> updatedTags = editPersonDescriptor.getTags().orElse(personToEdit.getTags());
 
-        return new Person(updatedName, updatedPhone, updatedEmail, updatedAddress, updatedRole,
-                updatedLeaveBalance, updatedLeavesTaken, updatedHourlySalary, updatedHours, updatedOvertime,
-                updatedCalculatedPay, updatedTags);
+        return new Person(personToEdit.getEmployeeId(), updatedName, updatedPhone, updatedEmail, updatedAddress,
+                updatedRole, updatedLeaveBalance, updatedLeavesTaken, updatedHourlySalary, updatedHours,
+                updatedOvertime, updatedCalculatedPay, updatedTags);
     }
 
     @Override
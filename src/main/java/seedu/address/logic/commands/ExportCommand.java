@@ -0,0 +1,166 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.storage.PersonExporter;
+
+/**
+ * Exports the employees in the displayed list, or all employees, to a file.
+ * The file is written on a background thread, so a large export does not hold up the user interface. Whether it was
+ * written is reported to the user once it is done.
+ */
+public class ExportCommand extends Command {
+    public static final String COMMAND_WORD = "export";
+
+    public static final String FLAG_ALL = "--all";
+    public static final String FLAG_JSON_LINES = "--jsonl";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": exports the displayed employees into a file.\n"
+            + "Parameters: [" + FLAG_ALL + "] [" + FLAG_JSON_LINES + "] "
+            + "Absolute/Relative Path leading to the file to be written.\n"
+            + "With " + FLAG_ALL + ", all employees are exported instead of only the displayed ones.\n"
+            + "The file is written as CSV that can be imported again, or with " + FLAG_JSON_LINES
+            + ", as one JSON object per line.\n"
+            + "Example: " + COMMAND_WORD + " " + FLAG_ALL + " /Users/Owner/Desktop/employees.csv";
+
+    public static final String MESSAGE_EXPORT_STARTED = "Exporting %1$d employee(s) to %2$s...";
+    public static final String MESSAGE_EXPORT_SUCCESS = "Exported %1$d employee(s) to %2$s.";
+    public static final String MESSAGE_EXPORT_FAILURE = "Error occurred while exporting to the file.\n";
+    public static final String MESSAGE_INVALID_FILEPATH = MESSAGE_EXPORT_FAILURE
+            + "Please check the filepath and try again.";
+
+    private static final Logger logger = LogsCenter.getLogger(ExportCommand.class);
+
+    // A single thread, so that exports are written one after another in the order they were made
+    private static final Executor EXPORTER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "employee-exporter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final String filepathString;
+    private final boolean isAll;
+    private final boolean isJsonLines;
+    private final Executor executor;
+
+    /**
+     * Constructor for the ExportCommand
+     * @param filepath The string representation of the filepath of the file to be written.
+     * @param isAll Whether all employees are exported, instead of only the displayed ones.
+     * @param isJsonLines Whether the file is written as JSON lines, instead of CSV.
+     */
+    public ExportCommand(String filepath, boolean isAll, boolean isJsonLines) {
+        this(filepath, isAll, isJsonLines, EXPORTER);
+    }
+
+    /**
+     * Constructor for the ExportCommand that writes the file with {@code executor}.
+     */
+    ExportCommand(String filepath, boolean isAll, boolean isJsonLines, Executor executor) {
+        requireNonNull(filepath);
+        requireNonNull(executor);
+        this.filepathString = filepath;
+        this.isAll = isAll;
+        this.isJsonLines = isJsonLines;
+        this.executor = executor;
+    }
+
+    /**
+     * Opens the file straight away, so that an invalid filepath is reported to the user, and then writes
+     * a snapshot of the employees to it in the background.
+     * Once writing is done, the result holds feedback on whether the file was written. If writing fails for any
+     * reason, the incomplete file is deleted.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Persons are immutable, so a copy of the list can be read safely from another thread
+        List<Person> persons = new ArrayList<>(isAll
+                ? model.getAddressBook().getPersonList()
+                : model.getFilteredPersonList());
+        Path filePath = getFilePath();
+        FileChannel channel = openChannel(filePath);
+        CompletableFuture<String> exportFeedback = new CompletableFuture<>();
+        executor.execute(() -> exportFeedback.complete(export(persons, channel, filePath)));
+        return new CommandResult(String.format(MESSAGE_EXPORT_STARTED, persons.size(), filePath), exportFeedback);
+    }
+
+    private Path getFilePath() throws CommandException {
+        try {
+            return Paths.get(filepathString);
+        } catch (InvalidPathException e) {
+            throw new CommandException(MESSAGE_INVALID_FILEPATH);
+        }
+    }
+
+    private FileChannel openChannel(Path filePath) throws CommandException {
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            return FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.WRITE);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_EXPORT_FAILURE + e.getMessage());
+        }
+    }
+
+    /**
+     * Writes {@code persons} to {@code channel} and closes it. Any failure, including an unchecked exception or an
+     * error, is reported in the feedback, and the incomplete file is deleted.
+     *
+     * @return The feedback to the user on whether the file was written.
+     */
+    private String export(List<Person> persons, FileChannel channel, Path filePath) {
+        Throwable failure = null;
+        try (channel) {
+            if (isJsonLines) {
+                PersonExporter.writeJsonLines(persons, channel);
+            } else {
+                PersonExporter.writeCsv(persons, channel);
+            }
+        } catch (Throwable e) {
+            // Caught here, as an uncaught exception would leave the feedback of the export incomplete
+            logger.warning("Failed to export to " + filePath + ": " + e);
+            failure = e;
+        }
+
+        if (failure == null) {
+            logger.info("Exported " + persons.size() + " employee(s) to " + filePath);
+            return String.format(MESSAGE_EXPORT_SUCCESS, persons.size(), filePath);
+        }
+        try {
+            Files.deleteIfExists(filePath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete incomplete export " + filePath + ": " + e);
+        }
+        return MESSAGE_EXPORT_FAILURE + failure;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && filepathString.equals(((ExportCommand) other).filepathString)
+                && isAll == ((ExportCommand) other).isAll
+                && isJsonLines == ((ExportCommand) other).isJsonLines);
+    }
+}
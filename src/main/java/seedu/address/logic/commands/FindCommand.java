@@ -13,20 +13,27 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.QueryPlan;
 
 /**
- * Finds and lists all persons in HeRon that passes the given predicate.
+ * Finds and lists all persons in HeRon that passes all the given predicates.
  * Keyword matching is case insensitive.
+ * Conditions that can be looked up in the model's {@code PersonIndexes}, such as leave dates and comparisons of
+ * numbers, are answered from them, and the other conditions are only tested on the persons found, as planned by a
+ * {@code QueryPlan}.
  */
 public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
 
+    public static final String FLAG_EXPLAIN = "--explain";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all employees who meets "
             + "all the specified conditions and displays them as a list with index numbers.\n"
             + "Each condition is tagged with a prefix just like the add command.\n"
@@ -36,7 +43,12 @@ public class FindCommand extends Command {
             + "'>', '<', '>=', '<=' or '=' together with a number.\n"
             + "To search by date, you can specify a combination of individual dates (YYYY-MM-DD) "
             + "or date ranges. (YYYY-MM-DD:YYYY-MM-DD)\n"
+            + "Conditions can be combined with AND, OR, NOT and parentheses, "
+            + "for example (n/Alex OR r/CEO) AND NOT s/<10.\n"
+            + "Add " + FLAG_EXPLAIN + " to also show how the employees were found and the time each step took.\n"
             + "Parameters: "
+            + "[unpaid] "
+            + "[" + FLAG_EXPLAIN + "] "
             + "[" + PREFIX_NAME + "NAME] "
             + "[" + PREFIX_PHONE + "PHONE] "
             + "[" + PREFIX_EMAIL + "EMAIL] "
@@ -50,10 +62,30 @@ public class FindCommand extends Command {
             + "[" + PREFIX_TAG + "TAG]...\n"
             + "Example: " + COMMAND_WORD + " n/Alex Ben r/CEO d/2021-10-30 s/>=10";
 
+    private final List<Predicate<Person>> filters;
     private final Predicate<Person> predicate;
+    private final boolean isExplain;
 
     public FindCommand(Predicate<Person> predicate) {
-        this.predicate = predicate;
+        this(List.of(predicate));
+    }
+
+    /**
+     * Creates a FindCommand to find the persons that pass all of {@code filters}.
+     */
+    public FindCommand(List<Predicate<Person>> filters) {
+        this(filters, false);
+    }
+
+    /**
+     * Creates a FindCommand to find the persons that pass all of {@code filters}, which also shows how they were
+     * found if {@code isExplain} is true.
+     */
+    public FindCommand(List<Predicate<Person>> filters, boolean isExplain) {
+        requireNonNull(filters);
+        this.filters = List.copyOf(filters);
+        this.predicate = combinePredicates(this.filters);
+        this.isExplain = isExplain;
     }
 
     /**
@@ -67,7 +99,8 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        QueryPlan plan = new QueryPlan(filters, model.getPersonIndexes(), isExplain);
+        model.updateFilteredPersonList(plan.execute());
 
         if (model.getFilteredPersonList().size() == 0) {
             // clear display
@@ -77,14 +110,28 @@ public class FindCommand extends Command {
             Person firstPerson = model.getFilteredPersonList().get(0);
             model.setViewingPerson(firstPerson);
         }
-        return new CommandResult(
-                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        if (isExplain) {
+            message += "\n" + plan.explain();
+        }
+        return new CommandResult(message);
+    }
+
+    /**
+     * Combines the list of predicates to a single predicate that a person passes if they pass all of them.
+     *
+     * @param predicateList The list of predicates to combine
+     */
+    private static Predicate<Person> combinePredicates(List<Predicate<Person>> predicateList) {
+        return predicateList.stream()
+                .reduce(x -> true, (predicate1, predicate2) -> predicate1.and(predicate2));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FindCommand // instanceof handles nulls
-                && predicate.equals(((FindCommand) other).predicate)); // state check
+                && filters.equals(((FindCommand) other).filters) // state check
+                && isExplain == ((FindCommand) other).isExplain);
     }
 }
@@ -4,16 +4,19 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.FileNotFoundException;
 import java.io.FileReader;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-
-import com.opencsv.bean.CsvToBeanBuilder;
+import java.util.stream.IntStream;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -22,6 +25,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.CalculatedPay;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.HourlySalary;
 import seedu.address.model.person.HoursWorked;
 import seedu.address.model.person.LeaveBalance;
@@ -29,9 +33,12 @@ import seedu.address.model.person.LeavesTaken;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Overtime;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContactIndex;
 import seedu.address.model.person.PersonInput;
+import seedu.address.model.person.PersonInputReader;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicateEmailException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.DuplicatePhoneException;
@@ -40,11 +47,20 @@ import seedu.address.model.tag.Tag;
 public class ImportCommand extends Command {
     public static final String COMMAND_WORD = "import";
 
+    public static final String FLAG_FULL_REPORT = "--report";
+    public static final String FLAG_MERGE = "--merge";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": imports a current existing CSV file into HeRon.\n"
-            + "Parameters: Absolute/Relative Path leading to desired CSV file.\n"
+            + "Parameters: [" + FLAG_MERGE + "] [" + FLAG_FULL_REPORT + "] "
+            + "Absolute/Relative Path leading to desired CSV file.\n"
+            + "With " + FLAG_MERGE + ", rows update the existing employees with the same email or contact number, "
+            + "and the other rows are added, instead of replacing all existing employees.\n"
+            + "With " + FLAG_FULL_REPORT + ", every row is checked and all errors found are reported together.\n"
             + "Example: " + COMMAND_WORD + " /Users/Owner/Desktop/toBeImported.csv";
 
     public static final String MESSAGE_IMPORT_SUCCESS = "File was successfully imported.";
+    public static final String MESSAGE_MERGE_SUCCESS = "File was successfully merged: "
+            + "%1$d added, %2$d updated, %3$d unchanged.";
     public static final String MESSAGE_IMPORT_FAILURE = "Error occurred while importing the file.\n";
     public static final String MESSAGE_IMPORT_MISSING_FILE = MESSAGE_IMPORT_FAILURE
             + "Please check the filepath and try again.";
@@ -57,22 +73,58 @@ public class ImportCommand extends Command {
             + "Row %1$d: Missing '%2$s' field.";
     public static final String MESSAGE_FIELD_INVALID_ERROR = MESSAGE_IMPORT_FAILURE
             + "Invalid Input in Row %1$d: %2$s";
-
-    public static final String INPUT_ANNOTATION_NAME_FIELD = "Name";
-    public static final String INPUT_ANNOTATION_PHONE_FIELD = "Contact Number";
-    public static final String INPUT_ANNOTATION_ADDRESS_FIELD = "Residential Address";
-    public static final String INPUT_ANNOTATION_EMAIL_FIELD = "Email";
-    public static final String INPUT_ANNOTATION_ROLE_FIELD = "Role";
+    public static final String MESSAGE_ERROR_REPORT = MESSAGE_IMPORT_FAILURE
+            + "%1$d error(s) found, so no entries were imported:\n%2$s";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_ROW_FIELD_MISSING = "Missing '%1$s' field.";
+    public static final String MESSAGE_ROW_COLUMNS_MISMATCH = "Number of columns does not match the header.";
+    public static final String MESSAGE_ROW_DUPLICATE = "Same %1$s as Row %2$d.";
+    public static final String MESSAGE_MERGE_SAME_EMPLOYEE = MESSAGE_IMPORT_FAILURE
+            + "Rows %1$d and %2$d both match the existing employee %3$s.";
+    public static final String MESSAGE_MERGE_DUPLICATE = MESSAGE_IMPORT_FAILURE
+            + "%1$s would be the same for %2$s and %3$s after merging.";
+
+    public static final String INPUT_ANNOTATION_NAME_FIELD = PersonInputReader.COLUMN_NAME;
+    public static final String INPUT_ANNOTATION_PHONE_FIELD = PersonInputReader.COLUMN_PHONE;
+    public static final String INPUT_ANNOTATION_ADDRESS_FIELD = PersonInputReader.COLUMN_ADDRESS;
+    public static final String INPUT_ANNOTATION_EMAIL_FIELD = PersonInputReader.COLUMN_EMAIL;
+    public static final String INPUT_ANNOTATION_ROLE_FIELD = PersonInputReader.COLUMN_ROLE;
+
+    /** Matches no row to an existing employee, so that every row is read as a new employee. */
+    private static final EmployeeMatcher NO_MATCH = (phone, email) -> null;
 
     private final String filepathString;
+    private final boolean isFullReport;
+    private final boolean isMerge;
 
     /**
      * Constructor for the ImportCommand
      * @param filepath The string representation of the filepath of the desired file.
      */
     public ImportCommand(String filepath) {
+        this(filepath, false);
+    }
+
+    /**
+     * Constructor for the ImportCommand
+     * @param filepath The string representation of the filepath of the desired file.
+     * @param isFullReport Whether every row is checked, so that all errors in the file are reported together.
+     */
+    public ImportCommand(String filepath, boolean isFullReport) {
+        this(filepath, isFullReport, false);
+    }
+
+    /**
+     * Constructor for the ImportCommand
+     * @param filepath The string representation of the filepath of the desired file.
+     * @param isFullReport Whether every row is checked, so that all errors in the file are reported together.
+     * @param isMerge Whether the rows are merged into the existing employees, instead of replacing them.
+     */
+    public ImportCommand(String filepath, boolean isFullReport, boolean isMerge) {
         requireNonNull(filepath);
         this.filepathString = filepath;
+        this.isFullReport = isFullReport;
+        this.isMerge = isMerge;
     }
 
     /**
@@ -105,7 +157,12 @@ public class ImportCommand extends Command {
      */
     public CommandResult importData(Model model) throws CommandException {
         try {
-            List<Person> newPersonList = processCsv(this.filepathString);
+            if (isMerge) {
+                return mergeData(model);
+            }
+            List<Person> newPersonList = isFullReport
+                    ? processCsvWithFullReport(this.filepathString)
+                    : processCsv(this.filepathString);
             AddressBook newAddressBook = new AddressBook();
             newAddressBook.setPersons(newPersonList);
             model.setAddressBook(newAddressBook);
@@ -117,6 +174,92 @@ public class ImportCommand extends Command {
         return new CommandResult(MESSAGE_IMPORT_SUCCESS);
     }
 
+    /**
+     * Merges the data from the csv into the existing model.
+     * Each row is matched to the existing employee with the same email, or else the same phone, by hash lookups.
+     * Only the matched employees whose fields differ are replaced, and the unmatched rows are added,
+     * all in a single change to the model.
+     * @param model {@code Model} which the command should operate on.
+     * @return The result of the merge, with the number of employees added, updated and unchanged.
+     * @throws CommandException If an error occurs while reading the data, or the merged data would be invalid.
+     */
+    private CommandResult mergeData(Model model) throws CommandException {
+        List<Person> existingPersons = model.getAddressBook().getPersonList();
+        Map<EmployeeId, Person> existingById = new HashMap<>();
+        for (Person person : existingPersons) {
+            existingById.put(person.getEmployeeId(), person);
+        }
+        PersonContactIndex contactIndex = new PersonContactIndex(existingPersons);
+        EmployeeMatcher matcher = (phone, email) -> contactIndex.find(email, phone).orElse(null);
+        List<Person> importedPersons = isFullReport
+                ? processCsvWithFullReport(this.filepathString, matcher)
+                : processCsv(this.filepathString, matcher);
+
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        List<Person> newPersons = new ArrayList<>();
+        // Index of the row matching each existing employee, counting the first entry as 0
+        Map<EmployeeId, Integer> matchedRows = new HashMap<>();
+        for (int i = 0; i < importedPersons.size(); i++) {
+            Person importedPerson = importedPersons.get(i);
+            Person target = existingById.get(importedPerson.getEmployeeId());
+            if (target == null) {
+                newPersons.add(importedPerson);
+                continue;
+            }
+            Integer matchedRow = matchedRows.putIfAbsent(target.getEmployeeId(), i);
+            if (matchedRow != null) {
+                throw new CommandException(String.format(MESSAGE_MERGE_SAME_EMPLOYEE, matchedRow + 1, i + 1,
+                        target.getName()));
+            }
+            // Person#equals does not compare the hours worked
+            if (!target.equals(importedPerson) || !target.getHoursWorked().equals(importedPerson.getHoursWorked())) {
+                targets.add(target);
+                editedPersons.add(importedPerson);
+            }
+        }
+
+        checkMergedIdentities(existingPersons, existingById, editedPersons, newPersons);
+        model.mergePersons(targets, editedPersons, newPersons);
+        int unchangedCount = importedPersons.size() - newPersons.size() - targets.size();
+        return new CommandResult(String.format(MESSAGE_MERGE_SUCCESS, newPersons.size(), targets.size(),
+                unchangedCount));
+    }
+
+    /**
+     * Checks that the names, phones and emails of the employees are still unique once {@code editedPersons} replace
+     * the existing employees with the same ids and {@code newPersons} are added.
+     * @throws CommandException If two employees would have the same name, phone or email.
+     */
+    private void checkMergedIdentities(List<Person> existingPersons, Map<EmployeeId, Person> existingById,
+            List<Person> editedPersons, List<Person> newPersons) throws CommandException {
+        Map<EmployeeId, Person> editedById = new HashMap<>();
+        for (Person editedPerson : editedPersons) {
+            editedById.put(editedPerson.getEmployeeId(), editedPerson);
+        }
+        List<Person> mergedPersons = new ArrayList<>(existingById.size() + newPersons.size());
+        for (Person existingPerson : existingPersons) {
+            mergedPersons.add(editedById.getOrDefault(existingPerson.getEmployeeId(), existingPerson));
+        }
+        mergedPersons.addAll(newPersons);
+
+        checkMergedIdentity(UniquePersonList.findDuplicatePersons(mergedPersons), INPUT_ANNOTATION_NAME_FIELD,
+                mergedPersons);
+        checkMergedIdentity(UniquePersonList.findDuplicatePhones(mergedPersons), INPUT_ANNOTATION_PHONE_FIELD,
+                mergedPersons);
+        checkMergedIdentity(UniquePersonList.findDuplicateEmails(mergedPersons), INPUT_ANNOTATION_EMAIL_FIELD,
+                mergedPersons);
+    }
+
+    private void checkMergedIdentity(List<int[]> duplicates, String columnTitle, List<Person> mergedPersons)
+            throws CommandException {
+        if (!duplicates.isEmpty()) {
+            int[] duplicate = duplicates.get(0);
+            throw new CommandException(String.format(MESSAGE_MERGE_DUPLICATE, columnTitle,
+                    mergedPersons.get(duplicate[0]).getName(), mergedPersons.get(duplicate[1]).getName()));
+        }
+    }
+
     /**
      * Parses and creates the new address book from the data in the CSV file.
      * @param filepath The string representation of the filepath to the desired csv file.
@@ -124,54 +267,226 @@ public class ImportCommand extends Command {
      * @throws CommandException If an error occurs during the processing of the CSV file into Person objects.
      */
     public List<Person> processCsv(String filepath) throws CommandException {
-        try {
-            FileReader fileReader = getFileReader(filepath);
-            List<PersonInput> inputDataList = parseCsv(fileReader);
-            List<Person> personList = createPersonsFromInput(inputDataList);
-            return personList;
-        } catch (CommandException e) {
-            throw new CommandException(e.getMessage());
+        return processCsv(filepath, NO_MATCH);
+    }
+
+    /**
+     * Parses the Person objects in the CSV file, building each row on the existing employee that it matches.
+     * @param filepath The string representation of the filepath to the desired csv file.
+     * @param matcher Finds the existing employee that a row refers to.
+     * @return A list of Person objects, in the order of the rows.
+     * @throws CommandException If an error occurs during the processing of the CSV file into Person objects.
+     */
+    private List<Person> processCsv(String filepath, EmployeeMatcher matcher) throws CommandException {
+        try (FileReader fileReader = getFileReader(filepath)) {
+            return parseCsv(readHeader(fileReader), matcher);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_IMPORT_FAILURE + e.getMessage());
         }
     }
 
     /**
-     * Parses the given csv file and creates a list of PersonInput objects.
-     * @param fileReader The fileReader object of the csv file.
-     * @return A list of PersonInput objects used to create the Person objects.
-     * @throws CommandException If there are missing fields or formatting errors in the CSV file.
+     * Parses the given csv file into Person objects, one row at a time.
+     * Each row is validated and checked against the identities of the rows before it as soon as it is read,
+     * so only the parsed fields are held in memory, and the first invalid row is reported.
+     * The Person objects, and the ids of the new employees, are only created once every row is valid.
+     * @param inputReader The reader of the rows of the csv file, after its header row.
+     * @param matcher Finds the existing employee that a row refers to.
+     * @return A list of Person objects, in the order of the rows.
+     * @throws CommandException If there are missing fields, formatting errors or invalid inputs in the CSV file.
+     * @throws DuplicatePersonException If two rows have the same name.
+     * @throws DuplicatePhoneException If two rows have the same phone number.
+     * @throws DuplicateEmailException If two rows have the same email.
      */
-    @SuppressWarnings("unchecked")
-    // List<PersonInput> is the only return type of the method, or else an exception would be thrown.
-    public List<PersonInput> parseCsv(FileReader fileReader) throws CommandException {
-        int rowNumber = 1; // The row number of the data entry as shown in Excel.
-        List<PersonInput> newPersonInputList = new ArrayList<>();
+    private List<Person> parseCsv(PersonInputReader inputReader, EmployeeMatcher matcher) throws CommandException {
+        List<ValidatedRow> validatedRows = new ArrayList<>();
+        // Index of the first row holding each name, phone and email, counting the first entry as 0
+        Map<Name, Integer> nameRows = new HashMap<>();
+        Map<Phone, Integer> phoneRows = new HashMap<>();
+        Map<Email, Integer> emailRows = new HashMap<>();
+
+        int rowNumber = 1; // The row number of the data entry being read, counting the first entry as row 1.
+        String[] row;
+        while ((row = readRow(inputReader)) != null) {
+            PersonInput input = toPersonInput(inputReader, row, rowNumber);
+            ValidatedRow validatedRow = validateInput(input, rowNumber, matcher);
+
+            int rowIndex = rowNumber - 1;
+            if (nameRows.putIfAbsent(validatedRow.name, rowIndex) != null) {
+                throw new DuplicatePersonException();
+            }
+            Integer phoneRow = phoneRows.putIfAbsent(validatedRow.phone, rowIndex);
+            if (phoneRow != null) {
+                throw new DuplicatePhoneException(new int[]{phoneRow, rowIndex});
+            }
+            Integer emailRow = emailRows.putIfAbsent(validatedRow.email, rowIndex);
+            if (emailRow != null) {
+                throw new DuplicateEmailException(new int[]{emailRow, rowIndex});
+            }
 
-        try {
-            Iterator<PersonInput> inputIterator = new CsvToBeanBuilder(fileReader).withType(PersonInput.class)
-                    .build().iterator();
-            while (inputIterator.hasNext()) {
-                rowNumber++;
-                PersonInput input = inputIterator.next();
-                newPersonInputList.add(input);
+            validatedRows.add(validatedRow);
+            rowNumber++;
+        }
+        if (validatedRows.isEmpty()) {
+            throw new CommandException(MESSAGE_IMPORT_FORMAT_ERROR);
+        }
+        return toPersons(validatedRows);
+    }
+
+    /**
+     * Parses and creates the new address book from the data in the CSV file, checking every row.
+     * The rows are validated in parallel, and then checked for duplicates in order. The Person objects, and the ids
+     * of the new employees, are only created in the order of the rows once no errors are found.
+     * @param filepath The string representation of the filepath to the desired csv file.
+     * @return A list of Person objects to be replaced into the address book.
+     * @throws CommandException If the file cannot be read, or with a report of every error in the rows, by row.
+     */
+    public List<Person> processCsvWithFullReport(String filepath) throws CommandException {
+        return processCsvWithFullReport(filepath, NO_MATCH);
+    }
+
+    /**
+     * Parses the Person objects in the CSV file, checking every row and building each row on the existing employee
+     * that it matches.
+     * @param filepath The string representation of the filepath to the desired csv file.
+     * @param matcher Finds the existing employee that a row refers to.
+     * @return A list of Person objects, in the order of the rows.
+     * @throws CommandException If the file cannot be read, or with a report of every error in the rows, by row.
+     */
+    private List<Person> processCsvWithFullReport(String filepath, EmployeeMatcher matcher)
+            throws CommandException {
+        PersonInputReader inputReader;
+        List<String[]> rows = new ArrayList<>();
+        try (FileReader fileReader = getFileReader(filepath)) {
+            inputReader = readHeader(fileReader);
+            String[] row;
+            while ((row = readRow(inputReader)) != null) {
+                rows.add(row);
             }
-            return newPersonInputList;
-        } catch (RuntimeException e) {
-            String[] errorDescriptorArr = e.getMessage().split(":");
-            String errorMessage;
-            if (errorDescriptorArr.length == 1) {
-                errorMessage = MESSAGE_IMPORT_FORMAT_ERROR;
-                throw new CommandException(errorMessage);
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_IMPORT_FAILURE + e.getMessage());
+        }
+        if (rows.isEmpty()) {
+            throw new CommandException(MESSAGE_IMPORT_FORMAT_ERROR);
+        }
+
+        ValidatedRow[] validatedRows = new ValidatedRow[rows.size()];
+        List<List<String>> rowErrors = new ArrayList<>(Collections.nCopies(rows.size(), null));
+        IntStream.range(0, rows.size()).parallel().forEach(i -> {
+            List<String> errors = new ArrayList<>();
+            PersonInput input = toPersonInput(inputReader, rows.get(i), errors);
+            validatedRows[i] = input == null ? null : validateInput(input, errors, matcher);
+            rowErrors.set(i, errors);
+        });
+        addDuplicateErrors(validatedRows, rowErrors);
+
+        List<String> report = new ArrayList<>();
+        for (int i = 0; i < rowErrors.size(); i++) {
+            for (String error : rowErrors.get(i)) {
+                report.add(String.format(MESSAGE_ROW_ERROR, i + 1, error));
             }
+        }
+        if (!report.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ERROR_REPORT, report.size(), String.join("\n", report)));
+        }
+        return toPersons(Arrays.asList(validatedRows));
+    }
+
+    /**
+     * Creates the Person objects of {@code validatedRows} in order, so that the new employees are given ids in the
+     * order of their rows.
+     */
+    private static List<Person> toPersons(List<ValidatedRow> validatedRows) {
+        List<Person> persons = new ArrayList<>(validatedRows.size());
+        for (ValidatedRow validatedRow : validatedRows) {
+            persons.add(validatedRow.toPerson());
+        }
+        return persons;
+    }
+
+    /**
+     * Binds the columns of {@code row} to a PersonInput object with {@code inputReader}.
+     * Returns null if that fails, after adding the reasons to {@code errors}.
+     */
+    private PersonInput toPersonInput(PersonInputReader inputReader, String[] row, List<String> errors) {
+        if (!inputReader.hasAllColumns(row)) {
+            errors.add(MESSAGE_ROW_COLUMNS_MISMATCH);
+            return null;
+        }
+        List<String> missingFields = inputReader.getMissingFields(row);
+        if (!missingFields.isEmpty()) {
+            missingFields.forEach(field -> errors.add(String.format(MESSAGE_ROW_FIELD_MISSING, field)));
+            return null;
+        }
+        return inputReader.toPersonInput(row);
+    }
+
+    /**
+     * Binds the columns of row {@code rowNumber} of the CSV file to a PersonInput object with {@code inputReader}.
+     * @throws CommandException If the row has missing fields or formatting errors.
+     */
+    private PersonInput toPersonInput(PersonInputReader inputReader, String[] row, int rowNumber)
+            throws CommandException {
+        if (!inputReader.hasAllColumns(row)) {
+            throw new CommandException(MESSAGE_IMPORT_FORMAT_ERROR);
+        }
+        List<String> missingFields = inputReader.getMissingFields(row);
+        if (!missingFields.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_FIELD_MISSING_ERROR, rowNumber, missingFields.get(0)));
+        }
+        return inputReader.toPersonInput(row);
+    }
 
-            String[] descriptorArr = errorDescriptorArr[1].split("\\'");
-            if (descriptorArr.length == 1) {
-                errorMessage = MESSAGE_IMPORT_FORMAT_ERROR;
-            } else {
-                String annotationField = descriptorArr[1].trim();
-                String field = getColumnTitle(annotationField); // Field naming as per header naming convention.
-                errorMessage = String.format(MESSAGE_FIELD_MISSING_ERROR, rowNumber, field);
+    /**
+     * Adds an error to {@code rowErrors} for every row in {@code validatedRows} that has the same name, phone or email
+     * as an earlier row. Invalid rows are skipped.
+     */
+    private void addDuplicateErrors(ValidatedRow[] validatedRows, List<List<String>> rowErrors) {
+        Map<Name, Integer> nameRows = new HashMap<>();
+        Map<Phone, Integer> phoneRows = new HashMap<>();
+        Map<Email, Integer> emailRows = new HashMap<>();
+        for (int i = 0; i < validatedRows.length; i++) {
+            ValidatedRow validatedRow = validatedRows[i];
+            if (validatedRow == null) {
+                continue;
             }
-            throw new CommandException(errorMessage);
+            addDuplicateError(nameRows.putIfAbsent(validatedRow.name, i), INPUT_ANNOTATION_NAME_FIELD,
+                    rowErrors.get(i));
+            addDuplicateError(phoneRows.putIfAbsent(validatedRow.phone, i), INPUT_ANNOTATION_PHONE_FIELD,
+                    rowErrors.get(i));
+            addDuplicateError(emailRows.putIfAbsent(validatedRow.email, i), INPUT_ANNOTATION_EMAIL_FIELD,
+                    rowErrors.get(i));
+        }
+    }
+
+    private void addDuplicateError(Integer firstRowIndex, String columnTitle, List<String> errors) {
+        if (firstRowIndex != null) {
+            errors.add(String.format(MESSAGE_ROW_DUPLICATE, columnTitle, firstRowIndex + 1));
+        }
+    }
+
+    /**
+     * Reads the header row of the given csv file, which names the column of each field.
+     * @return The reader of the rows after the header row.
+     * @throws CommandException If the header row cannot be read, or it is missing a required column.
+     */
+    private PersonInputReader readHeader(FileReader fileReader) throws CommandException {
+        try {
+            return new PersonInputReader(fileReader);
+        } catch (IOException | IllegalValueException e) {
+            throw new CommandException(MESSAGE_IMPORT_FORMAT_ERROR);
+        }
+    }
+
+    /**
+     * Returns the next row of the csv file, or null if there are no more rows.
+     * @throws CommandException If the row cannot be read, e.g. if a quoted value is not closed.
+     */
+    private String[] readRow(PersonInputReader inputReader) throws CommandException {
+        try {
+            return inputReader.readRow();
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_IMPORT_FORMAT_ERROR);
         }
     }
 
@@ -191,95 +506,142 @@ public class ImportCommand extends Command {
     }
 
     /**
-     * Creates a List of Person objects to replace the existing employee list.
-     * @param newPersonInputList The list of PersonInput objects to create the corresponding Persons.
-     * @return A list of person objects.
+     * Parses the fields of a row of the CSV file.
+     * @param input The PersonInput object read from the row.
+     * @param rowNumber The row number of the entry, counting the first entry as row 1.
+     * @param matcher Finds the existing employee that the row refers to.
+     * @return The parsed fields of the row.
      * @throws CommandException If the given inputs are invalid, and a Person object cannot be created.
      */
-    public List<Person> createPersonsFromInput(List<PersonInput> newPersonInputList) throws CommandException {
-        List<Person> newPersonList = new ArrayList<>();
-        int rowNumber = 1;
-        for (PersonInput input : newPersonInputList) {
-            try {
-                // Required Fields
-                Name name = ParserUtil.parseName(input.getName());
-                Phone phone = ParserUtil.parsePhone(input.getPhone());
-                Email email = ParserUtil.parseEmail(input.getEmail());
-                Address address = ParserUtil.parseAddress(input.getAddress());
-                Role role = ParserUtil.parseRole(input.getRole());
-
-                // Optional Fields, default value of 0/empty set is used if input is not provided.
-                LeaveBalance leaves = buildLeave(input);
-                HourlySalary hourlySalary = buildSalary(input);
-                HoursWorked hoursWorked = buildHoursWorked(input);
-                Overtime overtime = buildOvertime(input);
-                Set<Tag> tagList = buildTags(input);
-
-                newPersonList.add(new Person(name, phone, email, address, role, leaves, new LeavesTaken(), hourlySalary,
-                        hoursWorked, overtime, new CalculatedPay("0"), tagList));
-                rowNumber++;
-            } catch (ParseException e) {
-                throw new CommandException(String.format(MESSAGE_FIELD_INVALID_ERROR, rowNumber, e.getMessage()));
-            }
+    private ValidatedRow validateInput(PersonInput input, int rowNumber, EmployeeMatcher matcher)
+            throws CommandException {
+        List<String> errors = new ArrayList<>();
+        ValidatedRow validatedRow = validateInput(input, errors, matcher);
+        if (validatedRow == null) {
+            throw new CommandException(String.format(MESSAGE_FIELD_INVALID_ERROR, rowNumber, errors.get(0)));
         }
-        return newPersonList;
+        return validatedRow;
     }
 
     /**
-     * Creates a LeaveBalance object with the corresponding input, or a default value of 0.
+     * Parses the fields of a row of the CSV file, checking every field of the row.
+     * If the row matches an existing employee, the values of that employee are used for the optional fields that
+     * are not given.
+     * @param input The PersonInput object read from the row.
+     * @param errors The list that the reason for every invalid input is added to, in column order.
+     * @param matcher Finds the existing employee that the row refers to.
+     * @return The parsed fields of the row, or null if any of the given inputs are invalid.
+     */
+    private ValidatedRow validateInput(PersonInput input, List<String> errors, EmployeeMatcher matcher) {
+        // Required Fields
+        Name name = parseField(() -> ParserUtil.parseName(input.getName()), errors);
+        Phone phone = parseField(() -> ParserUtil.parsePhone(input.getPhone()), errors);
+        Email email = parseField(() -> ParserUtil.parseEmail(input.getEmail()), errors);
+        Address address = parseField(() -> ParserUtil.parseAddress(input.getAddress()), errors);
+        Role role = parseField(() -> ParserUtil.parseRole(input.getRole()), errors);
+
+        Person existing = phone == null || email == null ? null : matcher.match(phone, email);
+
+        // Optional Fields, value of the existing employee or default value of 0/empty set is used
+        // if input is not provided.
+        LeaveBalance leaves = parseField(() -> buildLeave(input, existing), errors);
+        HourlySalary hourlySalary = parseField(() -> buildSalary(input, existing), errors);
+        HoursWorked hoursWorked = parseField(() -> buildHoursWorked(input, existing), errors);
+        Overtime overtime = parseField(() -> buildOvertime(input, existing), errors);
+        Set<Tag> tagList = parseField(() -> buildTags(input, existing), errors);
+
+        if (!errors.isEmpty()) {
+            return null;
+        }
+        return new ValidatedRow(name, phone, email, address, role, leaves, hourlySalary, hoursWorked, overtime,
+                tagList, existing);
+    }
+
+    /**
+     * Returns the value parsed by {@code fieldParser}, or null after adding the reason to {@code errors}
+     * if the input is invalid.
+     */
+    private static <T> T parseField(FieldParser<T> fieldParser, List<String> errors) {
+        try {
+            return fieldParser.parse();
+        } catch (ParseException e) {
+            errors.add(e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Creates a LeaveBalance object with the corresponding input, or the value of the existing employee,
+     * or a default value of 0.
      * @param input PersonInput object created by the bean.
+     * @param existing The existing employee that the row refers to, or null if there is none.
      * @return A LeaveBalance object for the Person constructor.
      * @throws ParseException If an error occurs while parsing the String input.
      */
-    private LeaveBalance buildLeave(PersonInput input) throws ParseException {
-        return input.getLeaves() == null
-                ? new LeaveBalance("0")
-                : ParserUtil.parseLeaveBalance(input.getLeaves());
+    private LeaveBalance buildLeave(PersonInput input, Person existing) throws ParseException {
+        if (input.getLeaves() == null) {
+            return existing == null ? new LeaveBalance("0") : existing.getLeaveBalance();
+        }
+        return ParserUtil.parseLeaveBalance(input.getLeaves());
     }
 
     /**
-     * Creates a HourlySalary object with the corresponding input, or a default value of 0.
+     * Creates a HourlySalary object with the corresponding input, or the value of the existing employee,
+     * or a default value of 0.
      * @param input PersonInput object created by the bean.
+     * @param existing The existing employee that the row refers to, or null if there is none.
      * @return An HourlySalary object for the Person constructor.
      * @throws ParseException If an error occurs while parsing the String input.
      */
-    private HourlySalary buildSalary(PersonInput input) throws ParseException {
-        return input.getSalary() == null
-                ? new HourlySalary("0")
-                : ParserUtil.parseSalary(input.getSalary());
+    private HourlySalary buildSalary(PersonInput input, Person existing) throws ParseException {
+        if (input.getSalary() == null) {
+            return existing == null ? new HourlySalary("0") : existing.getSalary();
+        }
+        return ParserUtil.parseSalary(input.getSalary());
     }
 
     /**
-     * Creates a HoursWorked object with the corresponding input, or a default value of 0.
+     * Creates a HoursWorked object with the corresponding input, or the value of the existing employee,
+     * or a default value of 0.
      * @param input PersonInput object created by the bean.
+     * @param existing The existing employee that the row refers to, or null if there is none.
      * @return An HoursWorked object for the Person constructor
      * @throws ParseException If an error occurs while parsing the String input.
      */
-    private HoursWorked buildHoursWorked(PersonInput input) throws ParseException {
-        return input.getHoursWorked() == null
-                ? new HoursWorked("0")
-                : ParserUtil.parseHoursWorked(input.getHoursWorked());
+    private HoursWorked buildHoursWorked(PersonInput input, Person existing) throws ParseException {
+        if (input.getHoursWorked() == null) {
+            return existing == null ? new HoursWorked("0") : existing.getHoursWorked();
+        }
+        return ParserUtil.parseHoursWorked(input.getHoursWorked());
     }
 
     /**
-     * Creates an Overtime object with the corresponding input, or a default value of 0.
+     * Creates an Overtime object with the corresponding input, or the value of the existing employee,
+     * or a default value of 0.
      * @param input PersonInput object created by the bean.
+     * @param existing The existing employee that the row refers to, or null if there is none.
      * @return An Overtime object for the Person constructor
      * @throws ParseException If an error occurs while parsing the String input.
      */
-    private Overtime buildOvertime(PersonInput input) throws ParseException {
-        return input.getOvertime() == null
-                ? new Overtime("0")
-                : ParserUtil.parseOvertime(input.getOvertime());
+    private Overtime buildOvertime(PersonInput input, Person existing) throws ParseException {
+        if (input.getOvertime() == null) {
+            return existing == null ? new Overtime("0") : existing.getOvertime();
+        }
+        return ParserUtil.parseOvertime(input.getOvertime());
     }
 
     /**
-     * Creates a Set object containing all the corresponding tags for the entry, or a default value of an empty set.
+     * Creates a Set object containing all the corresponding tags for the entry, or the tags of the existing employee
+     * if there is no tags column, or a default value of an empty set.
      * @param input PersonInput object created by the bean.
+     * @param existing The existing employee that the row refers to, or null if there is none.
      * @return A Set object for the Person constructor.
      * @throws ParseException If an error occurs while parsing the String input.
      */
-    private Set<Tag> buildTags(PersonInput input) throws ParseException {
+    private Set<Tag> buildTags(PersonInput input, Person existing) throws ParseException {
+        if (input.getTags() == null && existing != null) {
+            return existing.getTags();
+        }
         return (input.getTags() == null || input.getTags().equals(""))
                 ? new HashSet<>()
                 : ParserUtil.parseTags(Arrays.asList(input.getTags().split("/")));
@@ -289,36 +651,87 @@ public class ImportCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof ImportCommand // instanceof handles nulls
-                && filepathString.equals(((ImportCommand) other).filepathString));
+                && filepathString.equals(((ImportCommand) other).filepathString)
+                && isFullReport == ((ImportCommand) other).isFullReport
+                && isMerge == ((ImportCommand) other).isMerge);
     }
 
     public String getFilepathString() {
         return this.filepathString;
     }
 
+    public boolean isFullReport() {
+        return isFullReport;
+    }
+
+    public boolean isMerge() {
+        return isMerge;
+    }
+
     /**
-     * Gets the header naming convention of the specified field.
-     * @param field The field of PersonInput object.
-     * @return The naming convention being used in the imported csv file.
+     * The fields of a valid row of the CSV file, parsed but not yet made into a Person object, so that validating
+     * the row does not give it an id.
      */
-    public String getColumnTitle(String field) {
-        switch (field) {
-        case "name":
-            return INPUT_ANNOTATION_NAME_FIELD;
-        case "phone":
-            return INPUT_ANNOTATION_PHONE_FIELD;
-        case "address":
-            return INPUT_ANNOTATION_ADDRESS_FIELD;
-        case "email":
-            return INPUT_ANNOTATION_EMAIL_FIELD;
-        case "role":
-            return INPUT_ANNOTATION_ROLE_FIELD;
-        default:
-            assert(false);
-            return null; // Should not reach here since there are only 5 compulsory fields for import.
+    private static class ValidatedRow {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final Role role;
+        private final LeaveBalance leaves;
+        private final HourlySalary hourlySalary;
+        private final HoursWorked hoursWorked;
+        private final Overtime overtime;
+        private final Set<Tag> tags;
+        // The existing employee that the row refers to, or null if there is none
+        private final Person existing;
+
+        ValidatedRow(Name name, Phone phone, Email email, Address address, Role role, LeaveBalance leaves,
+                HourlySalary hourlySalary, HoursWorked hoursWorked, Overtime overtime, Set<Tag> tags,
+                Person existing) {
+            this.name = name;
+            this.phone = phone;
+            this.email = email;
+            this.address = address;
+            this.role = role;
+            this.leaves = leaves;
+            this.hourlySalary = hourlySalary;
+            this.hoursWorked = hoursWorked;
+            this.overtime = overtime;
+            this.tags = tags;
+            this.existing = existing;
         }
-    }
 
+        /**
+         * Creates the Person object of the row. A new employee is given the next id, while an existing employee
+         * keeps their id, leaves taken and calculated pay.
+         */
+        Person toPerson() {
+            if (existing == null) {
+                return new Person(name, phone, email, address, role, leaves, new LeavesTaken(), hourlySalary,
+                        hoursWorked, overtime, new CalculatedPay("0"), tags);
+            }
+            return new Person(existing.getEmployeeId(), name, phone, email, address, role, leaves,
+                    existing.getLeavesTaken(), hourlySalary, hoursWorked, overtime, existing.getCalculatedPay(), tags);
+        }
+    }
 
+    /**
+     * Finds the existing employee that a row of the CSV file refers to.
+     */
+    @FunctionalInterface
+    private interface EmployeeMatcher {
+        /**
+         * Returns the existing employee with {@code email}, or else with {@code phone}, or null if there is none.
+         */
+        Person match(Phone phone, Email email);
+    }
 
+    /**
+     * Parses the input of a single field of a row.
+     */
+    @FunctionalInterface
+    private interface FieldParser<T> {
+        T parse() throws ParseException;
+    }
 }
@@ -0,0 +1,263 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.HoursWorked;
+import seedu.address.model.person.Overtime;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContactIndex;
+import seedu.address.model.person.PersonInputReader;
+
+/**
+ * Adds the hours worked and overtime in a timesheet CSV file to the employees in HeRon.
+ * Every row is checked before any employee is changed, so either all rows are added, or none of them are.
+ */
+public class ImportHoursCommand extends Command {
+    public static final String COMMAND_WORD = "importHours";
+
+    public static final String COLUMN_EMPLOYEE = "Employee";
+    public static final String COLUMN_HOURS_WORKED = PersonInputReader.COLUMN_HOURS_WORKED;
+    public static final String COLUMN_OVERTIME = PersonInputReader.COLUMN_OVERTIME;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": adds the hours worked and overtime in a CSV file to the employees in it.\n"
+            + "The file needs a header row with the columns '" + COLUMN_EMPLOYEE + "' (email or contact number), '"
+            + COLUMN_HOURS_WORKED + "' and '" + COLUMN_OVERTIME + "'.\n"
+            + "Parameters: Absolute/Relative Path leading to desired CSV file.\n"
+            + "Example: " + COMMAND_WORD + " /Users/Owner/Desktop/timesheet.csv";
+
+    public static final String MESSAGE_SUCCESS =
+            "Added hours worked and overtime from %1$d row(s) to %2$d employee(s).";
+    public static final String MESSAGE_IMPORT_FAILURE = "Error occurred while importing hours worked.\n";
+    public static final String MESSAGE_MISSING_FILE = MESSAGE_IMPORT_FAILURE
+            + "Please check the filepath and try again.";
+    public static final String MESSAGE_FORMAT_ERROR = MESSAGE_IMPORT_FAILURE
+            + "Please check that the header row has the columns '" + COLUMN_EMPLOYEE + "', '" + COLUMN_HOURS_WORKED
+            + "' and '" + COLUMN_OVERTIME + "', and there is at least one entry.";
+    public static final String MESSAGE_ERROR_REPORT = MESSAGE_IMPORT_FAILURE
+            + "%1$d error(s) found, so no hours were added:\n%2$s";
+    public static final String MESSAGE_ROW_UNKNOWN_EMPLOYEE = "No employee has the email or contact number '%1$s'.";
+    public static final String MESSAGE_ROW_EXCEEDS_CAPACITY = "%1$s cannot have more than %2$d %3$s! "
+            + "(Can add at most %4$d more)";
+
+    private static final String HOURS_WORKED_NAME = "hours worked";
+    private static final String OVERTIME_NAME = "overtime hours worked";
+    private static final int NO_COLUMN = -1;
+
+    private final String filepathString;
+
+    /**
+     * Constructor for the ImportHoursCommand
+     * @param filepath The string representation of the filepath of the desired file.
+     */
+    public ImportHoursCommand(String filepath) {
+        requireNonNull(filepath);
+        this.filepathString = filepath;
+    }
+
+    /**
+     * Reads every row of the file, resolving its employee through a {@code PersonContactIndex}, and then adds the
+     * hours of all rows in a single change to the model, so that it is saved once.
+     * Several rows for the same employee are summed, and the sums are checked against the maximum hours.
+     * @throws CommandException If the file cannot be read, or any of its rows is invalid.
+     */
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        PersonContactIndex contactIndex = new PersonContactIndex(model.getAddressBook().getPersonList());
+        Map<EmployeeId, HoursAdded> hoursByEmployee = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        int rowCount = 0;
+
+        try (CsvReader csvReader = new CsvReader(getFileReader())) {
+            TimesheetColumns columns = readHeader(csvReader);
+            String[] row;
+            while ((row = csvReader.readRecord()) != null) {
+                if (row.length == 1 && row[0].isBlank()) {
+                    continue;
+                }
+                rowCount++;
+                String error = addRow(row, columns, contactIndex, hoursByEmployee);
+                if (error != null) {
+                    errors.add(String.format(ImportCommand.MESSAGE_ROW_ERROR, rowCount, error));
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(MESSAGE_FORMAT_ERROR);
+        }
+
+        if (rowCount == 0) {
+            throw new CommandException(MESSAGE_FORMAT_ERROR);
+        }
+        if (!errors.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_ERROR_REPORT, errors.size(), String.join("\n", errors)));
+        }
+
+        List<Person> targets = new ArrayList<>();
+        List<Person> editedPersons = new ArrayList<>();
+        for (HoursAdded added : hoursByEmployee.values()) {
+            targets.add(added.person);
+            editedPersons.add(added.createUpdatedPerson());
+        }
+        model.setPersons(targets, editedPersons);
+        if (!editedPersons.isEmpty()) {
+            model.setViewingPerson(editedPersons.get(0));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rowCount, editedPersons.size()));
+    }
+
+    /**
+     * Reads the header row, and returns the positions of the employee, hours worked and overtime columns in it.
+     * @throws CommandException If there is no header row, or it has no employee column or no hours column.
+     */
+    private static TimesheetColumns readHeader(CsvReader csvReader) throws IOException, CommandException {
+        String[] header = csvReader.readHeader();
+        if (header == null) {
+            throw new CommandException(MESSAGE_FORMAT_ERROR);
+        }
+
+        TimesheetColumns columns = new TimesheetColumns(CsvReader.indexOfColumn(header, COLUMN_EMPLOYEE),
+                CsvReader.indexOfColumn(header, COLUMN_HOURS_WORKED), CsvReader.indexOfColumn(header, COLUMN_OVERTIME),
+                header.length);
+        boolean hasHoursColumn = columns.hoursWorked != NO_COLUMN || columns.overtime != NO_COLUMN;
+        if (columns.employee == NO_COLUMN || !hasHoursColumn) {
+            throw new CommandException(MESSAGE_FORMAT_ERROR);
+        }
+        return columns;
+    }
+
+    /**
+     * Adds the hours in {@code row} to the sums of its employee. An invalid row leaves the sums unchanged.
+     * @param columns The positions of the columns in the header row.
+     * @return The error in the row, or null if the row is valid.
+     */
+    private static String addRow(String[] row, TimesheetColumns columns, PersonContactIndex contactIndex,
+            Map<EmployeeId, HoursAdded> hoursByEmployee) {
+        if (row.length != columns.headerWidth) {
+            return ImportCommand.MESSAGE_ROW_COLUMNS_MISMATCH;
+        }
+
+        String identifier = row[columns.employee].trim();
+        if (identifier.isEmpty()) {
+            return String.format(ImportCommand.MESSAGE_ROW_FIELD_MISSING, COLUMN_EMPLOYEE);
+        }
+        Optional<Person> person = contactIndex.findByContact(identifier);
+        if (person.isEmpty()) {
+            return String.format(MESSAGE_ROW_UNKNOWN_EMPLOYEE, identifier);
+        }
+
+        int hoursWorked;
+        int overtime;
+        try {
+            hoursWorked = getValue(row, columns.hoursWorked).isBlank()
+                    ? 0 : ParserUtil.parseHoursWorked(row[columns.hoursWorked]).value;
+            overtime = getValue(row, columns.overtime).isBlank()
+                    ? 0 : ParserUtil.parseOvertime(row[columns.overtime]).value;
+        } catch (ParseException e) {
+            return e.getMessage();
+        }
+
+        // Both maximums are checked before the employee is given sums, so that a rejected row adds no employee
+        Person employee = person.get();
+        HoursAdded added = hoursByEmployee.get(employee.getEmployeeId());
+        int hoursWorkedCapacity = HoursWorked.MAX_HOURS_WORKED - employee.getHoursWorked().value
+                - (added == null ? 0 : added.hoursWorked);
+        if (hoursWorked > hoursWorkedCapacity) {
+            return String.format(MESSAGE_ROW_EXCEEDS_CAPACITY, employee.getName(), HoursWorked.MAX_HOURS_WORKED,
+                    HOURS_WORKED_NAME, hoursWorkedCapacity);
+        }
+        int overtimeCapacity = Overtime.MAX_OVERTIME - employee.getOvertime().value
+                - (added == null ? 0 : added.overtime);
+        if (overtime > overtimeCapacity) {
+            return String.format(MESSAGE_ROW_EXCEEDS_CAPACITY, employee.getName(), Overtime.MAX_OVERTIME,
+                    OVERTIME_NAME, overtimeCapacity);
+        }
+
+        if (added == null) {
+            added = new HoursAdded(employee);
+            hoursByEmployee.put(employee.getEmployeeId(), added);
+        }
+        added.hoursWorked += hoursWorked;
+        added.overtime += overtime;
+        return null;
+    }
+
+    private static String getValue(String[] row, int column) {
+        return column == NO_COLUMN ? "" : row[column];
+    }
+
+    private FileReader getFileReader() throws CommandException {
+        try {
+            return new FileReader(filepathString);
+        } catch (FileNotFoundException e) {
+            throw new CommandException(MESSAGE_MISSING_FILE);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportHoursCommand // instanceof handles nulls
+                && filepathString.equals(((ImportHoursCommand) other).filepathString));
+    }
+
+    public String getFilepathString() {
+        return filepathString;
+    }
+
+    /**
+     * The positions of the columns of a timesheet, read from its header row.
+     */
+    private static class TimesheetColumns {
+        private final int employee;
+        // The hours columns are optional, and are NO_COLUMN if absent
+        private final int hoursWorked;
+        private final int overtime;
+        // The number of columns in the header row, which every row must have
+        private final int headerWidth;
+
+        TimesheetColumns(int employee, int hoursWorked, int overtime, int headerWidth) {
+            this.employee = employee;
+            this.hoursWorked = hoursWorked;
+            this.overtime = overtime;
+            this.headerWidth = headerWidth;
+        }
+    }
+
+    /**
+     * The hours worked and overtime added to an employee by the rows of the file so far.
+     */
+    private static class HoursAdded {
+        private final Person person;
+        private int hoursWorked;
+        private int overtime;
+
+        HoursAdded(Person person) {
+            this.person = person;
+        }
+
+        Person createUpdatedPerson() {
+            return new Person(person.getEmployeeId(), person.getName(), person.getPhone(), person.getEmail(),
+                    person.getAddress(), person.getRole(), person.getLeaveBalance(), person.getLeavesTaken(),
+                    person.getSalary(), new HoursWorked(person.getHoursWorked().value + hoursWorked),
+                    new Overtime(person.getOvertime().value + overtime), person.getCalculatedPay(), person.getTags());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.LeaveBalance;
+
+/**
+ * Reports the number of employees in HeRon on leave on each day of a date range.
+ */
+public class LeaveCalendarCommand extends Command {
+
+    public static final String COMMAND_WORD = "leaveCalendar";
+
+    public static final int MAX_DAYS = LeaveBalance.MAX_LEAVES;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of employees on leave on each day from a start date to an end date, "
+            + "of at most " + MAX_DAYS + " days. \n"
+            + "Parameter: DATE (of the format YYYY-MM-DD) or DATE RANGE (of the format YYYY-MM-DD:YYYY-MM-DD) \n"
+            + "Example: " + COMMAND_WORD
+            + " " + PREFIX_DATE + "2021-10-01:2021-10-31";
+
+    public static final String MESSAGE_SUCCESS =
+            "Employees on leave from %1$s to %2$s (%3$d day(s) with employees on leave):";
+    public static final String MESSAGE_DAY = "%1$s: %2$d";
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+
+    /**
+     * Creates a LeaveCalendarCommand for the days from {@code startDate} to {@code endDate}, inclusive.
+     */
+    public LeaveCalendarCommand(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * Counts the employees on leave on each day from the model's {@code LeaveCalendar}, so that only the days
+     * with employees on leave are looked at.
+     */
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        int[] headcounts = model.getPersonIndexes().getLeaveCalendar().getHeadcounts(startDate, endDate);
+
+        StringBuilder days = new StringBuilder();
+        int daysWithLeave = 0;
+        for (int i = 0; i < headcounts.length; i++) {
+            if (headcounts[i] > 0) {
+                daysWithLeave++;
+            }
+            days.append("\n").append(String.format(MESSAGE_DAY, startDate.plusDays(i), headcounts[i]));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, startDate, endDate, daysWithLeave) + days);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof LeaveCalendarCommand // instanceof handles nulls
+                && startDate.equals(((LeaveCalendarCommand) other).startDate)
+                && endDate.equals(((LeaveCalendarCommand) other).endDate)); // state check
+    }
+}
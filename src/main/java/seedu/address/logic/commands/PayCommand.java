@@ -147,12 +147,8 @@ public class PayCommand extends Command {
         assert personsToBePaidList.size() == paidPersonsList.size();
 
         // After all payment is done successfully, replace the
-        // changed persons into the model
-        for (int i = 0; i < personsToBePaidList.size(); i++) {
-            Person personToPay = personsToBePaidList.get(i);
-            Person paidPerson = paidPersonsList.get(i);
-            model.setPerson(personToPay, paidPerson);
-        }
+        // changed persons into the model in one go
+        model.setPersons(personsToBePaidList, paidPersonsList);
 
         // View the first person in the list that has been paid
         model.setViewingPerson(paidPersonsList.get(0));
@@ -192,8 +188,8 @@ public class PayCommand extends Command {
 
         Set<Tag> tags = personToPay.getTags();
 
-        return new Person(name, phone, email, address, role, leaveBalance, leavesTaken, hourlySalary,
-                hoursWorked, overtime, newCalcPay, tags);
+        return new Person(personToPay.getEmployeeId(), name, phone, email, address, role, leaveBalance, leavesTaken,
+                hourlySalary, hoursWorked, overtime, newCalcPay, tags);
     }
 
     @Override
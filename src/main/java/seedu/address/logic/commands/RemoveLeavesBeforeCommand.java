@@ -4,12 +4,14 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.person.LeavesTaken;
 import seedu.address.model.person.Person;
 
 /**
@@ -49,11 +51,19 @@ public class RemoveLeavesBeforeCommand extends Command {
             throw new CommandException(Messages.MESSAGE_EMPTY_FILTERED_LIST);
         }
 
-        // Remove dates from all persons in the filtered list
-        for (Person personToEdit : lastShownList) {
-            Person personWithDatesRemoved = getUpdatedPerson(personToEdit);
-            model.setPerson(personToEdit, personWithDatesRemoved);
+        // Remove dates from all persons in the filtered list, then replace them into the model in one go.
+        // Persons without any dates to remove keep the same leaves taken, and are not replaced.
+        List<Person> personsToEdit = new ArrayList<>();
+        List<Person> personsWithDatesRemoved = new ArrayList<>();
+        for (Person person : lastShownList) {
+            LeavesTaken leavesTaken = person.getLeavesTaken();
+            LeavesTaken newLeavesTaken = leavesTaken.removeDatesBefore(beforeDate);
+            if (newLeavesTaken != leavesTaken) {
+                personsToEdit.add(person);
+                personsWithDatesRemoved.add(getUpdatedPerson(person, newLeavesTaken));
+            }
         }
+        model.setPersons(personsToEdit, personsWithDatesRemoved);
 
         // View the first person in the list
         Index indexOfFirstPerson = Index.fromZeroBased(0);
@@ -68,13 +78,14 @@ public class RemoveLeavesBeforeCommand extends Command {
      * Returns a {@code Person} object that is a copy of the input person, except with an updated leaves taken list.
      *
      * @param personToEdit The person object that is to be edited.
+     * @param newLeavesTaken The leaves taken of the person with the dates removed.
      * @return An updated Person object.
      */
-    private Person getUpdatedPerson(Person personToEdit) {
-        return new Person(
+    private Person getUpdatedPerson(Person personToEdit, LeavesTaken newLeavesTaken) {
+        return new Person(personToEdit.getEmployeeId(),
                 personToEdit.getName(), personToEdit.getPhone(), personToEdit.getEmail(), personToEdit.getAddress(),
                 personToEdit.getRole(), personToEdit.getLeaveBalance(),
-                personToEdit.getLeavesTaken().removeDatesBefore(beforeDate), personToEdit.getSalary(),
+                newLeavesTaken, personToEdit.getSalary(),
                 personToEdit.getHoursWorked(), personToEdit.getOvertime(), personToEdit.getCalculatedPay(),
                 personToEdit.getTags());
     }
@@ -91,12 +91,8 @@ public class StartPayrollCommand extends Command {
         assert personList.size() == calculatedPersonsList.size();
 
         // After all calculations have been successfully done,
-        // replace the persons with calculated payroll into the model
-        for (int i = 0; i < personList.size(); i++) {
-            Person personToCalculatePay = personList.get(i);
-            Person personWithPayrollDone = calculatedPersonsList.get(i);
-            model.setPerson(personToCalculatePay, personWithPayrollDone);
-        }
+        // replace the persons with calculated payroll into the model in one go
+        model.setPersons(personList, calculatedPersonsList);
 
         // View the first person in the whole list of employees
         model.setViewingPerson(model.getFilteredPersonList().get(0));
@@ -142,8 +138,8 @@ public class StartPayrollCommand extends Command {
         // New calculatedPay taken from input parameter
         Set<Tag> tags = person.getTags();
 
-        return new Person(name, phone, email, address, role, leaves, leavesTaken, hourlySalary,
-                hoursWorked, overtime, newCalculatedPay, tags);
+        return new Person(person.getEmployeeId(), name, phone, email, address, role, leaves, leavesTaken,
+                hourlySalary, hoursWorked, overtime, newCalculatedPay, tags);
     }
 
     private Person createPersonWithZeroHoursWorkedAndOvertime(Person person) {
@@ -165,8 +161,8 @@ public class StartPayrollCommand extends Command {
         CalculatedPay calculatedPay = person.getCalculatedPay();
         Set<Tag> tags = person.getTags();
 
-        return new Person(name, phone, email, address, role, leaves, leavesTaken, hourlySalary,
-                zeroHours, zeroOvertime, calculatedPay, tags);
+        return new Person(person.getEmployeeId(), name, phone, email, address, role, leaves, leavesTaken,
+                hourlySalary, zeroHours, zeroOvertime, calculatedPay, tags);
     }
 
     @Override
@@ -17,9 +17,12 @@ import seedu.address.logic.commands.DeductLeaveBalanceCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ImportCommand;
+import seedu.address.logic.commands.ImportHoursCommand;
+import seedu.address.logic.commands.LeaveCalendarCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PayCommand;
 import seedu.address.logic.commands.RemoveLeavesBeforeCommand;
@@ -92,6 +95,9 @@ public class AddressBookParser {
         case RemoveLeavesBeforeCommand.COMMAND_WORD:
             return new RemoveLeavesBeforeCommandParser().parse(arguments);
 
+        case LeaveCalendarCommand.COMMAND_WORD:
+            return new LeaveCalendarCommandParser().parse(arguments);
+
         case AddHoursWorkedCommand.COMMAND_WORD:
             return new AddHoursWorkedCommandParser().parse(arguments);
 
@@ -107,6 +113,12 @@ public class AddressBookParser {
         case ImportCommand.COMMAND_WORD:
             return new ImportCommandParser().parse(arguments);
 
+        case ImportHoursCommand.COMMAND_WORD:
+            return new ImportHoursCommandParser().parse(arguments);
+
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
+
         case ViewCommand.COMMAND_WORD:
             return new ViewCommandParser().parse(arguments);
 
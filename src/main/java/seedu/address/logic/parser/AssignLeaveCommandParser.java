@@ -3,21 +3,35 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FINDDATE_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AssignLeaveCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.LeaveBalance;
 
 /**
  * Parses input arguments and creates a new AssignLeaveCommand object.
  */
 public class AssignLeaveCommandParser implements Parser<AssignLeaveCommand> {
 
+    public static final String MESSAGE_INVALID_DATE_RANGE =
+            "The start of a date range cannot be after its end! \n%1$s";
+    public static final String MESSAGE_TOO_MANY_DATES =
+            "At most " + LeaveBalance.MAX_LEAVES + " leaves can be assigned at once! \n%1$s";
+
+    private static final String RANGE_SEPARATOR = ":";
+
     /**
      * Parses the given {@code String} of arguments in the context of the AssignLeaveCommand
      * and returns a AssignLeaveCommand object for execution.
@@ -32,29 +46,80 @@ public class AssignLeaveCommandParser implements Parser<AssignLeaveCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
                 PREFIX_DATE);
 
-        Index index;
+        String preamble = argMultimap.getPreamble();
+        Index index = null;
+        String rosterFilepath = null;
+        if (preamble.startsWith(AssignLeaveCommand.FLAG_ROSTER + " ")) {
+            rosterFilepath = preamble.substring(AssignLeaveCommand.FLAG_ROSTER.length()).trim();
+        } else if (!preamble.equals(AssignLeaveCommand.KEYWORD_ALL)) {
+            try {
+                index = ParserUtil.parseIndex(preamble);
+            } catch (IllegalValueException ive) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                        AssignLeaveCommand.MESSAGE_USAGE), ive);
+            }
+        }
 
-        try {
-            index = ParserUtil.parseIndex(argMultimap.getPreamble());
-        } catch (IllegalValueException ive) {
-            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
-                    AssignLeaveCommand.MESSAGE_USAGE), ive);
+        List<LocalDate> dates = parseDates(argMultimap.getAllValues(PREFIX_DATE));
+
+        if (index != null) {
+            return new AssignLeaveCommand(index, dates);
+        } else if (rosterFilepath != null) {
+            return new AssignLeaveCommand(rosterFilepath, dates);
+        } else {
+            return new AssignLeaveCommand(dates);
         }
+    }
 
-        String dateString = argMultimap.getValue(PREFIX_DATE).orElse("");
+    /**
+     * Parses the dates and inclusive date ranges given by the user into the dates they cover, without repeats.
+     *
+     * @param dateStrings The dates, of the form YYYY-MM-DD, and date ranges, of the form YYYY-MM-DD:YYYY-MM-DD.
+     * @return The dates covered, in ascending order.
+     * @throws ParseException if no dates are given, any of them is invalid, or they cover more dates than the
+     * maximum leave balance.
+     */
+    private static List<LocalDate> parseDates(List<String> dateStrings) throws ParseException {
         // If prefix is missing
-        if (dateString.equals("")) {
+        if (dateStrings.isEmpty() || dateStrings.contains("")) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     AssignLeaveCommand.MESSAGE_USAGE));
         }
-        LocalDate date;
+
+        Set<LocalDate> dates = new TreeSet<>();
+        for (String dateString : dateStrings) {
+            if (!dateString.contains(RANGE_SEPARATOR)) {
+                dates.add(parseDate(dateString, MESSAGE_INVALID_DATE_FORMAT));
+            } else {
+                String[] datePair = dateString.split(RANGE_SEPARATOR);
+                if (datePair.length != 2) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_FINDDATE_FORMAT,
+                            AssignLeaveCommand.MESSAGE_USAGE));
+                }
+                LocalDate startDate = parseDate(datePair[0], MESSAGE_INVALID_FINDDATE_FORMAT);
+                LocalDate endDate = parseDate(datePair[1], MESSAGE_INVALID_FINDDATE_FORMAT);
+                if (startDate.isAfter(endDate)) {
+                    throw new ParseException(String.format(MESSAGE_INVALID_DATE_RANGE,
+                            AssignLeaveCommand.MESSAGE_USAGE));
+                }
+                // Checked before the range is expanded, so that a range over many years is not built
+                if (ChronoUnit.DAYS.between(startDate, endDate) >= LeaveBalance.MAX_LEAVES) {
+                    throw new ParseException(String.format(MESSAGE_TOO_MANY_DATES, AssignLeaveCommand.MESSAGE_USAGE));
+                }
+                dates.addAll(startDate.datesUntil(endDate.plusDays(1)).collect(Collectors.toList()));
+            }
+            if (dates.size() > LeaveBalance.MAX_LEAVES) {
+                throw new ParseException(String.format(MESSAGE_TOO_MANY_DATES, AssignLeaveCommand.MESSAGE_USAGE));
+            }
+        }
+        return List.copyOf(dates);
+    }
+
+    private static LocalDate parseDate(String dateString, String errorMessage) throws ParseException {
         try {
-            date = LocalDate.parse(dateString);
+            return LocalDate.parse(dateString.trim());
         } catch (DateTimeParseException dtpe) {
-            throw new ParseException(String.format(MESSAGE_INVALID_DATE_FORMAT,
-                    AssignLeaveCommand.MESSAGE_USAGE), dtpe);
+            throw new ParseException(String.format(errorMessage, AssignLeaveCommand.MESSAGE_USAGE), dtpe);
         }
-
-        return new AssignLeaveCommand(index, date);
     }
 }
@@ -0,0 +1,46 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExportCommand object
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ExportCommand parse(String args) throws ParseException {
+        String[] input = args.split(" ");
+        int inputLength = input.length;
+        int filepathStart = 1;
+
+        boolean isAll = false;
+        boolean isJsonLines = false;
+        // The flags can be given in any order, before the filepath.
+        while (inputLength > filepathStart) {
+            if (!isAll && input[filepathStart].equals(ExportCommand.FLAG_ALL)) {
+                isAll = true;
+            } else if (!isJsonLines && input[filepathStart].equals(ExportCommand.FLAG_JSON_LINES)) {
+                isJsonLines = true;
+            } else {
+                break;
+            }
+            filepathStart++;
+        }
+
+        if (inputLength <= filepathStart) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        StringBuilder filepath = new StringBuilder(input[filepathStart]);
+        for (int i = filepathStart + 1; i < inputLength; i++) {
+            filepath.append(" ").append(input[i]);
+        }
+        return new ExportCommand(filepath.toString(), isAll, isJsonLines);
+    }
+}
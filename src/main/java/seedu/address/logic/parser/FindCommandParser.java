@@ -19,39 +19,24 @@ import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.util.Pair;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NumericField;
+import seedu.address.model.person.NumericRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.AllOfPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.HoursEqualPredicate;
-import seedu.address.model.person.predicates.HoursLessThanEqualPredicate;
-import seedu.address.model.person.predicates.HoursLessThanPredicate;
-import seedu.address.model.person.predicates.HoursMoreThanEqualPredicate;
-import seedu.address.model.person.predicates.HoursMoreThanPredicate;
-import seedu.address.model.person.predicates.LeaveEqualPredicate;
-import seedu.address.model.person.predicates.LeaveLessThanEqualPredicate;
-import seedu.address.model.person.predicates.LeaveLessThanPredicate;
-import seedu.address.model.person.predicates.LeaveMoreThanEqualPredicate;
-import seedu.address.model.person.predicates.LeaveMoreThanPredicate;
 import seedu.address.model.person.predicates.LeavesTakenContainsDatesPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.OvertimeEqualPredicate;
-import seedu.address.model.person.predicates.OvertimeLessThanEqualPredicate;
-import seedu.address.model.person.predicates.OvertimeLessThanPredicate;
-import seedu.address.model.person.predicates.OvertimeMoreThanEqualPredicate;
-import seedu.address.model.person.predicates.OvertimeMoreThanPredicate;
+import seedu.address.model.person.predicates.NumericComparisonPredicate;
 import seedu.address.model.person.predicates.PersonIsPaidPredicate;
 import seedu.address.model.person.predicates.PhoneNumberMatchesPredicate;
 import seedu.address.model.person.predicates.RoleContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.SalaryIsEqualPredicate;
-import seedu.address.model.person.predicates.SalaryIsLessThanEqualPredicate;
-import seedu.address.model.person.predicates.SalaryIsLessThanPredicate;
-import seedu.address.model.person.predicates.SalaryIsMoreThanEqualPredicate;
-import seedu.address.model.person.predicates.SalaryIsMoreThanPredicate;
 import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 
 /**
@@ -65,19 +50,31 @@ public class FindCommandParser implements Parser<FindCommand> {
 
     private static final String UNPAID_PREDICATE_KEYWORD = "unpaid";
 
+    // Salaries are 2 d.p., so a salary equal to a value is one within a cent of it
+    private static final double SALARY_TOLERANCE = 0.01;
+
+    /** Prefixes of the fields that can be searched, in the order their conditions are added to the filters. */
+    private static final List<Prefix> FIND_PREFIXES = List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_TAG, PREFIX_EMAIL,
+            PREFIX_ADDRESS, PREFIX_ROLE, PREFIX_DATE, PREFIX_HOURLYSALARY, PREFIX_OVERTIME, PREFIX_LEAVE,
+            PREFIX_HOURSWORKED);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindCommand
      * and returns a FindCommand object for execution.
+     * Arguments using {@code AND}, {@code OR}, {@code NOT} or parentheses between conditions are parsed as a find
+     * expression.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
         String trimmedArgs = args.trim();
+        FindExpressionParser expressionParser =
+                new FindExpressionParser(FIND_PREFIXES, List.of(UNPAID_PREDICATE_KEYWORD), this::parseCondition);
+        if (expressionParser.isExpression(trimmedArgs)) {
+            return parseExpression(expressionParser, trimmedArgs);
+        }
 
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_ROLE,
-                        PREFIX_LEAVE, PREFIX_DATE, PREFIX_HOURLYSALARY, PREFIX_HOURSWORKED, PREFIX_TAG,
-                        PREFIX_OVERTIME);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, FIND_PREFIXES.toArray(new Prefix[0]));
 
         String preamble = argMultimap.getPreamble().trim();
         if (trimmedArgs.isEmpty() && preamble.isEmpty()) {
@@ -85,7 +82,11 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
-        if (!preamble.isBlank() && !preamble.equals(UNPAID_PREDICATE_KEYWORD)) { // preamble that is not 'unpaid'
+        // The preamble may only hold 'unpaid' and the explain flag, each at most once
+        List<String> preambleWords = preamble.isEmpty() ? List.of() : Arrays.asList(preamble.split("\\s+"));
+        boolean isUnpaid = preambleWords.contains(UNPAID_PREDICATE_KEYWORD);
+        boolean isExplain = preambleWords.contains(FindCommand.FLAG_EXPLAIN);
+        if (preambleWords.size() != (isUnpaid ? 1 : 0) + (isExplain ? 1 : 0)) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
@@ -93,82 +94,83 @@ public class FindCommandParser implements Parser<FindCommand> {
         ArrayList<Predicate<Person>> filters = new ArrayList<>();
 
         // Check if prefix exists and add the relevant predicate into the list of filters
-        if (preamble.equals(UNPAID_PREDICATE_KEYWORD)) {
+        if (isUnpaid) {
             filters.add(new PersonIsPaidPredicate());
         }
-        if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
-            String nameKeywordValue = argMultimap.getValue(PREFIX_NAME).get();
-            checkNotBlankValue(nameKeywordValue);
-            String[] nameKeywords = nameKeywordValue.split("\\s+");
-            filters.add(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_PHONE).isPresent()) {
-            String phoneKeywordValue = argMultimap.getValue(PREFIX_PHONE).get();
-            checkNotBlankValue(phoneKeywordValue);
-            String[] phoneKeyNumbers = phoneKeywordValue.split("\\s+");
-            filters.add(new PhoneNumberMatchesPredicate(Arrays.asList(phoneKeyNumbers)));
-        }
-        if (argMultimap.getValue(PREFIX_TAG).isPresent()) {
-            String tagKeywordValue = argMultimap.getValue(PREFIX_TAG).get();
-            checkNotBlankValue(tagKeywordValue);
-            String[] tagKeywords = tagKeywordValue.split("\\s+");
-            filters.add(new TagContainsKeywordsPredicate(Arrays.asList(tagKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_EMAIL).isPresent()) {
-            String emailKeywordValue = argMultimap.getValue(PREFIX_EMAIL).get();
-            checkNotBlankValue(emailKeywordValue);
-            String[] emailKeywords = emailKeywordValue.split("\\s+");
-            filters.add(new EmailContainsKeywordsPredicate(Arrays.asList(emailKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_ADDRESS).isPresent()) {
-            String addressKeywordValue = argMultimap.getValue(PREFIX_ADDRESS).get();
-            checkNotBlankValue(addressKeywordValue);
-            String[] addressKeywords = addressKeywordValue.split("\\s+");
-            filters.add(new AddressContainsKeywordsPredicate(Arrays.asList(addressKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_ROLE).isPresent()) {
-            String roleKeywordValue = argMultimap.getValue(PREFIX_ROLE).get();
-            checkNotBlankValue(roleKeywordValue);
-            String[] roleKeywords = roleKeywordValue.split("\\s+");
-            filters.add(new RoleContainsKeywordsPredicate(Arrays.asList(roleKeywords)));
-        }
-        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
-            String[] dateStrings = argMultimap.getValue(PREFIX_DATE).get().split("\\s+");
-            Predicate<Person> leavesTakenPredicate = getLeavesTakenPredicate(dateStrings);
-            filters.add(leavesTakenPredicate);
-        }
-        if (argMultimap.getValue(PREFIX_HOURLYSALARY).isPresent()) {
-            String keyValue = argMultimap.getValue(PREFIX_HOURLYSALARY).get();
-            Predicate<Person> personPredicate = getSalaryComparisonPredicate(keyValue);
-            filters.add(personPredicate);
-        }
-        if (argMultimap.getValue(PREFIX_OVERTIME).isPresent()) {
-            String keyValue = argMultimap.getValue(PREFIX_OVERTIME).get();
-            Predicate<Person> personPredicate = getOvertimeComparisonPredicate(keyValue);
-            filters.add(personPredicate);
-        }
-        if (argMultimap.getValue(PREFIX_LEAVE).isPresent()) {
-            String keyValue = argMultimap.getValue(PREFIX_LEAVE).get();
-            Predicate<Person> personPredicate = getLeaveComparisonPredicate(keyValue);
-            filters.add(personPredicate);
+        for (Prefix prefix : FIND_PREFIXES) {
+            Optional<String> value = argMultimap.getValue(prefix);
+            if (value.isPresent()) {
+                filters.add(parseCondition(prefix, value.get()));
+            }
         }
-        if (argMultimap.getValue(PREFIX_HOURSWORKED).isPresent()) {
-            String keyValue = argMultimap.getValue(PREFIX_HOURSWORKED).get();
-            Predicate<Person> personPredicate = getHoursComparisonPredicate(keyValue);
-            filters.add(personPredicate);
+        if (filters.isEmpty()) {
+            // only the explain flag provided to the command
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return new FindCommand(combinePredicates(filters));
+        return new FindCommand(filters, isExplain);
     }
 
     /**
-     * Combines the list of predicates in a list to a single predicate for the FindCommand to take in
+     * Parses arguments holding a find expression, which may start with the explain flag.
+     * A person must satisfy every condition joined by {@code AND} at the top of the expression, so they are given
+     * to the FindCommand as separate filters, for it to plan their order.
+     */
+    private FindCommand parseExpression(FindExpressionParser expressionParser, String trimmedArgs)
+            throws ParseException {
+        boolean isExplain = trimmedArgs.startsWith(FindCommand.FLAG_EXPLAIN + " ");
+        String expressionArgs = isExplain ? trimmedArgs.substring(FindCommand.FLAG_EXPLAIN.length()) : trimmedArgs;
+        Predicate<Person> expression = expressionParser.parse(expressionArgs);
+        List<Predicate<Person>> filters = expression instanceof AllOfPredicate
+                ? ((AllOfPredicate) expression).getOperands()
+                : List.of(expression);
+        return new FindCommand(filters, isExplain);
+    }
+
+    /**
+     * Parses a single condition given by the user into the predicate that checks it.
      *
-     * @param predicateList The list of predicates to combine
+     * @param prefix The prefix of the field the condition is on, or null for a status keyword.
+     * @param value The value given after the prefix, or the status keyword.
+     * @throws ParseException if the condition is invalid
      */
-    private Predicate<Person> combinePredicates(List<Predicate<Person>> predicateList) {
-        return predicateList.stream()
-                .reduce(x -> true, (predicate1, predicate2) -> predicate1.and(predicate2));
+    private Predicate<Person> parseCondition(Prefix prefix, String value) throws ParseException {
+        if (prefix == null) {
+            if (!value.equals(UNPAID_PREDICATE_KEYWORD)) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            return new PersonIsPaidPredicate();
+        }
+        if (prefix.equals(PREFIX_DATE)) {
+            return getLeavesTakenPredicate(value.split("\\s+"));
+        } else if (prefix.equals(PREFIX_HOURLYSALARY)) {
+            return getComparisonPredicate(NumericField.SALARY, value, false);
+        } else if (prefix.equals(PREFIX_OVERTIME)) {
+            return getComparisonPredicate(NumericField.OVERTIME, value, true);
+        } else if (prefix.equals(PREFIX_LEAVE)) {
+            return getComparisonPredicate(NumericField.LEAVE_BALANCE, value, true);
+        } else if (prefix.equals(PREFIX_HOURSWORKED)) {
+            return getComparisonPredicate(NumericField.HOURS_WORKED, value, true);
+        }
+
+        checkNotBlankValue(value);
+        List<String> keywords = Arrays.asList(value.split("\\s+"));
+        if (prefix.equals(PREFIX_NAME)) {
+            return new NameContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return new PhoneNumberMatchesPredicate(keywords);
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return new TagContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new EmailContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return new AddressContainsKeywordsPredicate(keywords);
+        } else if (prefix.equals(PREFIX_ROLE)) {
+            return new RoleContainsKeywordsPredicate(keywords);
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
     /**
@@ -208,32 +210,27 @@ public class FindCommandParser implements Parser<FindCommand> {
     }
 
     /**
-     * Used for parsing the input given by the user for finding with respect to salary
+     * Used for parsing the input given by the user for finding with respect to a numeric field.
      *
-     * @param input A string describing the condition for the salary of the person.
+     * @param field The field the condition is on.
+     * @param input A string describing the condition for the field of the person.
      *              It should take the form of (comparator)(number), where the comparator is any of:
      *              ">", "<", ">=", "<=", "="
      *              Valid examples: >=5, <3.25, =6.00
      *              Invalid examples: =>5, ==4.50, 6
+     * @param isWholeNumber Whether the field only holds whole numbers, so the number must be one too.
      * @return A Predicate which checks if the person passes the given condition as described in the input.
      */
-    private Predicate<Person> getSalaryComparisonPredicate(String input) throws ParseException {
+    private Predicate<Person> getComparisonPredicate(NumericField field, String input, boolean isWholeNumber)
+            throws ParseException {
         try {
             CompareType compareType = parseComparator(input);
-            double value = Double.parseDouble(getComparisonValue(input, compareType));
-            if (compareType == CompareType.MORE_THAN) {
-                return new SalaryIsMoreThanPredicate(value);
-            } else if (compareType == CompareType.MORE_THAN_EQUAL) {
-                return new SalaryIsMoreThanEqualPredicate(value);
-            } else if (compareType == CompareType.EQUAL) {
-                return new SalaryIsEqualPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN) {
-                return new SalaryIsLessThanPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN_EQUAL) {
-                return new SalaryIsLessThanEqualPredicate(value);
-            } else {
-                throw new ParseException("Invalid comparison type!");
+            String valueString = getComparisonValue(input, compareType);
+            double value = isWholeNumber ? Integer.parseInt(valueString) : Double.parseDouble(valueString);
+            if (!Double.isFinite(value)) {
+                throw new ParseException("Value must be a finite number!");
             }
+            return new NumericComparisonPredicate(field, getComparisonRange(field, compareType, value));
         } catch (NumberFormatException | StringIndexOutOfBoundsException | ParseException e) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
@@ -241,89 +238,22 @@ public class FindCommandParser implements Parser<FindCommand> {
     }
 
     /**
-     * Used for parsing the input given by the user for finding with respect to overtime.
-     *
-     * @param input A string describing the condition for the overtime of the person.
-     * @return A Predicate which checks if the person passes the given condition as described in the input.
+     * Returns the range of values of {@code field} that compare to {@code value} as {@code compareType} asks.
      */
-    private Predicate<Person> getOvertimeComparisonPredicate(String input) throws ParseException {
-        try {
-            CompareType compareType = parseComparator(input);
-            int value = Integer.parseInt(getComparisonValue(input, compareType));
-            if (compareType == CompareType.MORE_THAN) {
-                return new OvertimeMoreThanPredicate(value);
-            } else if (compareType == CompareType.MORE_THAN_EQUAL) {
-                return new OvertimeMoreThanEqualPredicate(value);
-            } else if (compareType == CompareType.EQUAL) {
-                return new OvertimeEqualPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN) {
-                return new OvertimeLessThanPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN_EQUAL) {
-                return new OvertimeLessThanEqualPredicate(value);
-            } else {
-                throw new ParseException("Invalid comparison type!");
-            }
-        } catch (NumberFormatException | StringIndexOutOfBoundsException | ParseException e) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-        }
-    }
-
-    /**
-     * Used for parsing the input given by the user for finding with respect to leaves.
-     *
-     * @param input A string describing the condition for the overtime of the person.
-     * @return A Predicate which checks if the person passes the given condition as described in the input.
-     */
-    private Predicate<Person> getLeaveComparisonPredicate(String input) throws ParseException {
-        try {
-            CompareType compareType = parseComparator(input);
-            int value = Integer.parseInt(getComparisonValue(input, compareType));
-            if (compareType == CompareType.MORE_THAN) {
-                return new LeaveMoreThanPredicate(value);
-            } else if (compareType == CompareType.MORE_THAN_EQUAL) {
-                return new LeaveMoreThanEqualPredicate(value);
-            } else if (compareType == CompareType.EQUAL) {
-                return new LeaveEqualPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN) {
-                return new LeaveLessThanPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN_EQUAL) {
-                return new LeaveLessThanEqualPredicate(value);
-            } else {
-                throw new ParseException("Invalid comparison type!");
-            }
-        } catch (NumberFormatException | StringIndexOutOfBoundsException | ParseException e) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
-        }
-    }
-
-    /**
-     * Used for parsing the input given by the user for finding with respect to leaves.
-     *
-     * @param input A string describing the condition for the overtime of the person.
-     * @return A Predicate which checks if the person passes the given condition as described in the input.
-     */
-    private Predicate<Person> getHoursComparisonPredicate(String input) throws ParseException {
-        try {
-            CompareType compareType = parseComparator(input);
-            int value = Integer.parseInt(getComparisonValue(input, compareType));
-            if (compareType == CompareType.MORE_THAN) {
-                return new HoursMoreThanPredicate(value);
-            } else if (compareType == CompareType.MORE_THAN_EQUAL) {
-                return new HoursMoreThanEqualPredicate(value);
-            } else if (compareType == CompareType.EQUAL) {
-                return new HoursEqualPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN) {
-                return new HoursLessThanPredicate(value);
-            } else if (compareType == CompareType.LESS_THAN_EQUAL) {
-                return new HoursLessThanEqualPredicate(value);
-            } else {
-                throw new ParseException("Invalid comparison type!");
-            }
-        } catch (NumberFormatException | StringIndexOutOfBoundsException | ParseException e) {
-            throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    private static NumericRange getComparisonRange(NumericField field, CompareType compareType, double value) {
+        switch (compareType) {
+        case MORE_THAN:
+            return NumericRange.moreThan(value);
+        case MORE_THAN_EQUAL:
+            return NumericRange.moreThanEqual(value);
+        case LESS_THAN:
+            return NumericRange.lessThan(value);
+        case LESS_THAN_EQUAL:
+            return NumericRange.lessThanEqual(value);
+        default:
+            return field == NumericField.SALARY
+                    ? new NumericRange(value - SALARY_TOLERANCE, false, value + SALARY_TOLERANCE, false)
+                    : NumericRange.equal(value);
         }
     }
 
@@ -0,0 +1,305 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.AllOfPredicate;
+import seedu.address.model.person.predicates.AnyOfPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+
+/**
+ * Parses a find expression, made of conditions joined by {@code AND}, {@code OR} and {@code NOT} and grouped by
+ * parentheses, into a single predicate. Conditions next to each other without an operator are joined by {@code AND},
+ * so the usual find arguments are also a find expression.
+ * Operators and parentheses are only recognised between conditions, that is when they are not part of the value of a
+ * condition: within a value, they are only operators if a condition follows them, and a closing parenthesis only
+ * closes a group if it is not matched by an opening parenthesis in the value. So {@code a/Blk 5 (Lift B)} and
+ * {@code n/Ng OR} each hold a single condition.
+ * <pre>
+ *     expression := term ("OR" term)*
+ *     term       := factor ["AND"] factor ...
+ *     factor     := "NOT" factor | "(" expression ")" | condition
+ *     condition  := PREFIX VALUE... | "unpaid"
+ * </pre>
+ */
+public class FindExpressionParser {
+
+    public static final String OPERATOR_AND = "AND";
+    public static final String OPERATOR_OR = "OR";
+    public static final String OPERATOR_NOT = "NOT";
+    public static final String OPEN_PARENTHESIS = "(";
+    public static final String CLOSE_PARENTHESIS = ")";
+
+    /**
+     * Parses a single condition of a find expression.
+     */
+    @FunctionalInterface
+    public interface ConditionParser {
+        /**
+         * Parses the condition {@code value} of {@code prefix}, or the status keyword {@code value} if {@code prefix}
+         * is null, into a predicate.
+         *
+         * @throws ParseException if the condition is invalid
+         */
+        Predicate<Person> parse(Prefix prefix, String value) throws ParseException;
+    }
+
+    private final List<Prefix> prefixes;
+    private final List<String> keywords;
+    private final ConditionParser conditionParser;
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a FindExpressionParser that recognises conditions starting with any of {@code prefixes}, or made of one
+     * of the status {@code keywords}, and parses them with {@code conditionParser}.
+     */
+    public FindExpressionParser(List<Prefix> prefixes, List<String> keywords, ConditionParser conditionParser) {
+        requireNonNull(prefixes);
+        requireNonNull(keywords);
+        requireNonNull(conditionParser);
+        this.prefixes = List.copyOf(prefixes);
+        this.keywords = List.copyOf(keywords);
+        this.conditionParser = conditionParser;
+    }
+
+    /**
+     * Returns true if {@code args} uses any operator or parenthesis between its conditions, and so is only understood
+     * as a find expression.
+     */
+    public boolean isExpression(String args) {
+        requireNonNull(args);
+        for (String token : tokenize(args)) {
+            if (isOperator(token)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code args} into a predicate that a person passes exactly when they satisfy the expression.
+     *
+     * @throws ParseException if {@code args} is not a valid find expression
+     */
+    public Predicate<Person> parse(String args) throws ParseException {
+        requireNonNull(args);
+        tokens = tokenize(args);
+        position = 0;
+        Predicate<Person> expression = parseExpression();
+        if (position != tokens.size()) {
+            throw invalidExpression();
+        }
+        return expression;
+    }
+
+    /**
+     * Splits {@code args} into operators, parentheses and conditions. Each condition is a single token, made of its
+     * prefix followed by the words of its value, or of a status keyword.
+     */
+    private List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        String[] words = args.trim().split("\\s+");
+        int groupDepth = 0;
+        // The condition being read, which has a prefix, and the parentheses left open within its value
+        StringBuilder condition = null;
+        int valueDepth = 0;
+        for (int i = 0; i < words.length; i++) {
+            String word = words[i];
+            if (condition != null && !isBeforeCondition(words, i)) {
+                int closeCount = countClosingParentheses(word, valueDepth, groupDepth);
+                valueDepth = Math.max(valueDepth + countParenthesesBalance(word) + closeCount, 0);
+                condition.append(' ').append(word, 0, word.length() - closeCount);
+                if (closeCount > 0) {
+                    tokens.add(condition.toString());
+                    condition = null;
+                    groupDepth -= addCloseParentheses(tokens, closeCount);
+                }
+                continue;
+            }
+            if (condition != null) {
+                tokens.add(condition.toString());
+                condition = null;
+            }
+            if (isOperatorWord(word)) {
+                tokens.add(word);
+                continue;
+            }
+            int start = 0;
+            while (start < word.length() && word.startsWith(OPEN_PARENTHESIS, start)) {
+                tokens.add(OPEN_PARENTHESIS);
+                groupDepth++;
+                start++;
+            }
+            if (start == word.length()) {
+                continue;
+            }
+            String conditionWord = word.substring(start);
+            int closeCount = countClosingParentheses(conditionWord, 0, groupDepth);
+            if (findPrefix(conditionWord).isPresent()) {
+                condition = new StringBuilder(conditionWord.substring(0, conditionWord.length() - closeCount));
+                valueDepth = Math.max(countParenthesesBalance(conditionWord) + closeCount, 0);
+                if (closeCount == 0) {
+                    continue;
+                }
+                tokens.add(condition.toString());
+                condition = null;
+            } else if (closeCount < conditionWord.length()) {
+                tokens.add(conditionWord.substring(0, conditionWord.length() - closeCount));
+            }
+            groupDepth -= addCloseParentheses(tokens, closeCount);
+        }
+        if (condition != null) {
+            tokens.add(condition.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * Returns true if the words from {@code words[index]} start a new condition, either directly with a prefix, or
+     * after operators and opening parentheses with a prefix or a status keyword.
+     */
+    private boolean isBeforeCondition(String[] words, int index) {
+        for (int i = index; i < words.length; i++) {
+            String word = isOperatorWord(words[i]) ? "" : stripOpenParentheses(words[i]);
+            if (word.isEmpty()) {
+                continue;
+            }
+            boolean isAfterOperator = i > index || word.length() < words[index].length();
+            return findPrefix(word).isPresent()
+                    || isAfterOperator && keywords.contains(word.replaceAll("\\" + CLOSE_PARENTHESIS + "+$", ""));
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of parentheses at the end of {@code word} that close groups, out of the {@code groupDepth}
+     * groups open, once those matching the {@code valueDepth} parentheses open in the value and within
+     * {@code word} itself are left to the value.
+     */
+    private static int countClosingParentheses(String word, int valueDepth, int groupDepth) {
+        int trailingCount = 0;
+        while (trailingCount < word.length()
+                && word.startsWith(CLOSE_PARENTHESIS, word.length() - trailingCount - 1)) {
+            trailingCount++;
+        }
+        String rest = word.substring(0, word.length() - trailingCount);
+        int openCount = Math.max(valueDepth + countParenthesesBalance(rest), 0);
+        return Math.min(Math.max(trailingCount - openCount, 0), groupDepth);
+    }
+
+    /**
+     * Returns the number of opening parentheses in {@code word} less the number of closing parentheses in it.
+     */
+    private static int countParenthesesBalance(String word) {
+        int balance = 0;
+        for (char c : word.toCharArray()) {
+            if (c == OPEN_PARENTHESIS.charAt(0)) {
+                balance++;
+            } else if (c == CLOSE_PARENTHESIS.charAt(0)) {
+                balance--;
+            }
+        }
+        return balance;
+    }
+
+    private static int addCloseParentheses(List<String> tokens, int count) {
+        for (int i = 0; i < count; i++) {
+            tokens.add(CLOSE_PARENTHESIS);
+        }
+        return count;
+    }
+
+    private static String stripOpenParentheses(String word) {
+        int start = 0;
+        while (start < word.length() && word.startsWith(OPEN_PARENTHESIS, start)) {
+            start++;
+        }
+        return word.substring(start);
+    }
+
+    private static boolean isOperatorWord(String word) {
+        return word.equals(OPERATOR_AND) || word.equals(OPERATOR_OR) || word.equals(OPERATOR_NOT);
+    }
+
+    private static boolean isOperator(String token) {
+        return token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR) || token.equals(OPERATOR_NOT)
+                || token.equals(OPEN_PARENTHESIS) || token.equals(CLOSE_PARENTHESIS);
+    }
+
+    private Predicate<Person> parseExpression() throws ParseException {
+        List<Predicate<Person>> terms = new ArrayList<>();
+        terms.add(parseTerm());
+        while (accept(OPERATOR_OR)) {
+            terms.add(parseTerm());
+        }
+        return terms.size() == 1 ? terms.get(0) : new AnyOfPredicate(terms);
+    }
+
+    private Predicate<Person> parseTerm() throws ParseException {
+        List<Predicate<Person>> factors = new ArrayList<>();
+        factors.add(parseFactor());
+        while (position < tokens.size() && !peek(OPERATOR_OR) && !peek(CLOSE_PARENTHESIS)) {
+            accept(OPERATOR_AND);
+            factors.add(parseFactor());
+        }
+        return factors.size() == 1 ? factors.get(0) : new AllOfPredicate(factors);
+    }
+
+    private Predicate<Person> parseFactor() throws ParseException {
+        if (accept(OPERATOR_NOT)) {
+            return NotPredicate.negate(parseFactor());
+        }
+        if (accept(OPEN_PARENTHESIS)) {
+            Predicate<Person> expression = parseExpression();
+            if (!accept(CLOSE_PARENTHESIS)) {
+                throw invalidExpression();
+            }
+            return expression;
+        }
+        return parseCondition();
+    }
+
+    /**
+     * Parses a prefix and its value, or a status keyword.
+     */
+    private Predicate<Person> parseCondition() throws ParseException {
+        if (position == tokens.size() || isOperator(tokens.get(position))) {
+            throw invalidExpression();
+        }
+        String condition = tokens.get(position++);
+        Optional<Prefix> prefix = findPrefix(condition);
+        if (prefix.isEmpty()) {
+            return conditionParser.parse(null, condition);
+        }
+        return conditionParser.parse(prefix.get(), condition.substring(prefix.get().getPrefix().length()).trim());
+    }
+
+    private Optional<Prefix> findPrefix(String word) {
+        return prefixes.stream().filter(prefix -> word.startsWith(prefix.getPrefix())).findFirst();
+    }
+
+    private boolean peek(String token) {
+        return position < tokens.size() && tokens.get(position).equals(token);
+    }
+
+    private boolean accept(String token) {
+        if (peek(token)) {
+            position++;
+            return true;
+        }
+        return false;
+    }
+
+    private static ParseException invalidExpression() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+}
@@ -19,16 +19,31 @@ public class ImportCommandParser implements Parser<ImportCommand> {
         String[] input = args.split(" ");
         StringBuffer filepath;
         int inputLength = input.length;
+        int filepathStart = 1;
 
-        if (inputLength <= 1) {
+        boolean isFullReport = false;
+        boolean isMerge = false;
+        // The flags can be given in any order, before the filepath.
+        while (inputLength > filepathStart) {
+            if (!isFullReport && input[filepathStart].equals(ImportCommand.FLAG_FULL_REPORT)) {
+                isFullReport = true;
+            } else if (!isMerge && input[filepathStart].equals(ImportCommand.FLAG_MERGE)) {
+                isMerge = true;
+            } else {
+                break;
+            }
+            filepathStart++;
+        }
+
+        if (inputLength <= filepathStart) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE));
         } else {
-            filepath = new StringBuffer(input[1]);
-            for (int i = 2; i < inputLength; i++) {
+            filepath = new StringBuffer(input[filepathStart]);
+            for (int i = filepathStart + 1; i < inputLength; i++) {
                 // StringBuffer.append has lower runtime than String.concat
                 filepath = filepath.append(" ").append(input[i]);
             }
         }
-        return new ImportCommand(filepath.toString());
+        return new ImportCommand(filepath.toString(), isFullReport, isMerge);
     }
 }
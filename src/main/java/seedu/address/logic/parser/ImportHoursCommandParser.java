@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ImportHoursCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ImportHoursCommand object
+ */
+public class ImportHoursCommandParser implements Parser<ImportHoursCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ImportHoursCommand
+     * and returns an ImportHoursCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ImportHoursCommand parse(String args) throws ParseException {
+        // The filepath may contain spaces, so everything after the command word is the filepath.
+        String filepath = args.strip();
+        if (filepath.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportHoursCommand.MESSAGE_USAGE));
+        }
+        return new ImportHoursCommand(filepath);
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FINDDATE_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+import seedu.address.logic.commands.LeaveCalendarCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new LeaveCalendarCommand object.
+ */
+public class LeaveCalendarCommandParser implements Parser<LeaveCalendarCommand> {
+
+    public static final String MESSAGE_TOO_MANY_DAYS =
+            "At most " + LeaveCalendarCommand.MAX_DAYS + " days can be shown at once! \n%1$s";
+
+    private static final String RANGE_SEPARATOR = ":";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the LeaveCalendarCommand
+     * and returns a LeaveCalendarCommand object for execution.
+     *
+     * @param args A string representing the user's input.
+     * @return A new LeaveCalendarCommand object.
+     * @throws ParseException if the user input does not conform to the expected format,
+     *                        an invalid date input is given, or the range is too long.
+     */
+    public LeaveCalendarCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
+                PREFIX_DATE);
+
+        String dateString = argMultimap.getValue(PREFIX_DATE).orElse("").trim();
+        // If prefix is missing
+        if (!argMultimap.getPreamble().isEmpty() || dateString.equals("")) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    LeaveCalendarCommand.MESSAGE_USAGE));
+        }
+
+        String[] datePair = dateString.split(RANGE_SEPARATOR, -1);
+        if (datePair.length > 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FINDDATE_FORMAT,
+                    LeaveCalendarCommand.MESSAGE_USAGE));
+        }
+        LocalDate startDate = parseDate(datePair[0]);
+        LocalDate endDate = datePair.length == 1 ? startDate : parseDate(datePair[1]);
+        if (startDate.isAfter(endDate)) {
+            throw new ParseException(String.format(AssignLeaveCommandParser.MESSAGE_INVALID_DATE_RANGE,
+                    LeaveCalendarCommand.MESSAGE_USAGE));
+        }
+        if (ChronoUnit.DAYS.between(startDate, endDate) >= LeaveCalendarCommand.MAX_DAYS) {
+            throw new ParseException(String.format(MESSAGE_TOO_MANY_DAYS, LeaveCalendarCommand.MESSAGE_USAGE));
+        }
+
+        return new LeaveCalendarCommand(startDate, endDate);
+    }
+
+    private static LocalDate parseDate(String dateString) throws ParseException {
+        try {
+            return LocalDate.parse(dateString.trim());
+        } catch (DateTimeParseException dtpe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FINDDATE_FORMAT,
+                    LeaveCalendarCommand.MESSAGE_USAGE), dtpe);
+        }
+    }
+}
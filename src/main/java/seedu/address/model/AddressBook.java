@@ -6,6 +6,7 @@ import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -47,6 +48,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         this.persons.setPersons(persons);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * as a single change to the person list.
+     * Every target must exist in the address book.
+     * The person identities after all replacements must still be unique in the address book.
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireNonNull(editedPersons);
+
+        persons.setPersons(targets, editedPersons);
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * and adds {@code newPersons} to the address book, as a single change to the person list.
+     * Every target must exist in the address book.
+     * The person identities after all changes must still be unique in the address book.
+     */
+    public void mergePersons(List<Person> targets, List<Person> editedPersons, List<Person> newPersons) {
+        requireNonNull(editedPersons);
+        requireNonNull(newPersons);
+
+        persons.mergePersons(targets, editedPersons, newPersons);
+    }
+
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
      */
@@ -109,6 +135,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
     }
 
+    /**
+     * Returns the secondary indexes of the persons in the address book.
+     */
+    public PersonIndexes getPersonIndexes() {
+        return persons.getPersonIndexes();
+    }
+
     //// util methods
 
     @Override
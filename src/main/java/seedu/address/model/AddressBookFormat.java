@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Represents the format that the address book data file is stored in.
+ */
+public enum AddressBookFormat {
+    /** Human-readable json, with a journal of recent changes. */
+    JSON,
+    /** Compact binary snapshot that is faster to load. */
+    BINARY
+}
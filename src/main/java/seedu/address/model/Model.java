@@ -1,12 +1,14 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.ObservablePerson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 
 /**
  * The API of the Model component.
@@ -97,6 +99,28 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * as a single change to the address book.
+     * Every target must exist in the address book.
+     * The person identities after all replacements must still be unique in the address book.
+     */
+    void setPersons(List<Person> targets, List<Person> editedPersons);
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * and adds {@code newPersons} to the address book, as a single change to the address book.
+     * Every target must exist in the address book.
+     * The person identities after all changes must still be unique in the address book.
+     */
+    void mergePersons(List<Person> targets, List<Person> editedPersons, List<Person> newPersons);
+
+    /**
+     * Returns the secondary indexes of the persons in the address book, such as its leave calendar, which are kept
+     * up to date with it.
+     */
+    PersonIndexes getPersonIndexes();
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
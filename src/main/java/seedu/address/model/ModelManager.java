@@ -4,7 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -12,8 +17,10 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.person.ObservablePerson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -148,6 +155,26 @@ public class ModelManager implements Model {
         addressBook.setPerson(target, editedPerson);
     }
 
+    @Override
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        requireAllNonNull(targets, editedPersons);
+
+        addressBook.setPersons(targets, editedPersons);
+    }
+
+    @Override
+    public void mergePersons(List<Person> targets, List<Person> editedPersons, List<Person> newPersons) {
+        requireAllNonNull(targets, editedPersons, newPersons);
+
+        addressBook.mergePersons(targets, editedPersons, newPersons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public PersonIndexes getPersonIndexes() {
+        return addressBook.getPersonIndexes();
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -162,7 +189,32 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        ObservableList<Person> persons = addressBook.getPersonList();
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS || persons.size() <= userPrefs.getParallelFilterThreshold()) {
+            filteredPersons.setPredicate(predicate);
+        } else {
+            filteredPersons.setPredicate(testInParallel(persons, predicate));
+        }
+    }
+
+    /**
+     * Tests {@code predicate} on every person in {@code persons} on several threads, and returns a predicate with
+     * the same results, which only checks whether a person was among those that passed.
+     * Once the persons change, the results may be stale, so it falls back to testing {@code predicate}.
+     */
+    private Predicate<Person> testInParallel(List<Person> persons, Predicate<Person> predicate) {
+        BitSet matches = CollectionUtil.testInParallel(persons, predicate);
+        // Persons are immutable, so the same person object always has the same result
+        Set<Person> matchedPersons = Collections.newSetFromMap(new IdentityHashMap<>(matches.cardinality()));
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            matchedPersons.add(persons.get(i));
+        }
+
+        PersonIndexes indexes = addressBook.getPersonIndexes();
+        int modificationCount = indexes.getModificationCount();
+        return person -> indexes.getModificationCount() == modificationCount
+                ? matchedPersons.contains(person)
+                : predicate.test(person);
     }
 
     @Override
@@ -13,5 +13,9 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
     OvertimePayRate getOvertimePayRate();
+
+    int getParallelFilterThreshold();
 }
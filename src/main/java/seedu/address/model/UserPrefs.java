@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,9 +14,14 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Number of employees above which the employee list is filtered on several threads. */
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20000;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "HeRon.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
     private OvertimePayRate overtimePayRate = new OvertimePayRate();
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,7 +43,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
         setOvertimePayRate(newUserPrefs.getOvertimePayRate());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
     }
 
     public GuiSettings getGuiSettings() {
@@ -58,6 +66,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
     public OvertimePayRate getOvertimePayRate() {
         return overtimePayRate;
     }
@@ -67,6 +84,18 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.overtimePayRate = overtimePayRate;
     }
 
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the number of employees above which the employee list is filtered on several threads.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        checkArgument(parallelFilterThreshold >= 0, "The parallel filter threshold cannot be negative.");
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +109,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && addressBookFilePath.equals(o.addressBookFilePath)
-                && overtimePayRate.equals(o.getOvertimePayRate());
+                && addressBookFormat == o.addressBookFormat
+                && overtimePayRate.equals(o.getOvertimePayRate())
+                && parallelFilterThreshold == o.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, parallelFilterThreshold);
     }
 
     @Override
@@ -93,6 +124,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
         return sb.toString();
     }
 
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -19,6 +23,12 @@ public class Address {
 
     public final String value;
 
+    /** The address in lower case. */
+    private final String lowerCaseValue;
+
+    /** The lower-case words of the address. */
+    private final Set<String> tokens;
+
     /**
      * Constructs an {@code Address}.
      *
@@ -28,6 +38,22 @@ public class Address {
         requireNonNull(address);
         checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
+        lowerCaseValue = value.toLowerCase();
+        tokens = StringUtil.toLowerCaseWords(value);
+    }
+
+    /**
+     * Returns the address in lowercase.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
+    /**
+     * Returns the distinct lowercased words of the address.
+     */
+    public Set<String> getTokens() {
+        return tokens;
     }
 
     /**
@@ -24,6 +24,16 @@ public class CalculatedPay {
         this.value = Double.parseDouble(amount);
     }
 
+    /**
+     * Constructs a {@code CalculatedPay} from an amount that has already been parsed.
+     *
+     * @param amount A valid calculated pay.
+     */
+    public CalculatedPay(double amount) {
+        checkArgument(amount >= 0 && StringUtil.hasDpWithinLimit(amount, MAX_DECIMAL_PLACES), MESSAGE_CONSTRAINTS);
+        this.value = amount;
+    }
+
     /**
      * Returns true if a given numerical string is unsigned, non-negative and has
      * two or less decimal places.
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -33,6 +37,12 @@ public class Email {
 
     public final String value;
 
+    /** The email in lower case. */
+    private final String lowerCaseValue;
+
+    /** The lower-case words of the email. */
+    private final Set<String> tokens;
+
     /**
      * Constructs an {@code Email}.
      *
@@ -42,6 +52,22 @@ public class Email {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
         value = email;
+        lowerCaseValue = value.toLowerCase();
+        tokens = StringUtil.toLowerCaseWords(value);
+    }
+
+    /**
+     * Returns the email in lowercase.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
+    /**
+     * Returns the distinct lowercased words of the email.
+     */
+    public Set<String> getTokens() {
+        return tokens;
     }
 
     /**
@@ -65,7 +91,8 @@ public class Email {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // equality ignores case, so the hash code must as well
+        return value.toLowerCase().hashCode();
     }
 
 }
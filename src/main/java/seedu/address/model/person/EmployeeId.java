@@ -0,0 +1,79 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Represents a Person's internal employee id in HeRon.
+ * An id is issued once when an employee is created and is carried over to every updated copy of that employee,
+ * so it keeps identifying the employee even after all of their other fields have been edited.
+ * Guarantees: immutable; is valid as declared in {@link #isValidEmployeeId(String)}
+ */
+public class EmployeeId {
+
+    public static final String MESSAGE_CONSTRAINTS = "Employee ids should be positive integers.";
+
+    // Highest id issued or loaded so far, so that newly issued ids never clash with stored ones
+    private static final AtomicInteger highestId = new AtomicInteger();
+
+    public final int value;
+
+    /**
+     * Constructs an {@code EmployeeId} from a stored id.
+     *
+     * @param id A valid employee id.
+     */
+    public EmployeeId(String id) {
+        requireNonNull(id);
+        checkArgument(isValidEmployeeId(id), MESSAGE_CONSTRAINTS);
+        value = Integer.parseInt(id);
+        highestId.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Constructs an {@code EmployeeId} from a stored id that has already been parsed.
+     *
+     * @param id A valid employee id.
+     */
+    public EmployeeId(int id) {
+        checkArgument(id > 0, MESSAGE_CONSTRAINTS);
+        value = id;
+        highestId.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns a new {@code EmployeeId} that has not been issued or loaded before.
+     */
+    public static EmployeeId generate() {
+        return new EmployeeId(highestId.incrementAndGet());
+    }
+
+    /**
+     * Returns true if a given string is a valid employee id.
+     */
+    public static boolean isValidEmployeeId(String test) {
+        return StringUtil.isNonZeroUnsignedInteger(test);
+    }
+
+    @Override
+    public String toString() {
+        return Integer.toString(value);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof EmployeeId // instanceof handles nulls
+                && value == ((EmployeeId) other).value); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(value);
+    }
+
+}
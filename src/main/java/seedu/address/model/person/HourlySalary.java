@@ -31,6 +31,17 @@ public class HourlySalary {
         this.value = Double.parseDouble(amount);
     }
 
+    /**
+     * Constructs a {@code HourlySalary} from an amount that has already been parsed.
+     *
+     * @param amount A valid hourly salary amount.
+     */
+    public HourlySalary(double amount) {
+        checkArgument(isHourlySalaryWithinBounds(amount)
+                && StringUtil.hasDpWithinLimit(amount, MAX_DECIMAL_PLACES), MESSAGE_CONSTRAINTS);
+        this.value = amount;
+    }
+
     /**
      * Returns true if a given numerical string is unsigned, non-negative, has
      * two or less decimal places and is within the bounds for hourly salary values.
@@ -32,6 +32,16 @@ public class HoursWorked {
         this.value = Integer.parseInt(amount);
     }
 
+    /**
+     * Constructs a {@code HoursWorked} from an amount that has already been parsed.
+     *
+     * @param amount A valid number of hours worked.
+     */
+    public HoursWorked(int amount) {
+        checkArgument(amount >= MIN_HOURS_WORKED && amount <= MAX_HOURS_WORKED, MESSAGE_CONSTRAINTS);
+        this.value = amount;
+    }
+
     /**
      * Returns true if a given numerical string is non-negative
      * that is within bounds (between MIN_HOURS_WORKED and MAX_HOURS_WORKED, both inclusive).
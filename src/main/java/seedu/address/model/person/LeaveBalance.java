@@ -31,6 +31,16 @@ public class LeaveBalance {
         this.value = Integer.parseInt(amount);
     }
 
+    /**
+     * Constructs a {@code LeaveBalance} from an amount that has already been parsed.
+     *
+     * @param amount A valid number of leaves.
+     */
+    public LeaveBalance(int amount) {
+        checkArgument(amount >= MIN_LEAVES && amount <= MAX_LEAVES, MESSAGE_CONSTRAINTS);
+        this.value = amount;
+    }
+
     /**
      * Returns true if a given numerical string is non-negative
      * that is within bounds (between MIN_LEAVES and MAX_LEAVES, both inclusive).
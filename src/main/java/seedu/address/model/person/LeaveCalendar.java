@@ -0,0 +1,123 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+
+/**
+ * Maps every day to the employees on leave on it, so that who is off on a date, or within a date range, is found
+ * without going through every employee.
+ * The calendar is kept in sync by the {@code PersonIndexes} that owns it, which is the only one to change it.
+ */
+public class LeaveCalendar {
+
+    // Ids of the employees on leave on each day, keyed by epoch day. Days without anyone on leave have no entry.
+    private final TreeMap<Integer, CompressedBitmap> employeesByDay = new TreeMap<>();
+
+    /**
+     * Returns the ids of the employees on leave on {@code date}.
+     */
+    public CompressedBitmap getEmployeesOnLeave(LocalDate date) {
+        requireNonNull(date);
+        CompressedBitmap employees = employeesByDay.get(toEpochDay(date));
+        return employees == null ? new CompressedBitmap() : employees.copy();
+    }
+
+    /**
+     * Returns the ids of the employees on leave on at least one day from {@code startDate} to {@code endDate},
+     * inclusive.
+     */
+    public CompressedBitmap getEmployeesOnLeave(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        if (startDate.isAfter(endDate)) {
+            return new CompressedBitmap();
+        }
+        return CompressedBitmap.orAll(getDays(startDate, endDate).values());
+    }
+
+    /**
+     * Returns an estimate of the number of employees on leave on at least one day from {@code startDate} to
+     * {@code endDate}, inclusive, which counts an employee once for each day they are on leave.
+     */
+    public int estimateOnLeave(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        int count = 0;
+        if (!startDate.isAfter(endDate)) {
+            for (CompressedBitmap employeesOnDay : getDays(startDate, endDate).values()) {
+                count += employeesOnDay.getCardinality();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the number of employees on leave on each day from {@code startDate} to {@code endDate}, inclusive,
+     * with the count for {@code startDate} first.
+     */
+    public int[] getHeadcounts(LocalDate startDate, LocalDate endDate) {
+        requireNonNull(startDate);
+        requireNonNull(endDate);
+        checkArgument(!startDate.isAfter(endDate), "The start date cannot be after the end date.");
+        int firstDay = toEpochDay(startDate);
+        int[] headcounts = new int[toEpochDay(endDate) - firstDay + 1];
+        for (Map.Entry<Integer, CompressedBitmap> day : getDays(startDate, endDate).entrySet()) {
+            headcounts[day.getKey() - firstDay] = day.getValue().getCardinality();
+        }
+        return headcounts;
+    }
+
+    private Map<Integer, CompressedBitmap> getDays(LocalDate startDate, LocalDate endDate) {
+        return employeesByDay.subMap(toEpochDay(startDate), true, toEpochDay(endDate), true);
+    }
+
+    /**
+     * Moves {@code employeeId} from the days in {@code oldLeaves} to the days in {@code newLeaves}.
+     * Both are walked together in date order, so only the days that differ between them are touched.
+     * Either of them may be null, to add or remove the employee.
+     */
+    void update(EmployeeId employeeId, LeavesTaken oldLeaves, LeavesTaken newLeaves) {
+        requireNonNull(employeeId);
+        if (oldLeaves == newLeaves || oldLeaves != null && oldLeaves.equals(newLeaves)) {
+            return;
+        }
+        int[] oldDays = oldLeaves == null ? new int[0] : oldLeaves.toEpochDays();
+        int[] newDays = newLeaves == null ? new int[0] : newLeaves.toEpochDays();
+        int i = 0;
+        int j = 0;
+        while (i < oldDays.length || j < newDays.length) {
+            if (j == newDays.length || i < oldDays.length && oldDays[i] < newDays[j]) {
+                removeFromDay(oldDays[i++], employeeId);
+            } else if (i == oldDays.length || newDays[j] < oldDays[i]) {
+                employeesByDay.computeIfAbsent(newDays[j++], unused -> new CompressedBitmap()).add(employeeId.value);
+            } else {
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private void removeFromDay(int epochDay, EmployeeId employeeId) {
+        CompressedBitmap employees = employeesByDay.get(epochDay);
+        if (employees != null && employees.remove(employeeId.value) && employees.isEmpty()) {
+            employeesByDay.remove(epochDay);
+        }
+    }
+
+    /**
+     * Removes every employee from the calendar.
+     */
+    void clear() {
+        employeesByDay.clear();
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+}
@@ -5,11 +5,12 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
-import java.util.PriorityQueue;
 
 /**
  * Represents a Person's taken leaves in the employee book.
+ * The dates are held as a sorted array of epoch days, so that dates and date ranges are looked up by binary search.
  * Guarantees: immutable;
  */
 public class LeavesTaken {
@@ -17,15 +18,16 @@ public class LeavesTaken {
     public static final String MESSAGE_CONSTRAINTS =
             "Leaves should only contain non-negative integers, and it should not be blank.";
 
-    // Dates are sorted in ascending order
-    public final PriorityQueue<LocalDate> value;
+    private static final int[] NO_DATES = new int[0];
 
+    // Epoch days of the dates in ascending order, without repeats. Never modified once constructed.
+    private final int[] epochDays;
 
     /**
      * Constructs a {@code LeavesTaken} object.
      */
     public LeavesTaken() {
-        this.value = new PriorityQueue<>(LocalDate::compareTo);
+        this.epochDays = NO_DATES;
     }
 
     /**
@@ -35,8 +37,56 @@ public class LeavesTaken {
      */
     public LeavesTaken(List<LocalDate> dates) {
         requireNonNull(dates);
-        this.value = new PriorityQueue<>(LocalDate::compareTo);
-        value.addAll(dates);
+        int[] days = new int[dates.size()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = toEpochDay(dates.get(i));
+        }
+        this.epochDays = sortDistinct(days);
+    }
+
+    /**
+     * Constructs a {@code LeavesTaken} object from an array that is already sorted and without repeats,
+     * which is not copied.
+     */
+    private LeavesTaken(int[] sortedEpochDays) {
+        this.epochDays = sortedEpochDays;
+    }
+
+    /**
+     * Returns a {@code LeavesTaken} object with the dates given by {@code epochDays}, in any order.
+     *
+     * @param epochDays The dates, as days since 1970-01-01.
+     * @return A LeavesTaken object.
+     */
+    public static LeavesTaken fromEpochDays(int[] epochDays) {
+        requireNonNull(epochDays);
+        return new LeavesTaken(sortDistinct(epochDays.clone()));
+    }
+
+    /**
+     * Sorts {@code days} and drops repeated days, reusing the array when there are none.
+     */
+    private static int[] sortDistinct(int[] days) {
+        Arrays.sort(days);
+        int distinctCount = 0;
+        for (int i = 0; i < days.length; i++) {
+            if (i == 0 || days[i] != days[i - 1]) {
+                days[distinctCount++] = days[i];
+            }
+        }
+        return distinctCount == days.length ? days : Arrays.copyOf(days, distinctCount);
+    }
+
+    private static int toEpochDay(LocalDate date) {
+        return Math.toIntExact(date.toEpochDay());
+    }
+
+    /**
+     * Returns the index of the first date on or after {@code epochDay}, or the number of dates if there is none.
+     */
+    private int indexOfFirstFrom(int epochDay) {
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        return index >= 0 ? index : -index - 1;
     }
 
     /**
@@ -48,12 +98,65 @@ public class LeavesTaken {
      *                                  assigned to this employee
      */
     public LeavesTaken addDate(LocalDate date) {
-        List<LocalDate> dates = new ArrayList<>(value);
-        if (dates.contains(date)) {
+        int epochDay = toEpochDay(date);
+        int index = Arrays.binarySearch(epochDays, epochDay);
+        if (index >= 0) {
             throw new IllegalArgumentException();
         }
-        dates.add(date);
-        return new LeavesTaken(dates);
+        int insertionPoint = -index - 1;
+        int[] newDays = new int[epochDays.length + 1];
+        System.arraycopy(epochDays, 0, newDays, 0, insertionPoint);
+        newDays[insertionPoint] = epochDay;
+        System.arraycopy(epochDays, insertionPoint, newDays, insertionPoint + 1, epochDays.length - insertionPoint);
+        return new LeavesTaken(newDays);
+    }
+
+    /**
+     * Returns an updated LeavesTaken object with all the specified dates added, merged into the existing dates in
+     * a single pass.
+     *
+     * @param dates The distinct dates that are to be added.
+     * @return An updated LeavesTaken object.
+     * @throws IllegalArgumentException if any of the input dates has already been
+     *                                  assigned to this employee
+     */
+    public LeavesTaken addDates(Collection<LocalDate> dates) {
+        int[] addedDays = new int[dates.size()];
+        int count = 0;
+        for (LocalDate date : dates) {
+            addedDays[count++] = toEpochDay(date);
+        }
+        addedDays = sortDistinct(addedDays);
+
+        int[] newDays = new int[epochDays.length + addedDays.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < epochDays.length && j < addedDays.length) {
+            if (epochDays[i] == addedDays[j]) {
+                throw new IllegalArgumentException();
+            }
+            newDays[k++] = epochDays[i] < addedDays[j] ? epochDays[i++] : addedDays[j++];
+        }
+        System.arraycopy(epochDays, i, newDays, k, epochDays.length - i);
+        System.arraycopy(addedDays, j, newDays, k + epochDays.length - i, addedDays.length - j);
+        return new LeavesTaken(newDays);
+    }
+
+    /**
+     * Returns the input dates that have already been assigned to this employee, in the order they are given.
+     *
+     * @param dates The dates that are to be checked.
+     * @return A list of the dates that are contained.
+     */
+    public List<LocalDate> getTakenDates(Collection<LocalDate> dates) {
+        List<LocalDate> containedDates = new ArrayList<>();
+        for (LocalDate date : dates) {
+            if (containsDate(date)) {
+                containedDates.add(date);
+            }
+        }
+        return containedDates;
     }
 
     /**
@@ -63,18 +166,16 @@ public class LeavesTaken {
      * as well as 2021-10-20 itself will be removed.
      *
      * @param beforeDate The date that is to be used.
-     * @return An updated LeavesTaken object.
+     * @return An updated LeavesTaken object, which is this object if no dates are removed.
      */
     public LeavesTaken removeDatesBefore(LocalDate beforeDate) {
-        List<LocalDate> dates = new ArrayList<>(value);
-        List<LocalDate> newDates = new ArrayList<>();
-        for (LocalDate date : dates) {
-            // Only keep dates that are greater than the input date
-            if (date.compareTo(beforeDate) > 0) {
-                newDates.add(date);
-            }
+        // Only keep dates that are greater than the input date
+        int index = Arrays.binarySearch(epochDays, toEpochDay(beforeDate));
+        int firstKeptIndex = index >= 0 ? index + 1 : -index - 1;
+        if (firstKeptIndex == 0) {
+            return this;
         }
-        return new LeavesTaken(newDates);
+        return new LeavesTaken(Arrays.copyOfRange(epochDays, firstKeptIndex, epochDays.length));
     }
 
     /**
@@ -84,8 +185,7 @@ public class LeavesTaken {
      * @return True if the input date is contained, false otherwise.
      */
     public boolean containsDate(LocalDate date) {
-        List<LocalDate> dates = new ArrayList<>(value);
-        return dates.contains(date);
+        return Arrays.binarySearch(epochDays, toEpochDay(date)) >= 0;
     }
 
     /**
@@ -97,29 +197,46 @@ public class LeavesTaken {
      * @return True if a date is contained within the input date range, false otherwise.
      */
     public boolean containsDateRange(LocalDate startDate, LocalDate endDate) {
-        List<LocalDate> dates = new ArrayList<>(value);
-        for (LocalDate date : dates) {
-            // Check if the date is within the range
-            if (date.compareTo(startDate) >= 0
-                    && date.compareTo(endDate) <= 0) {
-                return true;
-            }
-        }
-        return false;
+        // The first date on or after the start of the range is the only one that needs to be checked
+        int index = indexOfFirstFrom(toEpochDay(startDate));
+        return index < epochDays.length && epochDays[index] <= endDate.toEpochDay();
     }
 
+    /**
+     * Returns the number of dates.
+     */
+    public int size() {
+        return epochDays.length;
+    }
+
+    /**
+     * Returns the dates as days since 1970-01-01, in ascending order.
+     */
+    public int[] toEpochDays() {
+        return epochDays.clone();
+    }
+
+    /**
+     * Returns the dates in ascending order.
+     */
     public List<LocalDate> toList() {
-        return new ArrayList<>(value);
+        List<LocalDate> dates = new ArrayList<>(epochDays.length);
+        for (int epochDay : epochDays) {
+            dates.add(LocalDate.ofEpochDay(epochDay));
+        }
+        return dates;
     }
 
     @Override
     public String toString() {
-        List<LocalDate> dates = new ArrayList<>(value);
         StringBuilder datesString = new StringBuilder();
-        for (LocalDate date : dates) {
-            datesString.append(date.toString()).append(" ");
+        for (int epochDay : epochDays) {
+            if (datesString.length() > 0) {
+                datesString.append(" ");
+            }
+            datesString.append(LocalDate.ofEpochDay(epochDay));
         }
-        return datesString.toString().trim();
+        return datesString.toString();
     }
 
     /**
@@ -129,24 +246,28 @@ public class LeavesTaken {
      * @return String to be displayed
      */
     public String toDisplayString() {
-        List<LocalDate> dates = new ArrayList<>(value);
-        if (dates.isEmpty()) {
+        if (epochDays.length == 0) {
             return "No leaves assigned yet!";
         }
 
         StringBuilder displayString = new StringBuilder();
-        displayString.append("Applied Leave Dates:\n");
-        for (int index = 1; index <= dates.size(); index++) {
-            displayString.append(index).append(". ");
-            displayString.append(dates.get(index - 1).toString()).append("\n");
+        displayString.append("Applied Leave Dates:");
+        for (int index = 1; index <= epochDays.length; index++) {
+            displayString.append("\n").append(index).append(". ");
+            displayString.append(LocalDate.ofEpochDay(epochDays[index - 1]));
         }
-        return displayString.toString().trim();
+        return displayString.toString();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof LeavesTaken) // instanceof handles nulls
-                && Arrays.equals(value.toArray(), ((LeavesTaken) other).value.toArray()); // state check
+                && Arrays.equals(epochDays, ((LeavesTaken) other).epochDays); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(epochDays);
     }
 }
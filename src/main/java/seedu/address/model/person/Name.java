@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
 import org.apache.commons.lang3.StringUtils;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -22,6 +26,9 @@ public class Name {
 
     public final String fullName;
 
+    /** The lower-case words of the name. */
+    private final Set<String> tokens;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,6 +38,14 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = processName(name);
+        tokens = StringUtil.toLowerCaseWords(fullName);
+    }
+
+    /**
+     * Returns the distinct lowercased words of the name.
+     */
+    public Set<String> getTokens() {
+        return tokens;
     }
 
     /**
@@ -77,7 +92,8 @@ public class Name {
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        // equality ignores case, so the hash code must as well
+        return fullName.toLowerCase().hashCode();
     }
 
 }
@@ -0,0 +1,33 @@
+package seedu.address.model.person;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The numeric fields of a {@code Person} that employees can be found by, through a {@code NumericIndex}.
+ */
+public enum NumericField {
+    SALARY("hourly salary", person -> person.getSalary().value),
+    HOURS_WORKED("hours worked", person -> person.getHoursWorked().value),
+    OVERTIME("overtime", person -> person.getOvertime().value),
+    LEAVE_BALANCE("leave balance", person -> person.getLeaveBalance().value);
+
+    private final String description;
+    private final ToDoubleFunction<Person> valueExtractor;
+
+    NumericField(String description, ToDoubleFunction<Person> valueExtractor) {
+        this.description = description;
+        this.valueExtractor = valueExtractor;
+    }
+
+    /**
+     * Returns the value of this field of {@code person}.
+     */
+    public double valueOf(Person person) {
+        return valueExtractor.applyAsDouble(person);
+    }
+
+    @Override
+    public String toString() {
+        return description;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+
+/**
+ * Keeps the employees sorted by the value of one of their numeric fields, so that the employees whose value is in a
+ * range are found by a range scan instead of going through every employee.
+ * The index is kept in sync by the {@code PersonIndexes} that owns it, which is the only one to change it.
+ */
+public class NumericIndex {
+
+    // Ids of the employees holding each value. Values no employee holds have no entry.
+    private final TreeMap<Double, CompressedBitmap> employeesByValue = new TreeMap<>();
+
+    /**
+     * Returns the ids of the employees whose value is in {@code range}.
+     */
+    public CompressedBitmap getEmployeesInRange(NumericRange range) {
+        requireNonNull(range);
+        return CompressedBitmap.orAll(getValuesInRange(range));
+    }
+
+    /**
+     * Returns the number of employees whose value is in {@code range}, without collecting them.
+     */
+    public int countInRange(NumericRange range) {
+        requireNonNull(range);
+        int count = 0;
+        for (CompressedBitmap employeesWithValue : getValuesInRange(range)) {
+            count += employeesWithValue.getCardinality();
+        }
+        return count;
+    }
+
+    private Collection<CompressedBitmap> getValuesInRange(NumericRange range) {
+        if (range.isEmpty()) {
+            return List.of();
+        }
+        return employeesByValue.subMap(range.getLowerBound(), range.isLowerInclusive(),
+                range.getUpperBound(), range.isUpperInclusive()).values();
+    }
+
+    /**
+     * Records that {@code employeeId} holds {@code value}.
+     */
+    void add(EmployeeId employeeId, double value) {
+        employeesByValue.computeIfAbsent(value, unused -> new CompressedBitmap()).add(employeeId.value);
+    }
+
+    /**
+     * Records that {@code employeeId} no longer holds {@code value}.
+     */
+    void remove(EmployeeId employeeId, double value) {
+        CompressedBitmap employees = employeesByValue.get(value);
+        if (employees != null && employees.remove(employeeId.value) && employees.isEmpty()) {
+            employeesByValue.remove(value);
+        }
+    }
+
+    /**
+     * Removes every employee from the index.
+     */
+    void clear() {
+        employeesByValue.clear();
+    }
+}
@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import java.util.Objects;
+
+/**
+ * Represents a range of numbers, whose ends may each be inclusive or exclusive.
+ * Guarantees: immutable;
+ */
+public class NumericRange {
+
+    private final double lowerBound;
+    private final boolean isLowerInclusive;
+    private final double upperBound;
+    private final boolean isUpperInclusive;
+
+    /**
+     * Constructs a {@code NumericRange} from {@code lowerBound} to {@code upperBound}.
+     * An infinite bound leaves that end of the range open.
+     */
+    public NumericRange(double lowerBound, boolean isLowerInclusive, double upperBound, boolean isUpperInclusive) {
+        this.lowerBound = lowerBound;
+        this.isLowerInclusive = isLowerInclusive;
+        this.upperBound = upperBound;
+        this.isUpperInclusive = isUpperInclusive;
+    }
+
+    /**
+     * Returns the range of numbers strictly more than {@code value}.
+     */
+    public static NumericRange moreThan(double value) {
+        return new NumericRange(value, false, Double.POSITIVE_INFINITY, true);
+    }
+
+    /**
+     * Returns the range of numbers more than or equal to {@code value}.
+     */
+    public static NumericRange moreThanEqual(double value) {
+        return new NumericRange(value, true, Double.POSITIVE_INFINITY, true);
+    }
+
+    /**
+     * Returns the range holding only {@code value}.
+     */
+    public static NumericRange equal(double value) {
+        return new NumericRange(value, true, value, true);
+    }
+
+    /**
+     * Returns the range of numbers strictly less than {@code value}.
+     */
+    public static NumericRange lessThan(double value) {
+        return new NumericRange(Double.NEGATIVE_INFINITY, true, value, false);
+    }
+
+    /**
+     * Returns the range of numbers less than or equal to {@code value}.
+     */
+    public static NumericRange lessThanEqual(double value) {
+        return new NumericRange(Double.NEGATIVE_INFINITY, true, value, true);
+    }
+
+    public double getLowerBound() {
+        return lowerBound;
+    }
+
+    public boolean isLowerInclusive() {
+        return isLowerInclusive;
+    }
+
+    public double getUpperBound() {
+        return upperBound;
+    }
+
+    public boolean isUpperInclusive() {
+        return isUpperInclusive;
+    }
+
+    /**
+     * Returns true if no number is in the range. A range with a bound that is not a number holds no number.
+     */
+    public boolean isEmpty() {
+        return Double.isNaN(lowerBound) || Double.isNaN(upperBound) || lowerBound > upperBound
+                || lowerBound == upperBound && !(isLowerInclusive && isUpperInclusive);
+    }
+
+    /**
+     * Returns true if {@code value} is in the range.
+     */
+    public boolean contains(double value) {
+        boolean isAboveLower = isLowerInclusive ? value >= lowerBound : value > lowerBound;
+        boolean isBelowUpper = isUpperInclusive ? value <= upperBound : value < upperBound;
+        return isAboveLower && isBelowUpper;
+    }
+
+    @Override
+    public String toString() {
+        return (isLowerInclusive ? "[" : "(") + lowerBound + ", " + upperBound + (isUpperInclusive ? "]" : ")");
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof NumericRange)) {
+            return false;
+        }
+        NumericRange otherRange = (NumericRange) other;
+        return Double.compare(lowerBound, otherRange.lowerBound) == 0
+                && isLowerInclusive == otherRange.isLowerInclusive
+                && Double.compare(upperBound, otherRange.upperBound) == 0
+                && isUpperInclusive == otherRange.isUpperInclusive;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lowerBound, isLowerInclusive, upperBound, isUpperInclusive);
+    }
+}
@@ -31,6 +31,16 @@ public class Overtime {
         this.value = Integer.parseInt(amount);
     }
 
+    /**
+     * Constructs a {@code Overtime} from an amount that has already been parsed.
+     *
+     * @param amount A valid number of overtime hours.
+     */
+    public Overtime(int amount) {
+        checkArgument(amount >= MIN_OVERTIME && amount <= MAX_OVERTIME, MESSAGE_CONSTRAINTS);
+        this.value = amount;
+    }
+
     /**
      * Returns true if a given numerical string is non-negative
      * that is within bounds (between MIN_OVERTIME and MAX_OVERTIME, both inclusive).
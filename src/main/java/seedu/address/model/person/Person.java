@@ -15,6 +15,9 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
+    // Internal handle that stays the same across updated copies of this person
+    private final EmployeeId employeeId;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -36,10 +39,12 @@ public class Person {
     /**
      * Constructs a {@code Person} object.
      * All fields except for overtime and leavesTaken must be present and not null.
+     * The person is issued a new employee id.
      */
     public Person(Name name, Phone phone, Email email, Address address, Role role, LeaveBalance leaveBalance,
                   HourlySalary hourlySalary, HoursWorked hoursWorked, CalculatedPay pay, Set<Tag> tags) {
         requireAllNonNull(name, phone, email, address, role, leaveBalance, hourlySalary, hoursWorked, tags);
+        this.employeeId = EmployeeId.generate();
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -57,11 +62,25 @@ public class Person {
     /**
      * Constructs a {@code Person} object with overtime.
      * All fields, including overtime and leavesTaken, must be present and not null.
+     * The person is issued a new employee id.
      */
     public Person(Name name, Phone phone, Email email, Address address, Role role, LeaveBalance leaveBalance,
                   LeavesTaken leavesTaken, HourlySalary salary, HoursWorked hoursWorked, Overtime overtime,
                   CalculatedPay pay, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, role, leaveBalance, salary, hoursWorked, tags);
+        this(EmployeeId.generate(), name, phone, email, address, role, leaveBalance, leavesTaken, salary,
+                hoursWorked, overtime, pay, tags);
+    }
+
+    /**
+     * Constructs a {@code Person} object that keeps the given employee id.
+     * Used when replacing an existing person with an updated copy, and when loading persons from storage.
+     * All fields, including overtime and leavesTaken, must be present and not null.
+     */
+    public Person(EmployeeId employeeId, Name name, Phone phone, Email email, Address address, Role role,
+                  LeaveBalance leaveBalance, LeavesTaken leavesTaken, HourlySalary salary, HoursWorked hoursWorked,
+                  Overtime overtime, CalculatedPay pay, Set<Tag> tags) {
+        requireAllNonNull(employeeId, name, phone, email, address, role, leaveBalance, salary, hoursWorked, tags);
+        this.employeeId = employeeId;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -76,6 +95,10 @@ public class Person {
         this.tags.addAll(tags);
     }
 
+    public EmployeeId getEmployeeId() {
+        return employeeId;
+    }
+
     public Name getName() {
         return name;
     }
@@ -176,6 +199,7 @@ public class Person {
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The internal employee id is not part of equality.
      */
     @Override
     public boolean equals(Object other) {
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Finds persons by their email or phone in constant time, from a snapshot of a list of persons.
+ * Emails and phones are unique among the persons in an address book, so each of them refers to at most one person.
+ */
+public class PersonContactIndex {
+
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+
+    /**
+     * Creates a {@code PersonContactIndex} of {@code persons}.
+     * If several persons share an email or phone, the last of them is found by it.
+     */
+    public PersonContactIndex(List<Person> persons) {
+        requireNonNull(persons);
+        for (Person person : persons) {
+            personsByEmail.put(person.getEmail(), person);
+            personsByPhone.put(person.getPhone(), person);
+        }
+    }
+
+    /**
+     * Returns the person with {@code email}, if any.
+     */
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        return Optional.ofNullable(personsByEmail.get(email));
+    }
+
+    /**
+     * Returns the person with {@code phone}, if any.
+     */
+    public Optional<Person> findByPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(personsByPhone.get(phone));
+    }
+
+    /**
+     * Returns the person with the email, or else the phone, given by {@code contact}, if any.
+     * A {@code contact} that is neither a valid email nor a valid phone matches no one.
+     */
+    public Optional<Person> findByContact(String contact) {
+        requireNonNull(contact);
+        if (Email.isValidEmail(contact)) {
+            return findByEmail(new Email(contact));
+        }
+        if (Phone.isValidPhone(contact)) {
+            return findByPhone(new Phone(contact));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the person with {@code email}, or else the person with {@code phone}, if any.
+     */
+    public Optional<Person> find(Email email, Phone phone) {
+        Optional<Person> person = findByEmail(email);
+        return person.isPresent() ? person : findByPhone(phone);
+    }
+}
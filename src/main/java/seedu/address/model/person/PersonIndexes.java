@@ -0,0 +1,162 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+
+/**
+ * Holds the secondary indexes of the persons in a {@code UniquePersonList}, which find the employees matching a
+ * condition without going through every person: a {@code LeaveCalendar} of their leaves, a {@code NumericIndex}
+ * for each {@code NumericField}, and a {@code TokenIndex} for each {@code TokenField}.
+ * Employees are found as a {@code CompressedBitmap} of the values of their ids, so that the employees found by
+ * several indexes are combined a machine word at a time.
+ * The indexes are kept in sync by the {@code UniquePersonList} that owns them, which is the only one to change them.
+ */
+public class PersonIndexes {
+
+    private final LeaveCalendar leaveCalendar = new LeaveCalendar();
+    private final Map<NumericField, NumericIndex> numericIndexes = new EnumMap<>(NumericField.class);
+    private final Map<TokenField, TokenIndex> tokenIndexes = new EnumMap<>(TokenField.class);
+    private final CompressedBitmap allEmployees = new CompressedBitmap();
+
+    // Bumped on every change, so that results computed from the indexes can tell when they have gone stale
+    private int modificationCount;
+
+    /**
+     * Creates empty indexes.
+     */
+    PersonIndexes() {
+        for (NumericField field : NumericField.values()) {
+            numericIndexes.put(field, new NumericIndex());
+        }
+        for (TokenField field : TokenField.values()) {
+            tokenIndexes.put(field, new TokenIndex());
+        }
+    }
+
+    public LeaveCalendar getLeaveCalendar() {
+        return leaveCalendar;
+    }
+
+    /**
+     * Returns the index of the values of {@code field}.
+     */
+    public NumericIndex getNumericIndex(NumericField field) {
+        requireNonNull(field);
+        return numericIndexes.get(field);
+    }
+
+    /**
+     * Returns the index of the tokens of {@code field}.
+     */
+    public TokenIndex getTokenIndex(TokenField field) {
+        requireNonNull(field);
+        return tokenIndexes.get(field);
+    }
+
+    /**
+     * Returns the number of persons in the indexes.
+     */
+    public int getPersonCount() {
+        return allEmployees.getCardinality();
+    }
+
+    /**
+     * Returns the ids of every employee in the indexes.
+     */
+    public CompressedBitmap getAllEmployees() {
+        return allEmployees.copy();
+    }
+
+    /**
+     * Returns the number of changes made to the indexes so far.
+     */
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Records {@code person} in the indexes.
+     */
+    void add(Person person) {
+        leaveCalendar.update(person.getEmployeeId(), null, person.getLeavesTaken());
+        for (NumericField field : NumericField.values()) {
+            numericIndexes.get(field).add(person.getEmployeeId(), field.valueOf(person));
+        }
+        for (TokenField field : TokenField.values()) {
+            tokenIndexes.get(field).add(person.getEmployeeId(), field.tokensOf(person));
+        }
+        allEmployees.add(person.getEmployeeId().value);
+        modificationCount++;
+    }
+
+    /**
+     * Drops {@code person} from the indexes.
+     */
+    void remove(Person person) {
+        leaveCalendar.update(person.getEmployeeId(), person.getLeavesTaken(), null);
+        for (NumericField field : NumericField.values()) {
+            numericIndexes.get(field).remove(person.getEmployeeId(), field.valueOf(person));
+        }
+        for (TokenField field : TokenField.values()) {
+            tokenIndexes.get(field).remove(person.getEmployeeId(), field.tokensOf(person));
+        }
+        allEmployees.remove(person.getEmployeeId().value);
+        modificationCount++;
+    }
+
+    /**
+     * Replaces {@code replaced} with {@code editedPerson} in the indexes.
+     * An employee keeping their id only has the fields that differ between the two re-indexed.
+     */
+    void replace(Person replaced, Person editedPerson) {
+        EmployeeId employeeId = editedPerson.getEmployeeId();
+        if (!replaced.getEmployeeId().equals(employeeId)) {
+            remove(replaced);
+            add(editedPerson);
+            return;
+        }
+        leaveCalendar.update(employeeId, replaced.getLeavesTaken(), editedPerson.getLeavesTaken());
+        for (NumericField field : NumericField.values()) {
+            double oldValue = field.valueOf(replaced);
+            double newValue = field.valueOf(editedPerson);
+            if (Double.compare(oldValue, newValue) != 0) {
+                numericIndexes.get(field).remove(employeeId, oldValue);
+                numericIndexes.get(field).add(employeeId, newValue);
+            }
+        }
+        for (TokenField field : TokenField.values()) {
+            Set<String> oldTokens = field.tokensOf(replaced);
+            Set<String> newTokens = field.tokensOf(editedPerson);
+            if (!oldTokens.equals(newTokens)) {
+                Set<String> removedTokens = new HashSet<>(oldTokens);
+                removedTokens.removeAll(newTokens);
+                Set<String> addedTokens = new HashSet<>(newTokens);
+                addedTokens.removeAll(oldTokens);
+                tokenIndexes.get(field).remove(employeeId, removedTokens);
+                tokenIndexes.get(field).add(employeeId, addedTokens);
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes every person from the indexes.
+     */
+    void clear() {
+        leaveCalendar.clear();
+        for (NumericIndex index : numericIndexes.values()) {
+            index.clear();
+        }
+        for (TokenIndex index : tokenIndexes.values()) {
+            index.clear();
+        }
+        allEmployees.clear();
+        modificationCount++;
+    }
+}
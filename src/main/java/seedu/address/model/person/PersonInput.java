@@ -1,7 +1,5 @@
 package seedu.address.model.person;
 
-import com.opencsv.bean.CsvBindByName;
-
 /**
  * Represents a PersonInput object with raw data taken from the csv file.
  * Used as an intermediate object before converting this object into a person object to be used by the AddressBook.
@@ -9,30 +7,20 @@ import com.opencsv.bean.CsvBindByName;
 public class PersonInput {
 
     // Identity fields
-    @CsvBindByName(column = "Name", required = true)
     private String name;
-    @CsvBindByName(column = "Contact Number", required = true)
     private String phone;
-    @CsvBindByName(column = "Email", required = true)
     private String email;
 
     // Data fields
-    @CsvBindByName(column = "Residential Address", required = true)
     private String address;
-    @CsvBindByName(column = "Tags", required = false)
     private String tags;
 
     // Employee fields
-    @CsvBindByName(column = "Role", required = true)
     private String role;
 
-    @CsvBindByName(column = "Leave Balance", required = false)
     private String leave;
-    @CsvBindByName(column = "Salary", required = false)
     private String salary;
-    @CsvBindByName(column = "Hours Worked", required = false)
     private String hoursWorked;
-    @CsvBindByName(column = "Overtime", required = false)
     private String overtime;
 
     public PersonInput(){};
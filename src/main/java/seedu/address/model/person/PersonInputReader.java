@@ -0,0 +1,169 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvReader;
+
+/**
+ * Reads the rows of a csv file as PersonInput objects.
+ * The first row is a header holding the title of each column. The titles are matched to the fields of
+ * PersonInput once, ignoring case, so every later row is bound to the fields by column position.
+ * Columns with other titles are ignored.
+ */
+public class PersonInputReader implements Closeable {
+
+    public static final String COLUMN_NAME = "Name";
+    public static final String COLUMN_PHONE = "Contact Number";
+    public static final String COLUMN_EMAIL = "Email";
+    public static final String COLUMN_ADDRESS = "Residential Address";
+    public static final String COLUMN_ROLE = "Role";
+    public static final String COLUMN_LEAVES = "Leave Balance";
+    public static final String COLUMN_SALARY = "Salary";
+    public static final String COLUMN_HOURS_WORKED = "Hours Worked";
+    public static final String COLUMN_OVERTIME = "Overtime";
+    public static final String COLUMN_TAGS = "Tags";
+
+    public static final String MESSAGE_MISSING_HEADER = "The file has no header row.";
+    public static final String MESSAGE_MISSING_COLUMNS = "The header row has no column for: %1$s";
+
+    // The fields in the order of the titles, with the fields that every row needs a value for first.
+    private static final String[] FIELD_TITLES = {COLUMN_NAME, COLUMN_PHONE, COLUMN_EMAIL, COLUMN_ADDRESS,
+        COLUMN_ROLE, COLUMN_LEAVES, COLUMN_SALARY, COLUMN_HOURS_WORKED, COLUMN_OVERTIME, COLUMN_TAGS};
+    private static final int REQUIRED_FIELD_COUNT = 5;
+    private static final int NAME = 0;
+    private static final int PHONE = 1;
+    private static final int EMAIL = 2;
+    private static final int ADDRESS = 3;
+    private static final int ROLE = 4;
+    private static final int LEAVES = 5;
+    private static final int SALARY = 6;
+    private static final int HOURS_WORKED = 7;
+    private static final int OVERTIME = 8;
+    private static final int TAGS = 9;
+
+    private static final int NO_COLUMN = -1;
+
+    private final CsvReader csvReader;
+    private final int columnCount;
+    private final int[] fieldColumns;
+
+    /**
+     * Creates a {@code PersonInputReader} for the csv data in {@code reader}, reading its header row straight away.
+     * @throws IOException if the header row cannot be read.
+     * @throws IllegalValueException if there is no header row, or it has no column for a required field.
+     */
+    public PersonInputReader(Reader reader) throws IOException, IllegalValueException {
+        requireNonNull(reader);
+        csvReader = new CsvReader(reader);
+        String[] header = csvReader.readHeader();
+        if (header == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_HEADER);
+        }
+        columnCount = header.length;
+        fieldColumns = mapFieldColumns(header);
+    }
+
+    /**
+     * Returns the index of the column of each field in {@code header}, or {@code NO_COLUMN} if there is none.
+     * If several columns have the title of a field, the last of them is used.
+     * @throws IllegalValueException if there is no column for a required field.
+     */
+    private static int[] mapFieldColumns(String[] header) throws IllegalValueException {
+        Map<String, Integer> fieldsByTitle = new HashMap<>();
+        for (int field = 0; field < FIELD_TITLES.length; field++) {
+            fieldsByTitle.put(FIELD_TITLES[field].toUpperCase(Locale.ROOT), field);
+        }
+
+        int[] fieldColumns = new int[FIELD_TITLES.length];
+        Arrays.fill(fieldColumns, NO_COLUMN);
+        for (int column = 0; column < header.length; column++) {
+            Integer field = fieldsByTitle.get(header[column].toUpperCase(Locale.ROOT));
+            if (field != null) {
+                fieldColumns[field] = column;
+            }
+        }
+
+        List<String> missingTitles = new ArrayList<>();
+        for (int field = 0; field < REQUIRED_FIELD_COUNT; field++) {
+            if (fieldColumns[field] == NO_COLUMN) {
+                missingTitles.add(FIELD_TITLES[field]);
+            }
+        }
+        if (!missingTitles.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_COLUMNS, String.join(", ", missingTitles)));
+        }
+        return fieldColumns;
+    }
+
+    /**
+     * Returns the values in the next row, or null if there are no more rows.
+     * @throws IOException if the row cannot be read.
+     */
+    public String[] readRow() throws IOException {
+        return csvReader.readRecord();
+    }
+
+    /**
+     * Returns true if {@code row} has as many columns as the header row.
+     */
+    public boolean hasAllColumns(String[] row) {
+        return row.length == columnCount;
+    }
+
+    /**
+     * Returns the titles of the required fields that have a blank value in {@code row}, in the order of the fields.
+     * {@code row} must have as many columns as the header row.
+     */
+    public List<String> getMissingFields(String[] row) {
+        assert hasAllColumns(row);
+        List<String> missingTitles = new ArrayList<>();
+        for (int field = 0; field < REQUIRED_FIELD_COUNT; field++) {
+            if (row[fieldColumns[field]].isBlank()) {
+                missingTitles.add(FIELD_TITLES[field]);
+            }
+        }
+        return missingTitles;
+    }
+
+    /**
+     * Creates the PersonInput object for {@code row}.
+     * The fields without a column are left as null.
+     * {@code row} must have as many columns as the header row.
+     */
+    public PersonInput toPersonInput(String[] row) {
+        assert hasAllColumns(row);
+        PersonInput input = new PersonInput();
+        input.setName(getValue(row, NAME));
+        input.setPhone(getValue(row, PHONE));
+        input.setEmail(getValue(row, EMAIL));
+        input.setAddress(getValue(row, ADDRESS));
+        input.setRole(getValue(row, ROLE));
+        input.setLeaves(getValue(row, LEAVES));
+        input.setSalary(getValue(row, SALARY));
+        input.setHoursWorked(getValue(row, HOURS_WORKED));
+        input.setOvertime(getValue(row, OVERTIME));
+        input.setTags(getValue(row, TAGS));
+        return input;
+    }
+
+    private String getValue(String[] row, int field) {
+        int column = fieldColumns[field];
+        return column == NO_COLUMN ? null : row[column];
+    }
+
+    @Override
+    public void close() throws IOException {
+        csvReader.close();
+    }
+}
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's Role in the employee book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
@@ -24,6 +28,12 @@ public class Role {
 
     public final String value;
 
+    /** The role in lower case. */
+    private final String lowerCaseValue;
+
+    /** The lower-case words of the role. */
+    private final Set<String> tokens;
+
     /**
      * Constructs a {@code Role}.
      *
@@ -33,6 +43,22 @@ public class Role {
         requireNonNull(roleName);
         checkArgument(isValidRole(roleName), MESSAGE_CONSTRAINTS);
         this.value = roleName;
+        lowerCaseValue = value.toLowerCase();
+        tokens = StringUtil.toLowerCaseWords(value);
+    }
+
+    /**
+     * Returns the role in lowercase.
+     */
+    public String getLowerCaseValue() {
+        return lowerCaseValue;
+    }
+
+    /**
+     * Returns the distinct lowercased words of the role.
+     */
+    public Set<String> getTokens() {
+        return tokens;
     }
 
     /**
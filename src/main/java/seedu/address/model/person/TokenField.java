@@ -0,0 +1,60 @@
+package seedu.address.model.person;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The text fields of a {@code Person} that employees can be found by keyword, through a {@code TokenIndex}.
+ * A field is split into tokens at whitespace, and every token is lowercased, so that a keyword without whitespace is
+ * in a field exactly when it is in one of its tokens.
+ * The tokens of names, roles, addresses and emails are worked out once, when they are created.
+ */
+public enum TokenField {
+    NAME(person -> person.getName().getTokens()),
+    ROLE(person -> person.getRole().getTokens()),
+    ADDRESS(person -> person.getAddress().getTokens()),
+    EMAIL(person -> person.getEmail().getTokens()),
+    TAG(person -> {
+        Set<String> tokens = new HashSet<>();
+        for (Tag tag : person.getTags()) {
+            tokens.addAll(StringUtil.toLowerCaseWords(tag.tagName));
+        }
+        return tokens;
+    });
+
+    private final Function<Person, Set<String>> tokensExtractor;
+
+    TokenField(Function<Person, Set<String>> tokensExtractor) {
+        this.tokensExtractor = tokensExtractor;
+    }
+
+    /**
+     * Returns the distinct lowercased tokens of this field of {@code person}, which may not be modified.
+     */
+    public Set<String> tokensOf(Person person) {
+        return tokensExtractor.apply(person);
+    }
+
+    /**
+     * Returns {@code keyword} in the form the tokens of every field are kept in.
+     */
+    public static String normalize(String keyword) {
+        return keyword.toLowerCase();
+    }
+
+    /**
+     * Returns each of {@code keywords} in the form the tokens of every field are kept in, in the same order.
+     */
+    public static String[] normalizeAll(List<String> keywords) {
+        String[] normalizedKeywords = new String[keywords.size()];
+        for (int i = 0; i < normalizedKeywords.length; i++) {
+            normalizedKeywords[i] = normalize(keywords.get(i));
+        }
+        return normalizedKeywords;
+    }
+}
@@ -0,0 +1,137 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+
+/**
+ * Maps every lowercased token of one of the text fields of the employees to the employees holding it, so that the
+ * employees with a keyword in that field are found without going through every employee.
+ * It also counts the tokens containing each short substring, so that the employees with a token containing a keyword
+ * are estimated without going through every token.
+ * The index is kept in sync by the {@code PersonIndexes} that owns it, which is the only one to change it.
+ */
+public class TokenIndex {
+
+    /** Longest substring of the tokens counted in {@code tokenCountByGram}. */
+    private static final int GRAM_LENGTH = 2;
+
+    // Ids of the employees holding each token. Tokens no employee holds have no entry.
+    private final Map<String, CompressedBitmap> employeesByToken = new HashMap<>();
+    // Number of tokens containing each substring of up to GRAM_LENGTH characters, counting a token once for each
+    // employee holding it. Grams no token contains have no entry.
+    private final Map<String, Integer> tokenCountByGram = new HashMap<>();
+    private int tokenCount;
+
+    /**
+     * Returns the ids of the employees holding a token equal to {@code keyword}, ignoring case.
+     */
+    public CompressedBitmap getEmployeesWithToken(String keyword) {
+        requireNonNull(keyword);
+        CompressedBitmap employees = employeesByToken.get(TokenField.normalize(keyword));
+        return employees == null ? new CompressedBitmap() : employees.copy();
+    }
+
+    /**
+     * Returns the number of employees holding a token equal to {@code keyword}, ignoring case.
+     */
+    public int countWithToken(String keyword) {
+        requireNonNull(keyword);
+        CompressedBitmap employees = employeesByToken.get(TokenField.normalize(keyword));
+        return employees == null ? 0 : employees.getCardinality();
+    }
+
+    /**
+     * Returns an estimate of the number of employees holding a token that contains {@code keyword}, ignoring case,
+     * which counts an employee once for each such token. It is never less than that number, and is taken from
+     * the counts of the grams of {@code keyword} without going through the tokens.
+     */
+    public int estimateWithTokenContaining(String keyword) {
+        requireNonNull(keyword);
+        String normalizedKeyword = TokenField.normalize(keyword);
+        // A token containing the keyword contains every gram of it, so it is counted under each of them
+        int estimate = tokenCount;
+        for (int start = 0; start < normalizedKeyword.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, normalizedKeyword.length()); end++) {
+                estimate = Math.min(estimate, tokenCountByGram.getOrDefault(
+                        normalizedKeyword.substring(start, end), 0));
+            }
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the ids of the employees holding a token that contains {@code keyword}, ignoring case.
+     * Only the distinct tokens are gone through, rather than every employee.
+     */
+    public CompressedBitmap getEmployeesWithTokenContaining(String keyword) {
+        requireNonNull(keyword);
+        String normalizedKeyword = TokenField.normalize(keyword);
+        List<CompressedBitmap> employees = new ArrayList<>();
+        for (Map.Entry<String, CompressedBitmap> token : employeesByToken.entrySet()) {
+            if (token.getKey().contains(normalizedKeyword)) {
+                employees.add(token.getValue());
+            }
+        }
+        return CompressedBitmap.orAll(employees);
+    }
+
+    /**
+     * Records that {@code employeeId} holds {@code tokens}.
+     */
+    void add(EmployeeId employeeId, Collection<String> tokens) {
+        for (String token : tokens) {
+            CompressedBitmap employees = employeesByToken.computeIfAbsent(token, unused -> new CompressedBitmap());
+            if (!employees.contains(employeeId.value)) {
+                employees.add(employeeId.value);
+                countGrams(token, 1);
+            }
+        }
+    }
+
+    /**
+     * Records that {@code employeeId} no longer holds {@code tokens}.
+     */
+    void remove(EmployeeId employeeId, Collection<String> tokens) {
+        for (String token : tokens) {
+            CompressedBitmap employees = employeesByToken.get(token);
+            if (employees == null || !employees.remove(employeeId.value)) {
+                continue;
+            }
+            countGrams(token, -1);
+            if (employees.isEmpty()) {
+                employeesByToken.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Adds {@code change} to the count of tokens and to the count of every distinct gram of {@code token}.
+     */
+    private void countGrams(String token, int change) {
+        tokenCount += change;
+        for (int start = 0; start < token.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, token.length()); end++) {
+                String gram = token.substring(start, end);
+                if (token.indexOf(gram) == start) {
+                    tokenCountByGram.merge(gram, change, (count, delta) -> count + delta == 0 ? null : count + delta);
+                }
+            }
+        }
+    }
+
+    /**
+     * Removes every employee from the index.
+     */
+    void clear() {
+        employeesByToken.clear();
+        tokenCountByGram.clear();
+        tokenCount = 0;
+    }
+}
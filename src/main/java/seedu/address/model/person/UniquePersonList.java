@@ -1,12 +1,19 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicateEmailException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -20,22 +27,39 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups by name, phone and email are answered from hash indexes that are kept in sync with the
+ * backing list, so they take constant time regardless of the number of persons in the list. Persons being replaced
+ * or removed are located through their {@code EmployeeId}, which is mapped to their position in the list.
+ * The {@code PersonIndexes} of the persons' leaves and numeric fields are kept in sync in the same way.
+ * The indexes are updated before the backing list is, so that listeners of the list, such as filters answered from
+ * the indexes, see them updated. Batches of replacements are reported to listeners as a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final BatchObservableList internalList = new BatchObservableList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Number of persons in the list holding each name, phone and email
+    private final Map<Name, Integer> nameIndex = new HashMap<>();
+    private final Map<Phone, Integer> phoneIndex = new HashMap<>();
+    private final Map<Email, Integer> emailIndex = new HashMap<>();
+
+    // Position in the list of the person holding each employee id
+    private final Map<EmployeeId, Integer> slotIndex = new HashMap<>();
+
+    private final PersonIndexes personIndexes = new PersonIndexes();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -43,7 +67,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasDuplicatePhone(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSamePhone);
+        return phoneIndex.containsKey(toCheck.getPhone());
     }
 
     /**
@@ -51,7 +75,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasDuplicateEmail(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameEmail);
+        return emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -63,6 +87,7 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        addToIndexes(toAdd, internalList.size());
         internalList.add(toAdd);
     }
 
@@ -74,7 +99,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -83,6 +108,7 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        replaceInIndexes(internalList.get(index), editedPerson, index);
         internalList.set(index, editedPerson);
     }
 
@@ -92,13 +118,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        removeFromIndexes(internalList.get(index), index);
+        internalList.remove(index);
+        // Persons after the removed one have each moved up by one position
+        for (int i = index; i < internalList.size(); i++) {
+            slotIndex.put(internalList.get(i).getEmployeeId(), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -108,20 +143,76 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        int[] phonesCheckResult = phonesAreUnique(persons);
-        int[] emailCheckResult = emailsAreUnique(persons);
-        if (!personsAreUnique(persons)) {
+        if (!findDuplicatePersons(persons).isEmpty()) {
             throw new DuplicatePersonException();
         }
+        int[] phonesCheckResult = getEarliestPair(findDuplicatePhones(persons));
+        int[] emailCheckResult = getEarliestPair(findDuplicateEmails(persons));
         if (phonesCheckResult != null) {
             throw new DuplicatePhoneException(phonesCheckResult);
         }
         if (emailCheckResult != null) {
             throw new DuplicateEmailException(emailCheckResult);
         }
+        rebuildIndexes(persons);
         internalList.setAll(persons);
     }
 
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons}.
+     * Every target must exist in the list, and the persons in the list after all replacements must still be unique.
+     * All replacements are applied together, so observers of the list are notified of a single change, covering
+     * only the replaced persons, and the list is left untouched if any replacement fails.
+     *
+     * @see #mergePersons(List, List, List)
+     */
+    public void setPersons(List<Person> targets, List<Person> editedPersons) {
+        mergePersons(targets, editedPersons, Collections.emptyList());
+    }
+
+    /**
+     * Replaces each person in {@code targets} with the person at the same position in {@code editedPersons},
+     * and adds {@code newPersons} to the end of the list.
+     * Every target must exist in the list, and the persons in the list afterwards must still be unique.
+     * All changes are applied together, so observers of the list are notified of a single change, covering only
+     * the replaced and added persons, and the list is left untouched if any of them fails.
+     */
+    public void mergePersons(List<Person> targets, List<Person> editedPersons, List<Person> newPersons) {
+        requireAllNonNull(targets);
+        requireAllNonNull(editedPersons);
+        requireAllNonNull(newPersons);
+        checkArgument(targets.size() == editedPersons.size(), "Every target needs exactly one edited person.");
+
+        int[] slots = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            slots[i] = indexOf(targets.get(i));
+            if (slots[i] == -1) {
+                throw new PersonNotFoundException();
+            }
+        }
+        if (hasDuplicateNamesAfterMerge(targets, editedPersons, newPersons)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.changeTogether(() -> {
+            for (int i = 0; i < slots.length; i++) {
+                replaceInIndexes(internalList.get(slots[i]), editedPersons.get(i), slots[i]);
+                internalList.set(slots[i], editedPersons.get(i));
+            }
+            for (int i = 0; i < newPersons.size(); i++) {
+                addToIndexes(newPersons.get(i), internalList.size() + i);
+            }
+            internalList.addAll(newPersons);
+        });
+    }
+
+    /**
+     * Returns the secondary indexes of the persons in the list, which are kept up to date with the list.
+     */
+    public PersonIndexes getPersonIndexes() {
+        return personIndexes;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -147,38 +238,197 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person} in the list, or -1 if there is none.
+     * The employee id of {@code person} is tried first, so only a stale or foreign copy needs a full scan.
+     */
+    private int indexOf(Person person) {
+        Integer slot = slotIndex.get(person.getEmployeeId());
+        if (slot != null && person.equals(internalList.get(slot))) {
+            return slot;
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Returns true if two persons in the list would have the same name once {@code editedPersons} replace
+     * {@code targets} and {@code newPersons} are added.
+     * Only the names of the persons changed are counted, against the number of persons holding them in the list.
+     */
+    private boolean hasDuplicateNamesAfterMerge(List<Person> targets, List<Person> editedPersons,
+            List<Person> newPersons) {
+        Map<Name, Integer> nameCountChanges = new HashMap<>();
+        targets.forEach(target -> nameCountChanges.merge(target.getName(), -1, Integer::sum));
+        editedPersons.forEach(person -> nameCountChanges.merge(person.getName(), 1, Integer::sum));
+        newPersons.forEach(person -> nameCountChanges.merge(person.getName(), 1, Integer::sum));
+        for (Map.Entry<Name, Integer> change : nameCountChanges.entrySet()) {
+            if (nameIndex.getOrDefault(change.getKey(), 0) + change.getValue() > 1) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Records {@code person}, found at position {@code slot} of the list, in the lookup indexes.
+     */
+    private void addToIndexes(Person person, int slot) {
+        nameIndex.merge(person.getName(), 1, Integer::sum);
+        phoneIndex.merge(person.getPhone(), 1, Integer::sum);
+        emailIndex.merge(person.getEmail(), 1, Integer::sum);
+        slotIndex.put(person.getEmployeeId(), slot);
+        personIndexes.add(person);
+    }
+
+    /**
+     * Drops {@code person}, previously at position {@code slot} of the list, from the lookup indexes.
+     */
+    private void removeFromIndexes(Person person, int slot) {
+        decrement(nameIndex, person.getName());
+        decrement(phoneIndex, person.getPhone());
+        decrement(emailIndex, person.getEmail());
+        slotIndex.remove(person.getEmployeeId(), slot);
+        personIndexes.remove(person);
+    }
+
+    /**
+     * Replaces {@code replaced} with {@code editedPerson}, at position {@code slot} of the list, in the lookup
+     * indexes. An employee keeping their id is only re-indexed by the fields that differ.
+     */
+    private void replaceInIndexes(Person replaced, Person editedPerson, int slot) {
+        if (!replaced.getEmployeeId().equals(editedPerson.getEmployeeId())) {
+            removeFromIndexes(replaced, slot);
+            addToIndexes(editedPerson, slot);
+            return;
+        }
+        decrement(nameIndex, replaced.getName());
+        decrement(phoneIndex, replaced.getPhone());
+        decrement(emailIndex, replaced.getEmail());
+        nameIndex.merge(editedPerson.getName(), 1, Integer::sum);
+        phoneIndex.merge(editedPerson.getPhone(), 1, Integer::sum);
+        emailIndex.merge(editedPerson.getEmail(), 1, Integer::sum);
+        slotIndex.put(editedPerson.getEmployeeId(), slot);
+        personIndexes.replace(replaced, editedPerson);
+    }
+
+    private static <K> void decrement(Map<K, Integer> index, K key) {
+        index.computeIfPresent(key, (unused, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Rebuilds the lookup indexes from scratch for {@code persons}, which are to replace the backing list wholesale.
+     */
+    private void rebuildIndexes(List<Person> persons) {
+        nameIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        slotIndex.clear();
+        personIndexes.clear();
+        for (int i = 0; i < persons.size(); i++) {
+            addToIndexes(persons.get(i), i);
+        }
+    }
+
+    /**
+     * Returns every pair of rows in {@code persons} that refer to the same person, i.e. have the same name.
+     * Each pair holds the zero-based row of the first occurrence followed by the row of the later occurrence,
+     * and pairs are ordered by the later row.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    public static List<int[]> findDuplicatePersons(List<Person> persons) {
+        requireNonNull(persons);
+        return findDuplicates(persons, Person::getName);
+    }
+
+    /**
+     * Returns every pair of rows in {@code persons} that share a phone number.
+     * Pairs are reported in the same form as {@link #findDuplicatePersons(List)}.
+     */
+    public static List<int[]> findDuplicatePhones(List<Person> persons) {
+        requireNonNull(persons);
+        return findDuplicates(persons, Person::getPhone);
+    }
+
+    /**
+     * Returns every pair of rows in {@code persons} that share an email.
+     * Pairs are reported in the same form as {@link #findDuplicatePersons(List)}.
+     */
+    public static List<int[]> findDuplicateEmails(List<Person> persons) {
+        requireNonNull(persons);
+        return findDuplicates(persons, Person::getEmail);
+    }
+
+    /**
+     * Pairs every row of {@code persons} with the first earlier row that has the same key, in a single pass.
+     */
+    private static <K> List<int[]> findDuplicates(List<Person> persons, Function<Person, K> keyExtractor) {
+        Map<K, Integer> firstRows = new HashMap<>();
+        List<int[]> duplicates = new ArrayList<>();
+        int row = 0;
+        for (Person person : persons) {
+            Integer firstRow = firstRows.putIfAbsent(keyExtractor.apply(person), row);
+            if (firstRow != null) {
+                duplicates.add(new int[]{firstRow, row});
             }
+            row++;
         }
-        return true;
+        return duplicates;
     }
 
-    private int[] emailsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSameEmail(persons.get(j))) {
-                    return new int[]{i, j};
-                }
+    /**
+     * Returns the pair with the earliest first row (ties broken by the later row), or null if there are none.
+     * This is the pair a row-by-row comparison of every person against all persons after it would find first.
+     */
+    private static int[] getEarliestPair(List<int[]> pairs) {
+        int[] earliest = null;
+        for (int[] pair : pairs) {
+            if (earliest == null || pair[0] < earliest[0]) {
+                earliest = pair;
             }
         }
-        return null;
+        return earliest;
     }
 
-    private int[] phonesAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSamePhone(persons.get(j))) {
-                    return new int[]{i, j};
-                }
+    /**
+     * An observable list of persons that can report several changes to its observers as a single change.
+     */
+    private static class BatchObservableList extends ModifiableObservableListBase<Person> {
+
+        private final List<Person> persons = new ArrayList<>();
+
+        /**
+         * Makes the changes to this list in {@code changes}, and notifies observers of all of them as a single change.
+         */
+        void changeTogether(Runnable changes) {
+            beginChange();
+            try {
+                changes.run();
+            } finally {
+                endChange();
             }
         }
-        return null;
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person person) {
+            persons.add(index, person);
+        }
+
+        @Override
+        protected Person doSet(int index, Person person) {
+            return persons.set(index, person);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            return persons.remove(index);
+        }
     }
 }
@@ -1,19 +1,29 @@
 package seedu.address.model.person.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.core.bitmap.CompressedBitmap;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.TokenField;
+import seedu.address.model.person.TokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Address} contains any of the keywords given.
  * Addresses match if the specified keywords are present in the Address.
  */
-public class AddressContainsKeywordsPredicate implements Predicate<Person> {
+public class AddressContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    // Lowercased once here, so that testing a person does not lowercase them again
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a AddressContainsKeywordsPredicate that matches any of {@code keywords}, ignoring case.
+     */
     public AddressContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = TokenField.normalizeAll(keywords);
     }
 
     /**
@@ -23,8 +33,38 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> (person.getAddress().value.toLowerCase().contains(keyword.toLowerCase())));
+        String address = person.getAddress().getLowerCaseValue();
+        for (String keyword : normalizedKeywords) {
+            if (address.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.ADDRESS);
+        List<CompressedBitmap> employees = new ArrayList<>();
+        for (String keyword : keywords) {
+            employees.add(index.getEmployeesWithTokenContaining(keyword));
+        }
+        return CompressedBitmap.orAll(employees);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.ADDRESS);
+        int count = 0;
+        for (String keyword : keywords) {
+            count += index.estimateWithTokenContaining(keyword);
+        }
+        return count;
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size();
     }
 
     @Override
@@ -33,4 +73,9 @@ public class AddressContainsKeywordsPredicate implements Predicate<Person> {
                 || (other instanceof AddressContainsKeywordsPredicate // instanceof handles nulls
                 && keywords.equals(((AddressContainsKeywordsPredicate) other).keywords)); // state check
     }
+
+    @Override
+    public String toString() {
+        return "address contains any of " + keywords;
+    }
 }
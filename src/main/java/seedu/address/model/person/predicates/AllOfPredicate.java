@@ -0,0 +1,98 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Tests that a {@code Person} passes all of the predicates given.
+ * Operands that are themselves {@code AllOfPredicate}s are flattened into this one.
+ */
+public class AllOfPredicate implements IndexedPredicate {
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Creates an AllOfPredicate of {@code operands}, which are tested in the order given.
+     */
+    public AllOfPredicate(List<Predicate<Person>> operands) {
+        requireNonNull(operands);
+        List<Predicate<Person>> flattenedOperands = new ArrayList<>();
+        for (Predicate<Person> operand : operands) {
+            if (operand instanceof AllOfPredicate) {
+                flattenedOperands.addAll(((AllOfPredicate) operand).operands);
+            } else {
+                flattenedOperands.add(operand);
+            }
+        }
+        this.operands = List.copyOf(flattenedOperands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < operands.size(); i++) {
+            if (!operands.get(i).test(person)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if there are operands, and every one of them can be looked up in the indexes.
+     * Every person passes a predicate without operands, and the indexes do not list every employee.
+     */
+    @Override
+    public boolean isIndexed() {
+        return !operands.isEmpty() && operands.stream().allMatch(IndexedPredicate::canLookUp);
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        CompressedBitmap employees = null;
+        for (Predicate<Person> operand : operands) {
+            if (employees != null && employees.isEmpty()) {
+                break;
+            }
+            CompressedBitmap matches = ((IndexedPredicate) operand).getMatchingEmployees(indexes);
+            employees = employees == null ? matches : employees.and(matches);
+        }
+        return employees;
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        int estimate = Integer.MAX_VALUE;
+        for (Predicate<Person> operand : operands) {
+            estimate = Math.min(estimate, ((IndexedPredicate) operand).estimateMatches(indexes));
+        }
+        return estimate;
+    }
+
+    @Override
+    public double getTestCost() {
+        return operands.stream().mapToDouble(QueryPlan::getTestCost).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AllOfPredicate // instanceof handles nulls
+                && operands.equals(((AllOfPredicate) other).operands)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Object::toString).collect(Collectors.joining(" AND ", "(", ")"));
+    }
+}
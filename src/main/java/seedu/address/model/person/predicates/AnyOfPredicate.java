@@ -0,0 +1,93 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Tests that a {@code Person} passes any of the predicates given.
+ * Operands that are themselves {@code AnyOfPredicate}s are flattened into this one.
+ */
+public class AnyOfPredicate implements IndexedPredicate {
+    private final List<Predicate<Person>> operands;
+
+    /**
+     * Creates an AnyOfPredicate of {@code operands}, which are tested in the order given.
+     */
+    public AnyOfPredicate(List<Predicate<Person>> operands) {
+        requireNonNull(operands);
+        List<Predicate<Person>> flattenedOperands = new ArrayList<>();
+        for (Predicate<Person> operand : operands) {
+            if (operand instanceof AnyOfPredicate) {
+                flattenedOperands.addAll(((AnyOfPredicate) operand).operands);
+            } else {
+                flattenedOperands.add(operand);
+            }
+        }
+        this.operands = List.copyOf(flattenedOperands);
+    }
+
+    public List<Predicate<Person>> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        for (int i = 0; i < operands.size(); i++) {
+            if (operands.get(i).test(person)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if every operand can be looked up in the indexes.
+     */
+    @Override
+    public boolean isIndexed() {
+        return operands.stream().allMatch(IndexedPredicate::canLookUp);
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        List<CompressedBitmap> employees = new ArrayList<>();
+        for (Predicate<Person> operand : operands) {
+            employees.add(((IndexedPredicate) operand).getMatchingEmployees(indexes));
+        }
+        return CompressedBitmap.orAll(employees);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        long estimate = 0;
+        for (Predicate<Person> operand : operands) {
+            estimate += ((IndexedPredicate) operand).estimateMatches(indexes);
+        }
+        return (int) Math.min(estimate, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public double getTestCost() {
+        return operands.stream().mapToDouble(QueryPlan::getTestCost).sum();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AnyOfPredicate // instanceof handles nulls
+                && operands.equals(((AnyOfPredicate) other).operands)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Object::toString).collect(Collectors.joining(" OR ", "(", ")"));
+    }
+}
@@ -1,18 +1,28 @@
 package seedu.address.model.person.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.core.bitmap.CompressedBitmap;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.TokenField;
+import seedu.address.model.person.TokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Email} contains any of the keywords given.
  */
-public class EmailContainsKeywordsPredicate implements Predicate<Person> {
+public class EmailContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    // Lowercased once here, so that testing a person does not lowercase them again
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a EmailContainsKeywordsPredicate that matches any of {@code keywords}, ignoring case.
+     */
     public EmailContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = TokenField.normalizeAll(keywords);
     }
 
     /**
@@ -22,8 +32,38 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> (person.getEmail().value.toLowerCase().contains(keyword.toLowerCase())));
+        String email = person.getEmail().getLowerCaseValue();
+        for (String keyword : normalizedKeywords) {
+            if (email.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.EMAIL);
+        List<CompressedBitmap> employees = new ArrayList<>();
+        for (String keyword : keywords) {
+            employees.add(index.getEmployeesWithTokenContaining(keyword));
+        }
+        return CompressedBitmap.orAll(employees);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.EMAIL);
+        int count = 0;
+        for (String keyword : keywords) {
+            count += index.estimateWithTokenContaining(keyword);
+        }
+        return count;
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size();
     }
 
     @Override
@@ -32,4 +72,9 @@ public class EmailContainsKeywordsPredicate implements Predicate<Person> {
                 || (other instanceof EmailContainsKeywordsPredicate // instanceof handles nulls
                 && keywords.equals(((EmailContainsKeywordsPredicate) other).keywords)); // state check
     }
+
+    @Override
+    public String toString() {
+        return "email contains any of " + keywords;
+    }
 }
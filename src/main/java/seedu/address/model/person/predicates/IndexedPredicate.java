@@ -0,0 +1,47 @@
+package seedu.address.model.person.predicates;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * A predicate on persons whose matches can also be looked up in the {@code PersonIndexes} of the persons,
+ * instead of testing every person.
+ */
+public interface IndexedPredicate extends Predicate<Person> {
+
+    /**
+     * Returns the ids of the employees among the persons indexed by {@code indexes} that pass this predicate.
+     */
+    CompressedBitmap getMatchingEmployees(PersonIndexes indexes);
+
+    /**
+     * Returns true if the matches of this predicate can be looked up in the indexes.
+     * Only a predicate combining others may return false, when some of them cannot be looked up.
+     */
+    default boolean isIndexed() {
+        return true;
+    }
+
+    /**
+     * Returns true if the matches of {@code predicate} can be looked up in the indexes.
+     */
+    static boolean canLookUp(Predicate<Person> predicate) {
+        return predicate instanceof IndexedPredicate && ((IndexedPredicate) predicate).isIndexed();
+    }
+
+    /**
+     * Returns an estimate of the number of employees that {@link #getMatchingEmployees} would return, taken from the
+     * sizes kept by {@code indexes} without collecting the employees. It is never less than the actual number.
+     */
+    int estimateMatches(PersonIndexes indexes);
+
+    /**
+     * Returns the cost of testing one person against this predicate, relative to comparing a single number.
+     */
+    default double getTestCost() {
+        return 1;
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.model.person.predicates;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
 import javafx.util.Pair;
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.LeaveCalendar;
+import seedu.address.model.person.LeavesTaken;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 
 /**
  * Tests that a {@code Person}'s {@code LeavesTaken} contains any of the dates given,
@@ -13,7 +19,7 @@ import seedu.address.model.person.Person;
  * A match is found if the specified date is present, or if the person has a
  * leave within the date range.
  */
-public class LeavesTakenContainsDatesPredicate implements Predicate<Person> {
+public class LeavesTakenContainsDatesPredicate implements IndexedPredicate {
     private final List<LocalDate> dates;
     private final List<Pair<LocalDate, LocalDate>> dateRanges;
 
@@ -38,12 +44,52 @@ public class LeavesTakenContainsDatesPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        boolean containsDate = dates.stream()
-                .anyMatch(date -> person.getLeavesTaken().containsDate(date));
-        boolean isWithinDateRange = dateRanges.stream()
-                .anyMatch(datePair -> person.getLeavesTaken()
-                        .containsDateRange(datePair.getKey(), datePair.getValue()));
-        return containsDate || isWithinDateRange;
+        // Each check is a binary search of the sorted dates, so stop at the first match
+        LeavesTaken leavesTaken = person.getLeavesTaken();
+        for (LocalDate date : dates) {
+            if (leavesTaken.containsDate(date)) {
+                return true;
+            }
+        }
+        for (Pair<LocalDate, LocalDate> datePair : dateRanges) {
+            if (leavesTaken.containsDateRange(datePair.getKey(), datePair.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        LeaveCalendar calendar = indexes.getLeaveCalendar();
+        List<CompressedBitmap> employeesOnLeave = new ArrayList<>();
+        for (LocalDate date : dates) {
+            employeesOnLeave.add(calendar.getEmployeesOnLeave(date));
+        }
+        for (Pair<LocalDate, LocalDate> datePair : dateRanges) {
+            employeesOnLeave.add(calendar.getEmployeesOnLeave(datePair.getKey(), datePair.getValue()));
+        }
+        return CompressedBitmap.orAll(employeesOnLeave);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        LeaveCalendar calendar = indexes.getLeaveCalendar();
+        int count = 0;
+        for (LocalDate date : dates) {
+            count += calendar.estimateOnLeave(date, date);
+        }
+        for (Pair<LocalDate, LocalDate> datePair : dateRanges) {
+            count += calendar.estimateOnLeave(datePair.getKey(), datePair.getValue());
+        }
+        return count;
+    }
+
+    @Override
+    public double getTestCost() {
+        return dates.size() + dateRanges.size();
     }
 
     @Override
@@ -52,4 +98,13 @@ public class LeavesTakenContainsDatesPredicate implements Predicate<Person> {
                 || (other instanceof LeavesTakenContainsDatesPredicate // instanceof handles nulls
                 && dates.equals(((LeavesTakenContainsDatesPredicate) other).dates)); // state check
     }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("on leave on any of ").append(dates);
+        for (Pair<LocalDate, LocalDate> datePair : dateRanges) {
+            builder.append(" or from ").append(datePair.getKey()).append(" to ").append(datePair.getValue());
+        }
+        return builder.toString();
+    }
 }
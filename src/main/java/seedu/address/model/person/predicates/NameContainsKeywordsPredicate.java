@@ -1,20 +1,30 @@
 package seedu.address.model.person.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.core.bitmap.CompressedBitmap;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.TokenField;
+import seedu.address.model.person.TokenIndex;
 
 /**
  * Tests that a {@code Person}'s {@code Name} contains any of the keywords given.
  * Names match if the specified keywords are present in the Name.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    // Lowercased once here, so that testing a person only looks them up in the words of their name
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a NameContainsKeywordsPredicate that matches any of {@code keywords} as a whole word, ignoring case.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = TokenField.normalizeAll(keywords);
     }
 
     /**
@@ -24,8 +34,38 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        Set<String> nameTokens = person.getName().getTokens();
+        for (String keyword : normalizedKeywords) {
+            if (nameTokens.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.NAME);
+        List<CompressedBitmap> employees = new ArrayList<>();
+        for (String keyword : keywords) {
+            employees.add(index.getEmployeesWithToken(keyword));
+        }
+        return CompressedBitmap.orAll(employees);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.NAME);
+        int count = 0;
+        for (String keyword : keywords) {
+            count += index.countWithToken(keyword);
+        }
+        return count;
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size();
     }
 
     @Override
@@ -34,4 +74,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
                 && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
+
+    @Override
+    public String toString() {
+        return "name has any of the words " + keywords;
+    }
 }
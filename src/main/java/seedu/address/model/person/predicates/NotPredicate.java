@@ -0,0 +1,79 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Tests that a {@code Person} fails the predicate given.
+ * Its matches are looked up as every employee but those matching the operand, if the operand can be looked up.
+ */
+public class NotPredicate implements IndexedPredicate {
+    private final Predicate<Person> operand;
+
+    /**
+     * Creates a NotPredicate of {@code operand}.
+     */
+    public NotPredicate(Predicate<Person> operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Predicate<Person> getOperand() {
+        return operand;
+    }
+
+    /**
+     * Returns a predicate that a person passes exactly when they fail {@code operand}, which is the operand itself
+     * if it is a {@code NotPredicate}, so that double negations are not tested.
+     */
+    public static Predicate<Person> negate(Predicate<Person> operand) {
+        return operand instanceof NotPredicate ? ((NotPredicate) operand).operand : new NotPredicate(operand);
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return !operand.test(person);
+    }
+
+    @Override
+    public boolean isIndexed() {
+        return IndexedPredicate.canLookUp(operand);
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        return indexes.getAllEmployees().andNot(((IndexedPredicate) operand).getMatchingEmployees(indexes));
+    }
+
+    /**
+     * Returns the number of persons, as the estimate of the operand is only an upper bound of its matches.
+     */
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        return indexes.getPersonCount();
+    }
+
+    @Override
+    public double getTestCost() {
+        return QueryPlan.getTestCost(operand);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotPredicate // instanceof handles nulls
+                && operand.equals(((NotPredicate) other).operand)); // state check
+    }
+
+    @Override
+    public String toString() {
+        return "NOT " + operand;
+    }
+}
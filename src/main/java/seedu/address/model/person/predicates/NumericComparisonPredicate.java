@@ -0,0 +1,78 @@
+package seedu.address.model.person.predicates;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.NumericField;
+import seedu.address.model.person.NumericRange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Tests that the value of a {@code NumericField} of a {@code Person} is in a {@code NumericRange}.
+ * Its matches are looked up in the {@code NumericIndex} of the field.
+ */
+public class NumericComparisonPredicate implements IndexedPredicate {
+
+    private final NumericField field;
+    private final NumericRange range;
+
+    /**
+     * Constructs a predicate that a person passes when the value of their {@code field} is in {@code range}.
+     */
+    public NumericComparisonPredicate(NumericField field, NumericRange range) {
+        requireAllNonNull(field, range);
+        this.field = field;
+        this.range = range;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return range.contains(field.valueOf(person));
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        return indexes.getNumericIndex(field).getEmployeesInRange(range);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        return indexes.getNumericIndex(field).countInRange(range);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NumericComparisonPredicate // instanceof handles nulls
+                && field == ((NumericComparisonPredicate) other).field
+                && range.equals(((NumericComparisonPredicate) other).range)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, range);
+    }
+
+    /**
+     * Returns the field and the range, with a range open at one end written as a comparison.
+     */
+    @Override
+    public String toString() {
+        double lowerBound = range.getLowerBound();
+        double upperBound = range.getUpperBound();
+        String comparison;
+        if (lowerBound == Double.NEGATIVE_INFINITY) {
+            comparison = (range.isUpperInclusive() ? "<= " : "< ") + upperBound;
+        } else if (upperBound == Double.POSITIVE_INFINITY) {
+            comparison = (range.isLowerInclusive() ? ">= " : "> ") + lowerBound;
+        } else if (lowerBound == upperBound) {
+            comparison = "= " + lowerBound;
+        } else {
+            comparison = "in " + range;
+        }
+        return field + " " + comparison;
+    }
+}
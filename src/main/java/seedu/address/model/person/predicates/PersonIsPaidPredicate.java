@@ -16,4 +16,9 @@ public class PersonIsPaidPredicate implements Predicate<Person> {
         return other == this // short circuit if same object
                 || (other instanceof PersonIsPaidPredicate);
     }
+
+    @Override
+    public String toString() {
+        return "unpaid";
+    }
 }
@@ -34,4 +34,9 @@ public class PhoneNumberMatchesPredicate implements Predicate<Person> {
                 || (other instanceof PhoneNumberMatchesPredicate // instanceof handles nulls
                 && keyNumbers.equals(((PhoneNumberMatchesPredicate) other).keyNumbers)); // state check
     }
+
+    @Override
+    public String toString() {
+        return "phone is any of " + keyNumbers;
+    }
 }
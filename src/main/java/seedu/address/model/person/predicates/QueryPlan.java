@@ -0,0 +1,227 @@
+package seedu.address.model.person.predicates;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+
+/**
+ * Plans how to find the persons that pass all of a list of filters, using estimates taken from the
+ * {@code PersonIndexes} of the persons.
+ * Filters that can be looked up in the indexes are looked up from the one expected to match the fewest employees,
+ * and the bitmaps of the employees they match are intersected. A lookup expected to match many more employees than
+ * are left is skipped, and its filter is tested on the employees left instead. The other filters are then tested on
+ * each person, cheapest and most selective first, so that a person failing the plan fails it as early and cheaply as
+ * possible.
+ */
+public class QueryPlan {
+
+    /** Share of the persons assumed to pass a filter that cannot be estimated. */
+    public static final double DEFAULT_SELECTIVITY = 0.5;
+
+    /** Cost of testing one person against a filter that does not give its own cost. */
+    public static final double DEFAULT_TEST_COST = 1;
+
+    private final List<Predicate<Person>> filters;
+    private final PersonIndexes indexes;
+    private final int personCount;
+    private final List<Stage> lookupStages = new ArrayList<>();
+    private final List<Stage> scanStages = new ArrayList<>();
+    private boolean isRecording;
+
+    /**
+     * Plans how to find the persons indexed by {@code indexes} that pass all of {@code filters}.
+     *
+     * @param isRecording Whether the time taken by, and the number of persons passing, each stage is recorded
+     *                    for {@link #explain()}.
+     */
+    public QueryPlan(List<Predicate<Person>> filters, PersonIndexes indexes, boolean isRecording) {
+        requireNonNull(filters);
+        requireNonNull(indexes);
+        this.filters = List.copyOf(filters);
+        this.indexes = indexes;
+        this.personCount = indexes.getPersonCount();
+        this.isRecording = isRecording;
+
+        List<Stage> indexedStages = new ArrayList<>();
+        for (Predicate<Person> filter : this.filters) {
+            if (IndexedPredicate.canLookUp(filter)) {
+                IndexedPredicate indexedFilter = (IndexedPredicate) filter;
+                int estimate = Math.min(indexedFilter.estimateMatches(indexes), personCount);
+                indexedStages.add(new Stage(filter, indexedFilter.getTestCost(), estimate, getSelectivity(estimate)));
+            } else {
+                scanStages.add(new Stage(filter, getTestCost(filter), -1, DEFAULT_SELECTIVITY));
+            }
+        }
+
+        indexedStages.sort(Comparator.comparingInt(stage -> stage.estimatedMatches));
+        double estimatedCandidates = personCount;
+        for (Stage stage : indexedStages) {
+            // Looking up a filter costs about as much as the employees it matches, and testing it costs as much as
+            // the employees left times the cost of a test
+            if (lookupStages.isEmpty() || stage.estimatedMatches <= estimatedCandidates * stage.testCost) {
+                lookupStages.add(stage);
+                estimatedCandidates = Math.min(estimatedCandidates, stage.estimatedMatches);
+            } else {
+                scanStages.add(stage);
+            }
+        }
+        scanStages.sort(Comparator.comparingDouble(Stage::getRank));
+    }
+
+    /**
+     * Returns the cost of testing one person against {@code filter}, relative to comparing a single number.
+     */
+    public static double getTestCost(Predicate<Person> filter) {
+        if (filter instanceof IndexedPredicate) {
+            return ((IndexedPredicate) filter).getTestCost();
+        }
+        return DEFAULT_TEST_COST;
+    }
+
+    private double getSelectivity(int estimatedMatches) {
+        return personCount == 0 ? 0 : (double) estimatedMatches / personCount;
+    }
+
+    /**
+     * Looks up the employees passing the planned lookups, and returns a predicate with the same results as the
+     * filters, which only tests the other filters on those employees.
+     * Once the indexes change, the employees looked up may be stale, so it falls back to testing every filter.
+     */
+    public Predicate<Person> execute() {
+        CompressedBitmap candidates = null;
+        for (Stage stage : lookupStages) {
+            if (candidates != null && candidates.isEmpty()) {
+                stage.isSkipped = true;
+                continue;
+            }
+            long startTime = System.nanoTime();
+            CompressedBitmap matches = ((IndexedPredicate) stage.filter).getMatchingEmployees(indexes);
+            candidates = candidates == null ? matches : candidates.and(matches);
+            if (isRecording) {
+                stage.elapsedNanos.add(System.nanoTime() - startTime);
+                stage.passedCount.add(matches.getCardinality());
+            }
+        }
+
+        Predicate<Person> scanPredicate = x -> true;
+        for (Stage stage : scanStages) {
+            scanPredicate = scanPredicate.and(isRecording ? person -> stage.testRecorded(person) : stage.filter);
+        }
+        Predicate<Person> allFilters = filters.stream()
+                .reduce(x -> true, (predicate1, predicate2) -> predicate1.and(predicate2));
+        if (candidates == null) {
+            return scanPredicate;
+        }
+
+        CompressedBitmap lookedUpEmployees = candidates;
+        Predicate<Person> otherPredicate = scanPredicate;
+        int modificationCount = indexes.getModificationCount();
+        return person -> indexes.getModificationCount() == modificationCount
+                ? lookedUpEmployees.contains(person.getEmployeeId().value) && otherPredicate.test(person)
+                : allFilters.test(person);
+    }
+
+    /**
+     * Returns a description of each stage of the plan, in the order they are carried out, with what was recorded
+     * of them since the plan was executed. Stops recording, so that later tests of the persons are not counted.
+     */
+    public String explain() {
+        isRecording = false;
+        StringBuilder explanation = new StringBuilder(
+                String.format("Plan for %1$d filter(s) over %2$d employee(s):", filters.size(), personCount));
+        int stageNumber = 1;
+        for (Stage stage : lookupStages) {
+            explanation.append(String.format("\n%1$d. Index lookup of %2$s (estimated %3$d): ",
+                    stageNumber++, stage.filter, stage.estimatedMatches));
+            explanation.append(stage.isSkipped
+                    ? "skipped, as no employees were left"
+                    : String.format("%1$d found in %2$s", stage.passedCount.sum(),
+                            formatNanos(stage.elapsedNanos.sum())));
+        }
+        for (Stage stage : scanStages) {
+            explanation.append(String.format("\n%1$d. Test of %2$s: %3$d of %4$d passed in %5$s",
+                    stageNumber++, stage.filter, stage.passedCount.sum(), stage.testedCount.sum(),
+                    formatNanos(stage.elapsedNanos.sum())));
+        }
+        return explanation.toString();
+    }
+
+    private static String formatNanos(long nanos) {
+        return String.format("%.3f ms", nanos / 1e6);
+    }
+
+    /**
+     * Returns the filters looked up in the indexes, in the order they are looked up.
+     */
+    public List<Predicate<Person>> getLookupFilters() {
+        List<Predicate<Person>> lookupFilters = new ArrayList<>();
+        for (Stage stage : lookupStages) {
+            lookupFilters.add(stage.filter);
+        }
+        return lookupFilters;
+    }
+
+    /**
+     * Returns the filters tested on each person, in the order they are tested.
+     */
+    public List<Predicate<Person>> getTestedFilters() {
+        List<Predicate<Person>> testedFilters = new ArrayList<>();
+        for (Stage stage : scanStages) {
+            testedFilters.add(stage.filter);
+        }
+        return testedFilters;
+    }
+
+    /**
+     * A filter in the plan, with its estimates and what was recorded of it.
+     * The records are added up safely when persons are tested on several threads at once.
+     */
+    private class Stage {
+        private final Predicate<Person> filter;
+        private final double testCost;
+        private final int estimatedMatches;
+        private final double selectivity;
+
+        private final LongAdder testedCount = new LongAdder();
+        private final LongAdder passedCount = new LongAdder();
+        private final LongAdder elapsedNanos = new LongAdder();
+        private boolean isSkipped;
+
+        Stage(Predicate<Person> filter, double testCost, int estimatedMatches, double selectivity) {
+            this.filter = filter;
+            this.testCost = testCost;
+            this.estimatedMatches = estimatedMatches;
+            this.selectivity = selectivity;
+        }
+
+        /**
+         * Returns the cost of testing this filter for each person it rules out, so that testing the filters from the
+         * lowest rank up rules out persons at the least cost.
+         */
+        double getRank() {
+            return selectivity >= 1 ? Double.POSITIVE_INFINITY : testCost / (1 - selectivity);
+        }
+
+        boolean testRecorded(Person person) {
+            if (!isRecording) {
+                return filter.test(person);
+            }
+            long startTime = System.nanoTime();
+            boolean isPassed = filter.test(person);
+            elapsedNanos.add(System.nanoTime() - startTime);
+            testedCount.increment();
+            if (isPassed) {
+                passedCount.increment();
+            }
+            return isPassed;
+        }
+    }
+}
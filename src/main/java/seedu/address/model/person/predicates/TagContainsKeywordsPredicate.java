@@ -1,18 +1,29 @@
 package seedu.address.model.person.predicates;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.core.bitmap.CompressedBitmap;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
+import seedu.address.model.person.TokenField;
+import seedu.address.model.person.TokenIndex;
+import seedu.address.model.tag.Tag;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} contains any of the keywords given.
  */
-public class TagContainsKeywordsPredicate implements Predicate<Person> {
+public class TagContainsKeywordsPredicate implements IndexedPredicate {
     private final List<String> keywords;
+    // Lowercased once here, so that testing a person does not lowercase them again
+    private final String[] normalizedKeywords;
 
+    /**
+     * Creates a TagContainsKeywordsPredicate that matches any of {@code keywords}, ignoring case.
+     */
     public TagContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.normalizedKeywords = TokenField.normalizeAll(keywords);
     }
 
     /**
@@ -27,9 +38,40 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> (person.getTags().stream()
-                        .anyMatch(tag -> tag.tagName.toLowerCase().contains(keyword.toLowerCase()))));
+        for (Tag tag : person.getTags()) {
+            String tagName = tag.tagName.toLowerCase();
+            for (String keyword : normalizedKeywords) {
+                if (tagName.contains(keyword)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public CompressedBitmap getMatchingEmployees(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.TAG);
+        List<CompressedBitmap> employees = new ArrayList<>();
+        for (String keyword : keywords) {
+            employees.add(index.getEmployeesWithTokenContaining(keyword));
+        }
+        return CompressedBitmap.orAll(employees);
+    }
+
+    @Override
+    public int estimateMatches(PersonIndexes indexes) {
+        TokenIndex index = indexes.getTokenIndex(TokenField.TAG);
+        int count = 0;
+        for (String keyword : keywords) {
+            count += index.estimateWithTokenContaining(keyword);
+        }
+        return count;
+    }
+
+    @Override
+    public double getTestCost() {
+        return keywords.size();
     }
 
     @Override
@@ -38,4 +80,9 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                 || (other instanceof TagContainsKeywordsPredicate // instanceof handles nulls
                 && keywords.equals(((TagContainsKeywordsPredicate) other).keywords)); // state check
     }
+
+    @Override
+    public String toString() {
+        return "tags contain any of " + keywords;
+    }
 }
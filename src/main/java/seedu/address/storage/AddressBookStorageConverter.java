@@ -0,0 +1,69 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts AddressBook data between two {@link AddressBookStorage}s, e.g. from json to binary and back.
+ */
+public class AddressBookStorageConverter {
+
+    public static final String MIGRATED_FILE_SUFFIX = ".migrated";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageConverter.class);
+
+    /**
+     * Copies the data in {@code source} into {@code target}, replacing the data in {@code target}.
+     * Returns false without changing {@code target} if {@code source} has no data file.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        target.flushAddressBook();
+        logger.info("Converted " + source.getAddressBookFilePath() + " into " + target.getAddressBookFilePath());
+        return true;
+    }
+
+    /**
+     * Moves the data in {@code source} into {@code target}, if {@code target} has no data file yet.
+     * Once converted, the data file of {@code source} is renamed with {@link #MIGRATED_FILE_SUFFIX},
+     * so that moving back to {@code source} later converts the latest data again instead of reading stale data.
+     * Returns true if the data was moved.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean migrate(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+
+        if (Files.exists(target.getAddressBookFilePath()) || !convert(source, target)) {
+            return false;
+        }
+        Path sourceFilePath = source.getAddressBookFilePath();
+        Files.move(sourceFilePath, sourceFilePath.resolveSibling(sourceFilePath.getFileName() + MIGRATED_FILE_SUFFIX),
+                StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+}
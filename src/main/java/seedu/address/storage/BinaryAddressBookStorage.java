@@ -0,0 +1,357 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.CalculatedPay;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.HourlySalary;
+import seedu.address.model.person.HoursWorked;
+import seedu.address.model.person.LeaveBalance;
+import seedu.address.model.person.LeavesTaken;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Overtime;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * The file starts with a magic number and a format version, followed by a table of every distinct role and a table
+ * of every distinct tag, and then the persons. Strings are stored as their UTF-8 length followed by their bytes,
+ * numbers are stored as they are, leaves taken are stored as epoch days, and roles and tags as indexes into the tables.
+ * Reading the file does not go through Jackson, and only validates each role and tag once.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "File is not a binary HeRon data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file version %d is not supported";
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary data file is corrupted";
+
+    // "HRNB" in ASCII
+    static final int MAGIC_NUMBER = 0x48524e42;
+    static final int VERSION = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the binary data file that is kept in place of the json data file at {@code jsonFilePath},
+     * i.e. the same path with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return jsonFilePath.resolveSibling(baseName + FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The whole file is read into memory with a single channel read before it is decoded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED_FILE));
+            }
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+        }
+
+        try {
+            return Optional.of(readAddressBook(buffer));
+        } catch (BufferUnderflowException bue) {
+            logger.info("Binary file " + filePath + " ends unexpectedly");
+            throw new DataConversionException(new IllegalValueException(MESSAGE_CORRUPTED_FILE));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Decodes an address book from {@code buffer}.
+     *
+     * @throws IllegalValueException if the data is not in the expected layout or any data constraints are violated.
+     */
+    private static AddressBook readAddressBook(ByteBuffer buffer) throws IllegalValueException {
+        if (buffer.remaining() < Integer.BYTES || buffer.getInt() != MAGIC_NUMBER) {
+            throw new IllegalValueException(MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        try {
+            Role[] roles = new Role[readCount(buffer)];
+            for (int i = 0; i < roles.length; i++) {
+                roles[i] = new Role(readString(buffer));
+            }
+            Tag[] tags = new Tag[readCount(buffer)];
+            for (int i = 0; i < tags.length; i++) {
+                tags[i] = new Tag(readString(buffer));
+            }
+
+            int personCount = readCount(buffer);
+            List<Person> persons = new ArrayList<>(personCount);
+            for (int i = 0; i < personCount; i++) {
+                persons.add(readPerson(buffer, roles, tags));
+            }
+            return JsonSerializableAddressBook.toAddressBook(persons);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            // Thrown by the model's constructors when a stored value violates its constraints
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    private static Person readPerson(ByteBuffer buffer, Role[] roles, Tag[] tags) throws IllegalValueException {
+        EmployeeId employeeId = new EmployeeId(buffer.getInt());
+        Name name = new Name(readString(buffer));
+        Phone phone = new Phone(readString(buffer));
+        Email email = new Email(readString(buffer));
+        Address address = new Address(readString(buffer));
+        Role role = roles[readIndex(buffer, roles.length)];
+        LeaveBalance leaveBalance = new LeaveBalance(buffer.getInt());
+
+        int[] epochDays = new int[readCount(buffer)];
+        buffer.asIntBuffer().get(epochDays);
+        buffer.position(buffer.position() + epochDays.length * Integer.BYTES);
+        LeavesTaken leavesTaken = LeavesTaken.fromEpochDays(epochDays);
+
+        HourlySalary salary = new HourlySalary(buffer.getDouble());
+        HoursWorked hoursWorked = new HoursWorked(buffer.getInt());
+        Overtime overtime = new Overtime(buffer.getInt());
+        CalculatedPay calculatedPay = new CalculatedPay(buffer.getDouble());
+
+        int tagCount = readCount(buffer);
+        Set<Tag> personTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            personTags.add(tags[readIndex(buffer, tags.length)]);
+        }
+
+        return new Person(employeeId, name, phone, email, address, role, leaveBalance, leavesTaken, salary,
+                hoursWorked, overtime, calculatedPay, personTags);
+    }
+
+    private static String readString(ByteBuffer buffer) throws IllegalValueException {
+        int length = readCount(buffer);
+        String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+                StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    /**
+     * Reads the number of entries or bytes that follow.
+     * Every entry takes up at least a byte, so a count larger than the rest of the file is also corrupted.
+     */
+    private static int readCount(ByteBuffer buffer) throws IllegalValueException {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return count;
+    }
+
+    private static int readIndex(ByteBuffer buffer, int tableSize) throws IllegalValueException {
+        int index = buffer.getInt();
+        if (index < 0 || index >= tableSize) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        return index;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> roleIndexes = new LinkedHashMap<>();
+        Map<String, Integer> tagIndexes = new LinkedHashMap<>();
+        for (Person person : persons) {
+            roleIndexes.putIfAbsent(person.getRole().value, roleIndexes.size());
+            for (Tag tag : person.getTags()) {
+                tagIndexes.putIfAbsent(tag.tagName, tagIndexes.size());
+            }
+        }
+
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            BufferedChannelWriter writer = new BufferedChannelWriter(Channels.newChannel(out));
+            writer.putInt(MAGIC_NUMBER);
+            writer.putInt(VERSION);
+            writer.putStrings(roleIndexes.keySet());
+            writer.putStrings(tagIndexes.keySet());
+            writer.putInt(persons.size());
+            for (Person person : persons) {
+                writePerson(writer, person, roleIndexes, tagIndexes);
+            }
+            writer.flush();
+        });
+    }
+
+    private static void writePerson(BufferedChannelWriter writer, Person person, Map<String, Integer> roleIndexes,
+            Map<String, Integer> tagIndexes) throws IOException {
+        writer.putInt(person.getEmployeeId().value);
+        writer.putString(person.getName().fullName);
+        writer.putString(person.getPhone().value);
+        writer.putString(person.getEmail().value);
+        writer.putString(person.getAddress().value);
+        writer.putInt(roleIndexes.get(person.getRole().value));
+        writer.putInt(person.getLeaveBalance().value);
+
+        int[] epochDays = person.getLeavesTaken().toEpochDays();
+        writer.putInt(epochDays.length);
+        for (int epochDay : epochDays) {
+            writer.putInt(epochDay);
+        }
+
+        writer.putDouble(person.getSalary().value);
+        writer.putInt(person.getHoursWorked().value);
+        writer.putInt(person.getOvertime().value);
+        writer.putDouble(person.getCalculatedPay().value);
+
+        writer.putInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writer.putInt(tagIndexes.get(tag.tagName));
+        }
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save is written to the file straight away, so there is never anything to flush
+    }
+
+    /**
+     * Collects values in a buffer and writes them to a channel whenever the buffer is full.
+     */
+    private static class BufferedChannelWriter {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        BufferedChannelWriter(WritableByteChannel channel) {
+            this.channel = channel;
+        }
+
+        void putInt(int value) throws IOException {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putDouble(double value) throws IOException {
+            ensureRemaining(Double.BYTES);
+            buffer.putDouble(value);
+        }
+
+        void putString(String value) throws IOException {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putInt(bytes.length);
+            if (bytes.length > buffer.capacity()) {
+                flush();
+                writeFully(ByteBuffer.wrap(bytes));
+                return;
+            }
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        void putStrings(Set<String> values) throws IOException {
+            putInt(values.size());
+            for (String value : values) {
+                putString(value);
+            }
+        }
+
+        void flush() throws IOException {
+            buffer.flip();
+            writeFully(buffer);
+            buffer.clear();
+        }
+
+        private void ensureRemaining(int byteCount) throws IOException {
+            if (buffer.remaining() < byteCount) {
+                flush();
+            }
+        }
+
+        private void writeFully(ByteBuffer source) throws IOException {
+            while (source.hasRemaining()) {
+                channel.write(source);
+            }
+        }
+    }
+}
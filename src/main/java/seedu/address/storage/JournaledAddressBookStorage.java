@@ -0,0 +1,281 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus a journal of the changes made since then.
+ * Each save only appends the persons that were added, edited or deleted to the journal, which is kept next to the
+ * snapshot file. Once the journal holds more than a given number of records, the next save writes a fresh snapshot
+ * and starts a new journal.
+ * Reading the data file replays the journal on top of the snapshot. The journal starts with the checksum of the
+ * snapshot it belongs to, so a journal left over from an interrupted compaction is not replayed twice.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // Persons as currently stored in the snapshot and journal, by employee id in list order.
+    // Null when it is not known what is stored, in which case the next save writes a snapshot.
+    private Map<EmployeeId, Person> storedPersons;
+    private int journalRecordCount;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshot at {@code filePath}
+     * and compacts its journal once it holds more than {@code compactionThreshold} records.
+     */
+    public JournaledAddressBookStorage(Path filePath, int compactionThreshold) {
+        requireNonNull(filePath);
+        snapshotStorage = new JsonAddressBookStorage(filePath);
+        journalFilePath = filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the file path of the journal that is kept next to the data file.
+     */
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage has a journal; any other file is read as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        List<String> journal = snapshot.isPresent() && Files.exists(journalFilePath)
+                ? Files.readAllLines(journalFilePath, StandardCharsets.UTF_8)
+                : List.of();
+        if (journal.isEmpty() || !isJournalOfSnapshot(journal.get(0))) {
+            // Without a journal, the snapshot may come from an older version that does not store employee ids,
+            // so it is rewritten in full on the next save
+            if (!journal.isEmpty()) {
+                logger.warning("Ignoring " + journalFilePath + " as it was not started from the current data file");
+            }
+            storedPersons = null;
+            return snapshot;
+        }
+
+        Map<EmployeeId, Person> persons = new LinkedHashMap<>();
+        snapshot.get().getPersonList().forEach(person -> persons.put(person.getEmployeeId(), person));
+        journalRecordCount = replayJournal(journal, persons);
+
+        AddressBook addressBook;
+        try {
+            addressBook = JsonSerializableAddressBook.toAddressBook(new ArrayList<>(persons.values()));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found after replaying " + journalFilePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        storedPersons = persons;
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Returns true if {@code firstLine} of the journal names the snapshot that is currently in the data file.
+     * A journal that does not is left over from before the last snapshot was written, and is already part of it.
+     */
+    private boolean isJournalOfSnapshot(String firstLine) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(firstLine, JsonAdaptedJournalRecord.class)
+                    .isSnapshot(getSnapshotChecksum());
+        } catch (JsonProcessingException jpe) {
+            return false;
+        }
+    }
+
+    /**
+     * Applies every record after the first line of {@code journal} to {@code persons}
+     * and returns the number of records applied.
+     * An unreadable last line is the remains of a write that was interrupted, so it is skipped.
+     */
+    private int replayJournal(List<String> journal, Map<EmployeeId, Person> persons)
+            throws DataConversionException, IOException {
+        int recordCount = 0;
+        for (int i = 1; i < journal.size(); i++) {
+            String line = journal.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class);
+            } catch (JsonProcessingException jpe) {
+                if (i == journal.size() - 1) {
+                    logger.warning("Skipping incomplete last record of " + journalFilePath);
+                    break;
+                }
+                logger.info("Unreadable record found in " + journalFilePath + ": " + jpe.getMessage());
+                throw new DataConversionException(jpe);
+            }
+
+            try {
+                record.applyTo(persons);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            recordCount++;
+        }
+        return recordCount;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the data file of this storage has a journal; any other file is written as a plain json file.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Map<EmployeeId, Person> persons = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> persons.put(person.getEmployeeId(), person));
+
+        List<JsonAdaptedJournalRecord> records = storedPersons == null ? null : getChanges(storedPersons, persons);
+        if (records == null || journalRecordCount + records.size() > compactionThreshold) {
+            writeSnapshot(addressBook);
+        } else if (!records.isEmpty()) {
+            appendToJournal(records);
+        }
+        storedPersons = persons;
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save is written to the files straight away, so there is never anything to flush
+    }
+
+    /**
+     * Returns the journal records that turn {@code oldPersons} into {@code newPersons},
+     * or null if the change cannot be expressed as records, i.e. the remaining persons have been reordered.
+     */
+    private static List<JsonAdaptedJournalRecord> getChanges(Map<EmployeeId, Person> oldPersons,
+            Map<EmployeeId, Person> newPersons) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        List<EmployeeId> replayedOrder = new ArrayList<>(newPersons.size());
+
+        for (EmployeeId employeeId : oldPersons.keySet()) {
+            if (newPersons.containsKey(employeeId)) {
+                replayedOrder.add(employeeId);
+            } else {
+                records.add(JsonAdaptedJournalRecord.remove(employeeId));
+            }
+        }
+
+        for (Map.Entry<EmployeeId, Person> entry : newPersons.entrySet()) {
+            Person oldPerson = oldPersons.get(entry.getKey());
+            Person newPerson = entry.getValue();
+            if (oldPerson == null) {
+                replayedOrder.add(entry.getKey());
+            }
+            // Unchanged persons are shared between copies of the address book, so most are skipped by reference
+            if (oldPerson != newPerson && !newPerson.equals(oldPerson)) {
+                records.add(JsonAdaptedJournalRecord.put(newPerson));
+            }
+        }
+
+        // Replaying puts new persons at the end of the list, which must match the order being saved
+        Iterator<EmployeeId> savedOrder = newPersons.keySet().iterator();
+        for (EmployeeId employeeId : replayedOrder) {
+            if (!employeeId.equals(savedOrder.next())) {
+                return null;
+            }
+        }
+        return records;
+    }
+
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(journalFilePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonAdaptedJournalRecord record : records) {
+                writer.write(JsonUtil.toCompactJsonString(record));
+                writer.newLine();
+            }
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Writes {@code addressBook} in full to the snapshot and starts a new journal that names the snapshot.
+     * If the new journal cannot be started, the old journal no longer names the snapshot and is ignored on reading.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Compacting " + journalFilePath + " into " + getAddressBookFilePath());
+        snapshotStorage.saveAddressBook(addressBook);
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.snapshot(getSnapshotChecksum()));
+        FileUtil.writeToFile(journalFilePath, header + System.lineSeparator());
+        journalRecordCount = 0;
+    }
+
+    private String getSnapshotChecksum() throws IOException {
+        CRC32 checksum = new CRC32();
+        checksum.update(Files.readAllBytes(getAddressBookFilePath()));
+        return Long.toHexString(checksum.getValue());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change to the address book, as recorded in a journal file.
+ * A record either puts a person, replacing the person with the same employee id if there is one,
+ * or removes the person with a given employee id.
+ * The first record of a journal instead names the snapshot that the changes apply to, by its checksum.
+ */
+class JsonAdaptedJournalRecord {
+
+    public static final String OPERATION_PUT = "put";
+    public static final String OPERATION_REMOVE = "remove";
+    public static final String OPERATION_SNAPSHOT = "snapshot";
+
+    public static final String MESSAGE_UNKNOWN_OPERATION = "Journal record has an unknown operation: %s";
+    public static final String MESSAGE_MISSING_PERSON = "Journal record to put a person has no person!";
+
+    private final String operation;
+    private final String employeeId;
+    private final JsonAdaptedPerson person;
+    private final String checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("operation") String operation,
+            @JsonProperty("employeeId") String employeeId, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("checksum") String checksum) {
+        this.operation = operation;
+        this.employeeId = employeeId;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns a record that puts {@code person} into the address book.
+     */
+    public static JsonAdaptedJournalRecord put(Person person) {
+        return new JsonAdaptedJournalRecord(OPERATION_PUT, person.getEmployeeId().toString(),
+                new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns a record that removes the person with {@code employeeId} from the address book.
+     */
+    public static JsonAdaptedJournalRecord remove(EmployeeId employeeId) {
+        return new JsonAdaptedJournalRecord(OPERATION_REMOVE, employeeId.toString(), null, null);
+    }
+
+    /**
+     * Returns a record that starts a journal of changes to the snapshot with {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(String checksum) {
+        return new JsonAdaptedJournalRecord(OPERATION_SNAPSHOT, null, null, checksum);
+    }
+
+    /**
+     * Returns true if this record starts a journal of changes to the snapshot with {@code checksum}.
+     */
+    public boolean isSnapshot(String checksum) {
+        return OPERATION_SNAPSHOT.equals(operation) && checksum.equals(this.checksum);
+    }
+
+    /**
+     * Applies this record to {@code persons}, which holds persons by their employee id in list order.
+     * A person put under a new employee id goes to the end of the list.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public void applyTo(Map<EmployeeId, Person> persons) throws IllegalValueException {
+        if (OPERATION_PUT.equals(operation)) {
+            if (person == null) {
+                throw new IllegalValueException(MESSAGE_MISSING_PERSON);
+            }
+            Person modelPerson = person.toModelType();
+            persons.put(modelPerson.getEmployeeId(), modelPerson);
+            return;
+        }
+
+        if (OPERATION_REMOVE.equals(operation)) {
+            if (employeeId == null || !EmployeeId.isValidEmployeeId(employeeId)) {
+                throw new IllegalValueException(EmployeeId.MESSAGE_CONSTRAINTS);
+            }
+            persons.remove(new EmployeeId(employeeId));
+            return;
+        }
+
+        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_OPERATION, operation));
+    }
+}
@@ -14,6 +14,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.CalculatedPay;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.HourlySalary;
 import seedu.address.model.person.HoursWorked;
 import seedu.address.model.person.LeaveBalance;
@@ -32,6 +33,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final String employeeId;
     private final String name;
     private final String phone;
     private final String email;
@@ -49,13 +51,15 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
+    public JsonAdaptedPerson(@JsonProperty("employeeId") String employeeId,
+            @JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
             @JsonProperty("role") String role, @JsonProperty("leaves") String leaves,
             @JsonProperty("leavesTaken") List<LocalDate> leavesTaken, @JsonProperty("salary") String salary,
             @JsonProperty("hoursWorked") String hoursWorked, @JsonProperty("overtime") String overtime,
             @JsonProperty("calculatedPay") String calculatedPay,
             @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+        this.employeeId = employeeId;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -76,6 +80,7 @@ class JsonAdaptedPerson {
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        employeeId = source.getEmployeeId().toString();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -92,6 +97,23 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns true if this adapted person has a stored employee id, i.e. one is not generated when converting it.
+     */
+    boolean hasEmployeeId() {
+        return employeeId != null;
+    }
+
+    /**
+     * Registers the stored employee id, if it is valid, so that the ids generated for persons without one do not
+     * clash with it.
+     */
+    void registerEmployeeId() {
+        if (employeeId != null && EmployeeId.isValidEmployeeId(employeeId)) {
+            new EmployeeId(employeeId);
+        }
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -103,6 +125,16 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
+        final EmployeeId modelEmployeeId;
+        if (employeeId == null) {
+            // Data files written before employee ids were introduced do not have one yet
+            modelEmployeeId = EmployeeId.generate();
+        } else if (!EmployeeId.isValidEmployeeId(employeeId)) {
+            throw new IllegalValueException(EmployeeId.MESSAGE_CONSTRAINTS);
+        } else {
+            modelEmployeeId = new EmployeeId(employeeId);
+        }
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -196,8 +228,9 @@ class JsonAdaptedPerson {
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelRole, modelLeaveBalance,
-                modelLeavesTaken, modelHourlySalary, modelHoursWorked, modelOvertime, modelCalculatedPay, modelTags);
+        return new Person(modelEmployeeId, modelName, modelPhone, modelEmail, modelAddress, modelRole,
+                modelLeaveBalance, modelLeavesTaken, modelHourlySalary, modelHoursWorked, modelOvertime,
+                modelCalculatedPay, modelTags);
     }
 
 }
@@ -3,24 +3,43 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is written one person at a time, and read a chunk of persons at a time, so it is never held in memory as a
+ * whole. A save only replaces the file once it is complete.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    // Name of the field of JsonSerializableAddressBook that holds the persons
+    private static final String PERSONS_FIELD = "persons";
+    private static final String MESSAGE_NOT_AN_ADDRESS_BOOK = "Expected an object with a list of persons";
+
+    // Number of persons read before they are converted together, enough for them to be converted in parallel
+    private static final int CONVERSION_CHUNK_SIZE = JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD;
+
     private Path filePath;
 
     public JsonAddressBookStorage(Path filePath) {
@@ -38,6 +57,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * Persons are converted in chunks as they are read, so the file is never held in memory as a whole.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
@@ -45,20 +65,82 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(readAddressBook(parser));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Reads an address book in the layout of {@link JsonSerializableAddressBook} from {@code parser}.
+     * Persons with a stored employee id are converted a chunk at a time as they are read, in parallel for full
+     * chunks. Persons without one are only converted at the end, once every stored id has been registered, so that
+     * the ids generated for them do not clash with ids stored further down the file.
+     */
+    private static AddressBook readAddressBook(JsonParser parser) throws IOException, IllegalValueException {
+        List<Person> persons = new ArrayList<>();
+        List<JsonAdaptedPerson> chunk = new ArrayList<>();
+        // Persons without a stored employee id, and their positions in the list, where they are held by a null
+        List<JsonAdaptedPerson> personsWithoutId = new ArrayList<>();
+        List<Integer> positionsWithoutId = new ArrayList<>();
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!PERSONS_FIELD.equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_ADDRESS_BOOK);
+            }
+
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                if (!person.hasEmployeeId()) {
+                    convertChunk(chunk, persons);
+                    personsWithoutId.add(person);
+                    positionsWithoutId.add(persons.size());
+                    persons.add(null);
+                    continue;
+                }
+                chunk.add(person);
+                if (chunk.size() == CONVERSION_CHUNK_SIZE) {
+                    convertChunk(chunk, persons);
+                }
+            }
+        }
+        convertChunk(chunk, persons);
+
+        for (int i = 0; i < personsWithoutId.size(); i++) {
+            persons.set(positionsWithoutId.get(i), personsWithoutId.get(i).toModelType());
+        }
+        return JsonSerializableAddressBook.toAddressBook(persons);
+    }
+
+    /**
+     * Converts the persons in {@code chunk}, adds them to the end of {@code persons} and empties the chunk.
+     */
+    private static void convertChunk(List<JsonAdaptedPerson> chunk, List<Person> persons)
+            throws IllegalValueException {
+        persons.addAll(JsonSerializableAddressBook.toModelPersons(chunk,
+                chunk.size() >= JsonSerializableAddressBook.PARALLEL_CONVERSION_THRESHOLD));
+        chunk.clear();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -73,8 +155,22 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(PERSONS_FIELD);
+                for (Person person : addressBook.getPersonList()) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    @Override
+    public void flushAddressBook() {
+        // Every save is written to the file straight away, so there is never anything to flush
     }
 
 }
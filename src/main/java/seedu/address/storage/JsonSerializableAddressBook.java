@@ -1,8 +1,12 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -11,7 +15,11 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicateEmailException;
+import seedu.address.model.person.exceptions.DuplicatePhoneException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -20,6 +28,10 @@ import seedu.address.model.person.Person;
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_DUPLICATE_EMPLOYEE_ID = "Persons list contains duplicate employee id(s).";
+
+    // Number of persons from which converting them in parallel is worth the overhead
+    public static final int PARALLEL_CONVERSION_THRESHOLD = 1000;
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
@@ -42,17 +54,91 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Address books with at least {@link #PARALLEL_CONVERSION_THRESHOLD} persons are converted in parallel.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
+        return toModelType(persons.size() >= PARALLEL_CONVERSION_THRESHOLD);
+    }
+
+    /**
+     * Converts this address book into the model's {@code AddressBook} object,
+     * converting the persons in parallel if {@code isParallel} is true.
+     * Either way, the error reported is that of the first person in the list that violates the data constraints.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook toModelType(boolean isParallel) throws IllegalValueException {
+        // Every stored id is registered before any id is generated, so a generated id never takes a stored one
+        persons.forEach(JsonAdaptedPerson::registerEmployeeId);
+        // Persons without an employee id are given one as they are converted, which must happen in list order
+        boolean canConvertInParallel = persons.stream().allMatch(JsonAdaptedPerson::hasEmployeeId);
+        return toAddressBook(toModelPersons(persons, isParallel && canConvertInParallel));
+    }
+
+    /**
+     * Converts {@code persons} into the model's {@code Person} objects, in the same order, converting them in
+     * parallel if {@code isParallel} is true. Persons converted in parallel must all have a stored employee id.
+     * Either way, the error reported is that of the first person in the list that violates the data constraints.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Person> toModelPersons(List<JsonAdaptedPerson> persons, boolean isParallel)
+            throws IllegalValueException {
+        return isParallel ? convertInParallel(persons) : convertInOrder(persons);
+    }
+
+    private static List<Person> convertInOrder(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        List<Person> modelPersons = new ArrayList<>(persons.size());
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
+            modelPersons.add(jsonAdaptedPerson.toModelType());
+        }
+        return modelPersons;
+    }
+
+    private static List<Person> convertInParallel(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        Person[] modelPersons = new Person[persons.size()];
+        IllegalValueException[] errors = new IllegalValueException[persons.size()];
+        IntStream.range(0, persons.size()).parallel().forEach(i -> {
+            try {
+                modelPersons[i] = persons.get(i).toModelType();
+            } catch (IllegalValueException ive) {
+                errors[i] = ive;
+            }
+        });
+
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
+            }
+        }
+        return Arrays.asList(modelPersons);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding {@code persons}, as read from storage, in the same order.
+     * Duplicates are found through hashing, and the persons are added to the address book in one go.
+     *
+     * @throws IllegalValueException if two persons are the same person, or share an employee id, phone or email.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        Set<Name> names = new HashSet<>();
+        Set<EmployeeId> employeeIds = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
-            addressBook.addPerson(person);
+            if (!employeeIds.add(person.getEmployeeId())) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_EMPLOYEE_ID);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePhoneException | DuplicateEmailException e) {
+            throw new IllegalValueException(e.getMessage(), e);
         }
         return addressBook;
     }
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonInputReader;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes lists of persons to other applications, one person at a time, so the output is never held in memory.
+ */
+public class PersonExporter {
+
+    /** The columns of the CSV output, which can be imported again. */
+    public static final String[] CSV_HEADER = {PersonInputReader.COLUMN_NAME, PersonInputReader.COLUMN_PHONE,
+        PersonInputReader.COLUMN_EMAIL, PersonInputReader.COLUMN_ADDRESS, PersonInputReader.COLUMN_ROLE,
+        PersonInputReader.COLUMN_LEAVES, PersonInputReader.COLUMN_SALARY, PersonInputReader.COLUMN_HOURS_WORKED,
+        PersonInputReader.COLUMN_OVERTIME, PersonInputReader.COLUMN_TAGS};
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final String TAG_SEPARATOR = "/";
+    private static final char LINE_BREAK = '\n';
+
+    /**
+     * Writes {@code persons} to {@code channel} as CSV data with a header row, in the layout accepted by the
+     * import command. The channel is left open.
+     */
+    public static void writeCsv(List<Person> persons, WritableByteChannel channel) throws IOException {
+        requireAllNonNull(persons, channel);
+
+        CsvWriter csvWriter = new CsvWriter(
+                new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), -1), BUFFER_SIZE));
+        csvWriter.writeRecord(CSV_HEADER);
+        String[] record = new String[CSV_HEADER.length];
+        for (Person person : persons) {
+            record[0] = person.getName().fullName;
+            record[1] = person.getPhone().value;
+            record[2] = person.getEmail().value;
+            record[3] = person.getAddress().value;
+            record[4] = person.getRole().value;
+            record[5] = person.getLeaveBalance().toString();
+            record[6] = person.getSalary().toString();
+            record[7] = person.getHoursWorked().toString();
+            record[8] = person.getOvertime().toString();
+            record[9] = joinTags(person);
+            csvWriter.writeRecord(record);
+        }
+        csvWriter.flush();
+    }
+
+    private static String joinTags(Person person) {
+        StringBuilder tags = new StringBuilder();
+        for (Tag tag : person.getTags()) {
+            if (tags.length() > 0) {
+                tags.append(TAG_SEPARATOR);
+            }
+            tags.append(tag.tagName);
+        }
+        return tags.toString();
+    }
+
+    /**
+     * Writes {@code persons} to {@code channel} as JSON lines, one JSON object per person in the same format as the
+     * data file. The channel is left open.
+     */
+    public static void writeJsonLines(List<Person> persons, WritableByteChannel channel) throws IOException {
+        requireAllNonNull(persons, channel);
+
+        // The generator buffers its output, so the channel is written to in blocks
+        JsonGenerator generator = JsonUtil.createCompactGenerator(Channels.newOutputStream(channel));
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+            generator.writeRaw(LINE_BREAK);
+        }
+        generator.flush();
+    }
+}
@@ -76,4 +76,10 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void flushAddressBook() throws IOException {
+        logger.fine("Attempting to flush data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flushAddressBook();
+    }
+
 }
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that accepts saves immediately and writes them to another
+ * {@code AddressBookStorage} on a background thread after a short delay.
+ * Saves that arrive while a write is pending replace the pending address book, so a burst of saves results in
+ * a single write of the latest data. A background write that fails is reported by the next save or flush.
+ * A save only copies the list of persons, which are immutable, and never waits for a write in progress.
+ */
+public class WriteBehindAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long delayMillis;
+    private final ScheduledExecutorService writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Held while writing to the underlying storage, so that writes reach it one at a time and in order.
+    // It is always taken before the lock on this object, which only guards the fields below.
+    private final Object writeLock = new Object();
+
+    // Snapshot of the latest address book that has been saved but not yet written, and where to write it to
+    private ReadOnlyAddressBook pendingAddressBook;
+    private Path pendingFilePath;
+    private boolean isWriteScheduled;
+    private IOException lastWriteFailure;
+
+    /**
+     * Creates a {@code WriteBehindAddressBookStorage} that writes to {@code addressBookStorage}
+     * {@code delayMillis} milliseconds after the first of a burst of saves.
+     */
+    public WriteBehindAddressBookStorage(AddressBookStorage addressBookStorage, long delayMillis) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+        this.delayMillis = delayMillis;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        synchronized (writeLock) {
+            // Pending data must reach the file first, otherwise the read would return stale data
+            writePendingAddressBook();
+            return addressBookStorage.readAddressBook(filePath);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} to be written to {@code filePath} in the background.
+     * @throws IOException if the previous background write failed. The given address book is still accepted.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireAllNonNull(addressBook, filePath);
+        ReadOnlyAddressBook snapshot = new AddressBookSnapshot(addressBook);
+
+        if (isPendingForOtherFile(filePath)) {
+            writePendingAddressBook();
+        }
+        IOException failure;
+        synchronized (this) {
+            pendingAddressBook = snapshot;
+            pendingFilePath = filePath;
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.schedule(this::writeInBackground, delayMillis, TimeUnit.MILLISECONDS);
+            }
+            failure = lastWriteFailure;
+            lastWriteFailure = null;
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private synchronized boolean isPendingForOtherFile(Path filePath) {
+        return pendingFilePath != null && !pendingFilePath.equals(filePath);
+    }
+
+    /**
+     * Writes out the pending address book, if any, on the calling thread.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    @Override
+    public void flushAddressBook() throws IOException {
+        synchronized (writeLock) {
+            synchronized (this) {
+                lastWriteFailure = null;
+            }
+            writePendingAddressBook();
+            addressBookStorage.flushAddressBook();
+        }
+    }
+
+    private void writeInBackground() {
+        synchronized (this) {
+            isWriteScheduled = false;
+        }
+        try {
+            writePendingAddressBook();
+        } catch (IOException ioe) {
+            logger.warning("Failed to write data file in the background: " + StringUtil.getDetails(ioe));
+            synchronized (this) {
+                lastWriteFailure = ioe;
+            }
+        }
+    }
+
+    /**
+     * Writes the pending address book to the underlying storage.
+     * The pending address book is only taken under the lock on this object, so saves can go on during the write.
+     * If the write fails, the address book is kept pending so that a later flush can retry it, unless a newer one
+     * has been saved meanwhile.
+     */
+    private void writePendingAddressBook() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook;
+            Path filePath;
+            synchronized (this) {
+                if (pendingAddressBook == null) {
+                    return;
+                }
+                addressBook = pendingAddressBook;
+                filePath = pendingFilePath;
+                pendingAddressBook = null;
+                pendingFilePath = null;
+            }
+
+            try {
+                addressBookStorage.saveAddressBook(addressBook, filePath);
+            } catch (IOException ioe) {
+                synchronized (this) {
+                    if (pendingAddressBook == null) {
+                        pendingAddressBook = addressBook;
+                        pendingFilePath = filePath;
+                    }
+                }
+                throw ioe;
+            }
+        }
+    }
+
+    /**
+     * A copy of the list of persons of an address book, which does not change with the address book.
+     * Persons are immutable, so copying the list is enough, and no persons are validated or indexed again.
+     */
+    private static class AddressBookSnapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+
+        AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+            persons = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableList(List.copyOf(addressBook.getPersonList())));
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return persons;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -170,6 +171,17 @@ public class MainWindow extends UiPart<Stage> {
         primaryStage.hide();
     }
 
+    /**
+     * Shows {@code feedback} from work that a command left running in the background, after the feedback displayed.
+     * It may be called from any thread.
+     */
+    private void showBackgroundFeedback(String feedback) {
+        Platform.runLater(() -> {
+            logger.info("Background result: " + feedback);
+            resultDisplay.appendFeedbackToUser(feedback);
+        });
+    }
+
     /**
      * Executes the command and returns the result.
      *
@@ -180,6 +192,8 @@ public class MainWindow extends UiPart<Stage> {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
+            commandResult.getBackgroundFeedback()
+                    .ifPresent(feedback -> feedback.thenAccept(this::showBackgroundFeedback));
 
             if (commandResult.isShowHelp()) {
                 handleHelp();
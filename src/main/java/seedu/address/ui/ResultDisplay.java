@@ -25,4 +25,12 @@ public class ResultDisplay extends UiPart<Region> {
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Adds {@code feedbackToUser} on a new line after the feedback already displayed.
+     */
+    public void appendFeedbackToUser(String feedbackToUser) {
+        requireNonNull(feedbackToUser);
+        resultDisplay.appendText("\n" + feedbackToUser);
+    }
+
 }
@@ -0,0 +1,181 @@
+package seedu.address.commons.core.bitmap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    private static final int GROUP_SIZE = 1 << 16;
+
+    /**
+     * Returns a bitmap and a set with the same random values, some sparse, some dense and some in runs, spread over
+     * the first few groups.
+     */
+    private static CompressedBitmap randomBitmap(Random random, TreeSet<Integer> expected) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int group = 0; group < 4; group++) {
+            int base = group * GROUP_SIZE;
+            switch (random.nextInt(4)) {
+            case 0: // sparse
+                for (int i = 0; i < 100; i++) {
+                    int value = base + random.nextInt(GROUP_SIZE);
+                    bitmap.add(value);
+                    expected.add(value);
+                }
+                break;
+            case 1: // dense
+                for (int i = 0; i < 20000; i++) {
+                    int value = base + random.nextInt(GROUP_SIZE);
+                    bitmap.add(value);
+                    expected.add(value);
+                }
+                break;
+            case 2: // runs
+                for (int i = 0; i < 5; i++) {
+                    int start = base + random.nextInt(GROUP_SIZE - 5000);
+                    int end = start + random.nextInt(5000);
+                    bitmap.addRange(start, end);
+                    for (int value = start; value <= end; value++) {
+                        expected.add(value);
+                    }
+                }
+                break;
+            default: // empty group
+                break;
+            }
+        }
+        return bitmap;
+    }
+
+    private static void assertSameValues(TreeSet<Integer> expected, CompressedBitmap actual) {
+        assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual.toArray());
+        assertEquals(expected.size(), actual.getCardinality());
+    }
+
+    @Test
+    public void add_valuesAddedAndRemoved_sameAsSet() {
+        Random random = new Random(1);
+        CompressedBitmap bitmap = new CompressedBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 50000; i++) {
+            int value = random.nextInt(3 * GROUP_SIZE);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), bitmap.remove(value));
+            } else {
+                bitmap.add(value);
+                expected.add(value);
+            }
+        }
+        assertSameValues(expected, bitmap);
+        for (int i = 0; i < 1000; i++) {
+            int value = random.nextInt(3 * GROUP_SIZE);
+            assertEquals(expected.contains(value), bitmap.contains(value));
+        }
+    }
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().addRange(-1, 5));
+        assertFalse(CompressedBitmap.of(1).contains(-1));
+    }
+
+    @Test
+    public void addRange_acrossGroups_allValuesAdded() {
+        CompressedBitmap bitmap = CompressedBitmap.of(3, 10);
+        bitmap.addRange(5, 2 * GROUP_SIZE + 2);
+        assertEquals(2 * GROUP_SIZE + 2 - 5 + 1 + 1, bitmap.getCardinality());
+        assertTrue(bitmap.contains(3));
+        assertFalse(bitmap.contains(4));
+        assertTrue(bitmap.contains(GROUP_SIZE));
+        assertTrue(bitmap.contains(2 * GROUP_SIZE + 2));
+        assertFalse(bitmap.contains(2 * GROUP_SIZE + 3));
+
+        // removing from the middle of a run splits it
+        assertTrue(bitmap.remove(GROUP_SIZE + 7));
+        assertFalse(bitmap.contains(GROUP_SIZE + 7));
+        assertTrue(bitmap.contains(GROUP_SIZE + 6));
+        assertTrue(bitmap.contains(GROUP_SIZE + 8));
+    }
+
+    @Test
+    public void andOrAndNot_randomBitmaps_sameAsSets() {
+        Random random = new Random(2);
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Integer> first = new TreeSet<>();
+            TreeSet<Integer> second = new TreeSet<>();
+            CompressedBitmap firstBitmap = randomBitmap(random, first);
+            CompressedBitmap secondBitmap = randomBitmap(random, second);
+
+            TreeSet<Integer> intersection = new TreeSet<>(first);
+            intersection.retainAll(second);
+            assertSameValues(intersection, firstBitmap.and(secondBitmap));
+
+            TreeSet<Integer> union = new TreeSet<>(first);
+            union.addAll(second);
+            assertSameValues(union, firstBitmap.or(secondBitmap));
+            assertSameValues(union, CompressedBitmap.orAll(Arrays.asList(firstBitmap, secondBitmap)));
+
+            TreeSet<Integer> difference = new TreeSet<>(first);
+            difference.removeAll(second);
+            assertSameValues(difference, firstBitmap.andNot(secondBitmap));
+
+            // the operands are unchanged
+            assertSameValues(first, firstBitmap);
+            assertSameValues(second, secondBitmap);
+        }
+    }
+
+    @Test
+    public void copy_copyChanged_originalUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2, 3);
+        CompressedBitmap copy = bitmap.copy();
+        copy.add(4);
+        copy.remove(1);
+        assertArrayEquals(new int[] {1, 2, 3}, bitmap.toArray());
+        assertArrayEquals(new int[] {2, 3, 4}, copy.toArray());
+    }
+
+    @Test
+    public void orAll_noBitmaps_returnsEmptyBitmap() {
+        assertTrue(CompressedBitmap.orAll(Arrays.asList()).isEmpty());
+    }
+
+    @Test
+    public void clear_valuesRemoved() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, GROUP_SIZE + 1);
+        bitmap.clear();
+        assertTrue(bitmap.isEmpty());
+        assertFalse(bitmap.contains(1));
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 2, 3);
+        CompressedBitmap sameValuesAsRange = new CompressedBitmap();
+        sameValuesAsRange.addRange(1, 3);
+
+        // same values, held differently -> returns true
+        assertEquals(bitmap, sameValuesAsRange);
+        assertEquals(bitmap.hashCode(), sameValuesAsRange.hashCode());
+
+        // same object -> returns true
+        assertEquals(bitmap, bitmap);
+
+        // null -> returns false
+        assertNotEquals(null, bitmap);
+
+        // different values -> returns false
+        assertNotEquals(CompressedBitmap.of(1, 2), bitmap);
+    }
+}
@@ -1,14 +1,18 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -82,6 +86,22 @@ public class CollectionUtilTest {
         assertTrue(CollectionUtil.isAnyNonNull(new Object(), null));
     }
 
+    @Test
+    public void testInParallel() {
+        // empty list
+        assertEquals(new BitSet(), CollectionUtil.testInParallel(Collections.<Integer>emptyList(), x -> true));
+
+        // several blocks, with the last one partly filled
+        List<Integer> numbers = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        BitSet expected = new BitSet();
+        numbers.stream().filter(x -> x % 3 == 0 || x == 999).forEach(expected::set);
+        assertEquals(expected, CollectionUtil.testInParallel(numbers, x -> x % 3 == 0 || x == 999));
+
+        // null arguments
+        assertThrows(NullPointerException.class, () -> CollectionUtil.testInParallel(null, x -> true));
+        assertThrows(NullPointerException.class, () -> CollectionUtil.testInParallel(numbers, null));
+    }
+
     /**
      * Asserts that {@code CollectionUtil#requireAllNonNull(Object...)} throw {@code NullPointerException}
      * if {@code objects} or any element of {@code objects} is null.
@@ -0,0 +1,69 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvReader(null));
+    }
+
+    @Test
+    public void readRecord_emptyData_returnsNull() throws Exception {
+        assertNull(new CsvReader(new StringReader("")).readRecord());
+    }
+
+    @Test
+    public void readRecord_unquotedFields_success() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("a,b c, d \r\n,x,\n\nlast"));
+        assertArrayEquals(new String[] {"a", "b c", " d "}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"", "x", ""}, csvReader.readRecord());
+        assertArrayEquals(new String[] {""}, csvReader.readRecord()); // empty line
+        assertArrayEquals(new String[] {"last"}, csvReader.readRecord()); // no line break at the end
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_success() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("\"a, b\",\"say \"\"hi\"\"\",\"line\nbreak\"\n"
+                + "\"\",\"quoted\"after\n"));
+        assertArrayEquals(new String[] {"a, b", "say \"hi\"", "line\nbreak"}, csvReader.readRecord());
+        assertArrayEquals(new String[] {"", "quotedafter"}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_recordsLongerThanBuffer_success() throws Exception {
+        String longField = "x".repeat(20000);
+        CsvReader csvReader = new CsvReader(new StringReader(longField + ",\"" + longField + "\"\n" + longField));
+        assertArrayEquals(new String[] {longField, longField}, csvReader.readRecord());
+        assertArrayEquals(new String[] {longField}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+
+    @Test
+    public void readHeader_byteOrderMark_dropped() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("\uFEFFEmployee,Hours\na,b\n"));
+        String[] header = csvReader.readHeader();
+        assertArrayEquals(new String[] {"Employee", "Hours"}, header);
+        assertEquals(1, CsvReader.indexOfColumn(header, "HOURS"));
+        assertEquals(-1, CsvReader.indexOfColumn(header, "Overtime"));
+        assertArrayEquals(new String[] {"a", "b"}, csvReader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unterminatedQuote_throwsIoException() throws Exception {
+        CsvReader csvReader = new CsvReader(new StringReader("a,b\n\"never closed,c\n"));
+        assertArrayEquals(new String[] {"a", "b"}, csvReader.readRecord());
+        assertThrows(IOException.class, CsvReader.MESSAGE_UNTERMINATED_QUOTE, csvReader::readRecord);
+    }
+}
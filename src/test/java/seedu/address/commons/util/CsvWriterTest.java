@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CsvWriter(null));
+    }
+
+    @Test
+    public void writeRecord_plainFields_notQuoted() throws Exception {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord("a", "", null, "b c");
+        assertEquals("a,,,b c\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_readBackByCsvReader() throws Exception {
+        String[] fields = {"a, b", "say \"hi\"", "line\nbreak", "\"", "end\r"};
+        StringWriter out = new StringWriter();
+        CsvWriter csvWriter = new CsvWriter(out);
+        csvWriter.writeRecord(fields);
+        csvWriter.writeRecord("next");
+
+        assertEquals("\"a, b\",\"say \"\"hi\"\"\",\"line\nbreak\",\"\"\"\",\"end\r\"\r\nnext\r\n", out.toString());
+        CsvReader csvReader = new CsvReader(new StringReader(out.toString()));
+        assertArrayEquals(fields, csvReader.readRecord());
+        assertArrayEquals(new String[] {"next"}, csvReader.readRecord());
+        assertNull(csvReader.readRecord());
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -104,6 +106,25 @@ public class StringUtilTest {
         assertTrue(StringUtil.isDoubleWithDpWithinLimit("-1.0", 1)); // Signed value
     }
 
+    //---------------- Tests for hasDpWithinLimit --------------------------------------
+
+    @Test
+    public void hasDpWithinLimit() {
+
+        // EP: not a finite number
+        assertFalse(StringUtil.hasDpWithinLimit(Double.NaN, 2));
+        assertFalse(StringUtil.hasDpWithinLimit(Double.POSITIVE_INFINITY, 2));
+
+        // EP: number with more than specified decimal places
+        assertFalse(StringUtil.hasDpWithinLimit(1.001, 2));
+        assertFalse(StringUtil.hasDpWithinLimit(0.1, 0));
+
+        // EP: valid numbers, should return true
+        assertTrue(StringUtil.hasDpWithinLimit(0.01, 2)); // Boundary value
+        assertTrue(StringUtil.hasDpWithinLimit(1.10, 1)); // Trailing zeros
+        assertTrue(StringUtil.hasDpWithinLimit(-1, 0)); // Signed value
+    }
+
     //---------------- Tests for isNonNegativeInteger --------------------------------------
 
     @Test
@@ -237,4 +258,21 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for toLowerCaseWords --------------------------------------
+
+    @Test
+    public void toLowerCaseWords_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCaseWords(null));
+    }
+
+    @Test
+    public void toLowerCaseWords_validInputs_correctResult() {
+        // EP: blank text
+        assertEquals(Set.of(), StringUtil.toLowerCaseWords(""));
+        assertEquals(Set.of(), StringUtil.toLowerCaseWords("  "));
+
+        // EP: repeated words in different cases, with extra whitespace
+        assertEquals(Set.of("abc", "def"), StringUtil.toLowerCaseWords(" ABc  def\tabc "));
+    }
+
 }
@@ -9,6 +9,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,6 +24,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.ObservablePerson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -161,6 +163,16 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergePersons(List<Person> targets, List<Person> editedPersons, List<Person> newPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -184,6 +196,11 @@ public class AddCommandTest {
             */
         }
 
+        @Override
+        public PersonIndexes getPersonIndexes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isFilteredPersonListEmpty() {
             throw new AssertionError("This method should not be called.");
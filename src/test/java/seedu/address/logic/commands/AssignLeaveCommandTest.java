@@ -9,10 +9,16 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
@@ -38,6 +44,10 @@ import seedu.address.model.tag.Tag;
 
 
 public class AssignLeaveCommandTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "AssignLeaveTest");
+    private static final Path ROSTER_FILE = TEST_DATA_FOLDER.resolve("Roster.csv");
+    private static final Path UNKNOWN_EMPLOYEE_ROSTER_FILE = TEST_DATA_FOLDER.resolve("UnknownEmployee.csv");
+
     private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     private final LocalDate addedDate = LocalDate.of(2021, 9, 9);
 
@@ -169,6 +179,85 @@ public class AssignLeaveCommandTest {
         assertCommandFailure(assignLeaveCommand, model, expectedMessage);
     }
 
+    @Test
+    public void execute_dateRangeToFilteredList_allAssignedInOneBatch() {
+        List<LocalDate> dates = List.of(addedDate, addedDate.plusDays(1), addedDate.plusDays(2));
+        AssignLeaveCommand assignLeaveCommand = new AssignLeaveCommand(dates);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : model.getFilteredPersonList()) {
+            Person personWithAddedDates = person;
+            for (LocalDate date : dates) {
+                personWithAddedDates = createPersonWithAddedDate(personWithAddedDates, date);
+            }
+            expectedModel.setPerson(person, personWithAddedDates);
+        }
+        String expectedMessage = String.format(AssignLeaveCommand.MESSAGE_BULK_SUCCESS, 3, addedDate,
+                addedDate.plusDays(2), model.getFilteredPersonList().size());
+
+        assertCommandSuccess(assignLeaveCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_notEnoughLeavesForSomeEmployees_allReportedAndNothingAssigned() {
+        // George has 8 leaves and Carl has 11, so only they cannot take 12 leaves
+        List<LocalDate> dates = addedDate.datesUntil(addedDate.plusDays(12)).collect(Collectors.toList());
+        AssignLeaveCommand assignLeaveCommand = new AssignLeaveCommand(dates);
+
+        String expectedMessage = String.format(Messages.MESSAGE_NOT_ENOUGH_LEAVES, CARL.getName(), 11, 12)
+                + String.format(Messages.MESSAGE_NOT_ENOUGH_LEAVES, GEORGE.getName(), 8, 12);
+
+        assertCommandFailure(assignLeaveCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_someDatesAlreadyAssigned_throwsCommandException() {
+        Person personToAddDateTo = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person personWithAddedDate = createPersonWithAddedDate(personToAddDateTo, addedDate.plusDays(1));
+        model.setPerson(personToAddDateTo, personWithAddedDate);
+
+        AssignLeaveCommand assignLeaveCommand = new AssignLeaveCommand(INDEX_FIRST_PERSON,
+                List.of(addedDate, addedDate.plusDays(1)));
+
+        String expectedMessage = String.format(Messages.MESSAGE_DATE_ALREADY_ASSIGNED,
+                personWithAddedDate.getName().toString(), addedDate.plusDays(1));
+
+        assertCommandFailure(assignLeaveCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_roster_assignedToRosteredEmployeesOnce() {
+        AssignLeaveCommand assignLeaveCommand = new AssignLeaveCommand(ROSTER_FILE.toString(), List.of(addedDate));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        for (Person person : List.of(model.getFilteredPersonList().get(0), model.getFilteredPersonList().get(2))) {
+            expectedModel.setPerson(person, createPersonWithAddedDate(person, addedDate));
+        }
+        String expectedMessage = String.format(AssignLeaveCommand.MESSAGE_BULK_SUCCESS, 1, addedDate, addedDate, 2);
+
+        assertCommandSuccess(assignLeaveCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_rosterWithUnknownEmployee_throwsCommandException() {
+        AssignLeaveCommand assignLeaveCommand =
+                new AssignLeaveCommand(UNKNOWN_EMPLOYEE_ROSTER_FILE.toString(), List.of(addedDate));
+
+        String expectedMessage = String.format(AssignLeaveCommand.MESSAGE_ROSTER_ERROR_REPORT, 1,
+                String.format(ImportCommand.MESSAGE_ROW_ERROR, 2,
+                        String.format(ImportHoursCommand.MESSAGE_ROW_UNKNOWN_EMPLOYEE, "nobody@example.com")));
+
+        assertCommandFailure(assignLeaveCommand, model, expectedMessage);
+    }
+
+    @Test
+    public void execute_missingRoster_throwsCommandException() {
+        AssignLeaveCommand assignLeaveCommand = new AssignLeaveCommand(
+                TEST_DATA_FOLDER.resolve("DoesNotExist.csv").toString(), List.of(addedDate));
+
+        assertCommandFailure(assignLeaveCommand, model, AssignLeaveCommand.MESSAGE_ROSTER_MISSING_FILE);
+    }
+
     @Test
     public void equals() {
         final AssignLeaveCommand standardCommand =
@@ -195,5 +284,16 @@ public class AssignLeaveCommandTest {
         // Different date -> returns false
         assertFalse(standardCommand.equals(new AssignLeaveCommand(INDEX_FIRST_PERSON,
                 LocalDate.parse(VALID_DATE_BOB))));
+
+        // Same date given as a list -> returns true
+        assertTrue(standardCommand.equals(new AssignLeaveCommand(INDEX_FIRST_PERSON,
+                List.of(LocalDate.parse(VALID_DATE_AMY)))));
+
+        // Filtered list instead of index -> returns false
+        assertFalse(standardCommand.equals(new AssignLeaveCommand(List.of(LocalDate.parse(VALID_DATE_AMY)))));
+
+        // Roster instead of index -> returns false
+        assertFalse(standardCommand.equals(new AssignLeaveCommand("roster.csv",
+                List.of(LocalDate.parse(VALID_DATE_AMY)))));
     }
 }
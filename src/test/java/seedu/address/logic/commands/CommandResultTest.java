@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.junit.jupiter.api.Test;
 
 public class CommandResultTest {
@@ -33,6 +35,14 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, true)));
+
+        // with feedback from the background -> returns true only for the same feedback
+        CompletableFuture<String> backgroundFeedback = CompletableFuture.completedFuture("done");
+        CommandResult backgroundCommandResult = new CommandResult("feedback", backgroundFeedback);
+        assertTrue(backgroundCommandResult.equals(new CommandResult("feedback", backgroundFeedback)));
+        assertFalse(backgroundCommandResult.equals(commandResult));
+        assertFalse(backgroundCommandResult.equals(
+                new CommandResult("feedback", CompletableFuture.completedFuture("done"))));
     }
 
     @Test
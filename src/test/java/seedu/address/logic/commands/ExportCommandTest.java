@@ -0,0 +1,134 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_FAILURE;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_STARTED;
+import static seedu.address.logic.commands.ExportCommand.MESSAGE_EXPORT_SUCCESS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_allAsCsv_canBeImportedAgain() throws Exception {
+        Path file = testFolder.resolve("employees.csv");
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        CommandResult result = new ExportCommand(file.toString(), true, false, Runnable::run).execute(model);
+
+        assertEquals(String.format(MESSAGE_EXPORT_STARTED, 7, file), result.getFeedbackToUser());
+        assertEquals(String.format(MESSAGE_EXPORT_SUCCESS, 7, file),
+                result.getBackgroundFeedback().get().toCompletableFuture().getNow(null));
+        List<Person> importedPersons = new ImportCommand(file.toString()).processCsv(file.toString());
+        assertEquals(model.getAddressBook().getPersonList(), importedPersons);
+    }
+
+    @Test
+    public void execute_displayedAsJsonLines_onlyDisplayedWritten() throws Exception {
+        Path file = testFolder.resolve("folder").resolve("employees.jsonl");
+        showPersonAtIndex(model, INDEX_SECOND_PERSON);
+        CommandResult result = new ExportCommand(file.toString(), false, true, Runnable::run).execute(model);
+
+        assertEquals(String.format(MESSAGE_EXPORT_STARTED, 1, file), result.getFeedbackToUser());
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(1, lines.size());
+        assertTrue(lines.get(0).startsWith("{"));
+        assertTrue(lines.get(0).contains("\"email\":\"" + BENSON.getEmail() + "\""));
+    }
+
+    @Test
+    public void execute_writingFails_failureReportedAndFileDeleted() throws Exception {
+        Path file = testFolder.resolve("employees.csv");
+        // An interrupted thread cannot write to a file channel, which closes it instead
+        Executor interruptedExecutor = runnable -> {
+            Thread.currentThread().interrupt();
+            try {
+                runnable.run();
+            } finally {
+                Thread.interrupted();
+            }
+        };
+        CommandResult result = new ExportCommand(file.toString(), true, false, interruptedExecutor).execute(model);
+
+        assertEquals(String.format(MESSAGE_EXPORT_STARTED, 7, file), result.getFeedbackToUser());
+        assertTrue(result.getBackgroundFeedback().get().toCompletableFuture().getNow(null)
+                .startsWith(MESSAGE_EXPORT_FAILURE));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_uncheckedExceptionWhileWriting_failureReportedAndFileDeleted() throws Exception {
+        Path file = testFolder.resolve("employees.csv");
+        // Writing a null person throws a NullPointerException rather than an IOException
+        Model modelWithNullPerson = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public ObservableList<Person> getFilteredPersonList() {
+                return FXCollections.observableArrayList(Collections.singletonList(null));
+            }
+        };
+        CommandResult result = new ExportCommand(file.toString(), false, false, Runnable::run)
+                .execute(modelWithNullPerson);
+
+        assertTrue(result.getBackgroundFeedback().get().toCompletableFuture().getNow(null)
+                .startsWith(MESSAGE_EXPORT_FAILURE));
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    public void execute_directoryAsFile_throwsCommandException() {
+        assertThrows(CommandException.class, () ->
+                new ExportCommand(testFolder.toString(), true, false, Runnable::run).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand("employees.csv", false, false);
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(new ExportCommand("employees.csv", false, false)));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different flags or filepath -> returns false
+        assertFalse(exportCommand.equals(new ExportCommand("employees.csv", true, false)));
+        assertFalse(exportCommand.equals(new ExportCommand("employees.csv", false, true)));
+        assertFalse(exportCommand.equals(new ExportCommand("others.csv", false, false)));
+    }
+}
@@ -5,6 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.person.NumericField.HOURS_WORKED;
+import static seedu.address.model.person.NumericField.LEAVE_BALANCE;
+import static seedu.address.model.person.NumericField.OVERTIME;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.equal;
+import static seedu.address.model.person.NumericRange.lessThan;
+import static seedu.address.model.person.NumericRange.moreThan;
+import static seedu.address.model.person.NumericRange.moreThanEqual;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -14,6 +22,7 @@ import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -21,19 +30,22 @@ import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.util.Pair;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.LeavesTaken;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.AnyOfPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.HoursMoreThanEqualPredicate;
-import seedu.address.model.person.predicates.LeaveMoreThanPredicate;
+import seedu.address.model.person.predicates.LeavesTakenContainsDatesPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.OvertimeEqualPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.NumericComparisonPredicate;
 import seedu.address.model.person.predicates.PhoneNumberMatchesPredicate;
 import seedu.address.model.person.predicates.RoleContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.SalaryIsLessThanPredicate;
+import seedu.address.testutil.PersonBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -67,6 +79,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different explain flag -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(List.of(firstPredicate), true)));
     }
 
     @Test
@@ -115,7 +130,7 @@ public class FindCommandTest {
     public void execute_addressAndLeavesMoreThan10_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
         AddressContainsKeywordsPredicate addressPredicate = prepareAddressPredicate("Street");
-        LeaveMoreThanPredicate leavePredicate = new LeaveMoreThanPredicate(10);
+        NumericComparisonPredicate leavePredicate = new NumericComparisonPredicate(LEAVE_BALANCE, moreThan(10));
         Predicate<Person> predicate = combinePredicates(Arrays.asList(addressPredicate, leavePredicate));
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredPersonList(predicate);
@@ -126,8 +141,9 @@ public class FindCommandTest {
     @Test
     public void execute_hoursWorkedMoreThanEqual60AndHourlySalaryLessThan16_multiplePersonsFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
-        HoursMoreThanEqualPredicate hoursWorkedPredicate = new HoursMoreThanEqualPredicate(60);
-        SalaryIsLessThanPredicate salaryPredicate = new SalaryIsLessThanPredicate(16);
+        NumericComparisonPredicate hoursWorkedPredicate =
+                new NumericComparisonPredicate(HOURS_WORKED, moreThanEqual(60));
+        NumericComparisonPredicate salaryPredicate = new NumericComparisonPredicate(SALARY, lessThan(16));
         Predicate<Person> predicate = combinePredicates(Arrays.asList(hoursWorkedPredicate, salaryPredicate));
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredPersonList(predicate);
@@ -150,13 +166,78 @@ public class FindCommandTest {
     @Test
     public void execute_overtimeHoursEqual8_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
-        OvertimeEqualPredicate predicate = new OvertimeEqualPredicate(8);
+        NumericComparisonPredicate predicate = new NumericComparisonPredicate(OVERTIME, equal(8));
         FindCommand command = new FindCommand(predicate);
         expectedModel.updateFilteredPersonList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(Collections.emptyList(), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_datesAndDateRanges_personsOnLeaveFound() {
+        LocalDate date = LocalDate.of(2021, 10, 1);
+        Person aliceOnLeave = new PersonBuilder(ALICE).withEmployeeId(ALICE.getEmployeeId())
+                .withLeavesTaken(Arrays.asList(date)).build();
+        Person carlOnLeave = new PersonBuilder(CARL).withEmployeeId(CARL.getEmployeeId())
+                .withLeavesTaken(Arrays.asList(date.plusDays(10))).build();
+        model.setPersons(Arrays.asList(ALICE, CARL), Arrays.asList(aliceOnLeave, carlOnLeave));
+        expectedModel.setPersons(Arrays.asList(ALICE, CARL), Arrays.asList(aliceOnLeave, carlOnLeave));
+
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        LeavesTakenContainsDatesPredicate predicate = new LeavesTakenContainsDatesPredicate(Arrays.asList(date),
+                Arrays.asList(new Pair<>(date.plusDays(5), date.plusDays(15))));
+        FindCommand command = new FindCommand(predicate);
+        expectedModel.updateFilteredPersonList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(aliceOnLeave, carlOnLeave), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_leavesChangedAfterDateFind_filteredListUpdated() {
+        LocalDate date = LocalDate.of(2021, 10, 1);
+        Person aliceOnLeave = new PersonBuilder(ALICE).withEmployeeId(ALICE.getEmployeeId())
+                .withLeavesTaken(Arrays.asList(date)).build();
+        Person bensonOnLeave = new PersonBuilder(BENSON).withEmployeeId(BENSON.getEmployeeId())
+                .withLeavesTaken(Arrays.asList(date)).build();
+        model.setPerson(ALICE, aliceOnLeave);
+        new FindCommand(new LeavesTakenContainsDatesPredicate(Arrays.asList(date), Collections.emptyList()))
+                .execute(model);
+        assertEquals(Arrays.asList(aliceOnLeave), model.getFilteredPersonList());
+
+        // The persons found are tested again against their new leaves
+        model.setPersons(Arrays.asList(aliceOnLeave, BENSON),
+                Arrays.asList(new PersonBuilder(aliceOnLeave).withEmployeeId(ALICE.getEmployeeId())
+                        .withLeavesTaken(Collections.emptyList()).build(), bensonOnLeave));
+        assertEquals(Arrays.asList(bensonOnLeave), model.getFilteredPersonList());
+        assertEquals(new LeavesTaken(Arrays.asList(date)), model.getFilteredPersonList().get(0).getLeavesTaken());
+    }
+
+    @Test
+    public void execute_findExpression_matchingPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        Predicate<Person> meierOrKurz = new AnyOfPredicate(
+                Arrays.asList(prepareNamePredicate("Meier"), prepareNamePredicate("Kurz")));
+        Predicate<Person> notHighSalary = new NotPredicate(new NumericComparisonPredicate(SALARY, moreThan(20)));
+        FindCommand command = new FindCommand(Arrays.asList(meierOrKurz, notHighSalary));
+        expectedModel.updateFilteredPersonList(meierOrKurz.and(notHighSalary));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CARL, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_planShown() {
+        NameContainsKeywordsPredicate namePredicate = prepareNamePredicate("Meier");
+        NumericComparisonPredicate salaryPredicate = new NumericComparisonPredicate(SALARY, lessThan(1000));
+        FindCommand command = new FindCommand(Arrays.asList(salaryPredicate, namePredicate), true);
+        String result = command.execute(model).getFeedbackToUser();
+
+        assertTrue(result.startsWith(String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+                + "Plan for 2 filter(s) over 7 employee(s):\n"
+                + "1. Index lookup of name has any of the words [Meier] (estimated 2): 2 found in "));
+        assertTrue(result.contains("\n2. Test of hourly salary < 1000.0: 2 of 2 passed in "));
+        assertEquals(Arrays.asList(BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
     /**
      * Parses {@code userInput} into a {@code NameContainsKeywordsPredicate}.
      */
@@ -2,17 +2,28 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ERROR_REPORT;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_FIELD_INVALID_ERROR;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_FIELD_MISSING_ERROR;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_FAILURE;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_FORMAT_ERROR;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_MISSING_FILE;
 import static seedu.address.logic.commands.ImportCommand.MESSAGE_IMPORT_SUCCESS;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_MERGE_DUPLICATE;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_MERGE_SAME_EMPLOYEE;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_MERGE_SUCCESS;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ROW_DUPLICATE;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ROW_ERROR;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ROW_FIELD_MISSING;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -22,12 +33,17 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
 import seedu.address.model.OvertimePayRate;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.ObservablePerson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 
 public class ImportCommandTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "CsvImportTest");
@@ -41,6 +57,14 @@ public class ImportCommandTest {
     private static final Path EMPTY_ENTRY_FILE = TEST_DATA_FOLDER.resolve("EmptyColumn.csv");
     private static final Path ENTRY_WITH_MISSING_NAME_FILE = TEST_DATA_FOLDER.resolve("EntryWithMissingName.csv");
     private static final Path INVALID_FIELD_PRESENT_FILE = TEST_DATA_FOLDER.resolve("InvalidDataPresent.csv");
+    private static final Path INVALID_FIELD_IN_LATER_ROW_FILE = TEST_DATA_FOLDER.resolve("InvalidDataInLaterRow.csv");
+    private static final Path ENTRY_IN_LATER_ROW_WITH_MISSING_NAME_FILE =
+            TEST_DATA_FOLDER.resolve("EntryInLaterRowWithMissingName.csv");
+    private static final Path HEADER_ONLY_FILE = TEST_DATA_FOLDER.resolve("HeaderOnly.csv");
+    private static final Path MULTIPLE_ERRORS_FILE = TEST_DATA_FOLDER.resolve("MultipleErrors.csv");
+    private static final Path MERGE_CHANGES_FILE = TEST_DATA_FOLDER.resolve("MergeChanges.csv");
+    private static final Path MERGE_SAME_EMPLOYEE_FILE = TEST_DATA_FOLDER.resolve("MergeSameEmployee.csv");
+    private static final Path MERGE_DUPLICATE_PHONE_FILE = TEST_DATA_FOLDER.resolve("MergeDuplicatePhone.csv");
     private static final Path MISSING_LEAVES_SALARY_HOURSWORKED_TAGS_FILE =
             TEST_DATA_FOLDER.resolve("MissingLeavesSalaryHoursWorkedTags.csv");
     private Model modelWithDefaultAddressBook;
@@ -172,6 +196,15 @@ public class ImportCommandTest {
         assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
     }
 
+    // File with a header row and no entries
+    @Test
+    public void import_csvWithHeaderOnly_failure() {
+        assertThrows(CommandException.class, MESSAGE_IMPORT_FORMAT_ERROR, () ->
+                new ImportCommand(HEADER_ONLY_FILE.toString()).importData(model));
+        assertThrows(CommandException.class, MESSAGE_IMPORT_FORMAT_ERROR, () ->
+                new ImportCommand(HEADER_ONLY_FILE.toString(), true).importData(model));
+    }
+
     // File with an invalid entry
     @Test
     public void import_csvWithInvalidData_failure() throws Exception {
@@ -190,6 +223,126 @@ public class ImportCommandTest {
         assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
     }
 
+    // File with an invalid entry after valid ones
+    @Test
+    public void import_csvWithInvalidDataInLaterRow_failure() throws Exception {
+        String filePathString = INVALID_FIELD_IN_LATER_ROW_FILE.toString();
+        String expectedMessage = String.format(MESSAGE_FIELD_INVALID_ERROR, 4, Email.MESSAGE_CONSTRAINTS);
+        Command command = new ImportCommand(filePathString);
+        assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
+    }
+
+    // File with an entry missing name input after valid ones
+    @Test
+    public void import_csvWithLaterEntryMissingName_failure() throws Exception {
+        String filePathString = ENTRY_IN_LATER_ROW_WITH_MISSING_NAME_FILE.toString();
+        String expectedMessage = String.format(MESSAGE_FIELD_MISSING_ERROR, 3, "Name");
+        Command command = new ImportCommand(filePathString);
+        assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
+    }
+
+    // File with errors in several rows, checked in full
+    @Test
+    public void import_fullReportOfCsvWithMultipleErrors_allErrorsReported() {
+        String filePathString = MULTIPLE_ERRORS_FILE.toString();
+        String expectedMessage = String.format(MESSAGE_ERROR_REPORT, 4, String.join("\n",
+                String.format(MESSAGE_ROW_ERROR, 2, Name.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_ROW_ERROR, 2, Email.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_ROW_ERROR, 4, String.format(MESSAGE_ROW_FIELD_MISSING, "Role")),
+                String.format(MESSAGE_ROW_ERROR, 6, String.format(MESSAGE_ROW_DUPLICATE, "Contact Number", 1))));
+        Command command = new ImportCommand(filePathString, true);
+        assertThrows(CommandException.class, expectedMessage, () -> command.execute(model));
+    }
+
+    // File with all columns present, checked in full
+    @Test
+    public void import_fullReportOfValidCsv_success() throws Exception {
+        CommandResult result = new ImportCommand(ALL_COLUMNS_PRESENT_FILE.toString(), true).importData(model);
+        assertEquals(MESSAGE_IMPORT_SUCCESS, result.getFeedbackToUser());
+        assertEquals(new ImportCommand(ALL_COLUMNS_PRESENT_FILE.toString()).processCsv(
+                ALL_COLUMNS_PRESENT_FILE.toString()), model.getAddressBook().getPersonList());
+    }
+
+    // File with errors, checked in full, so that no ids are given to its rows
+    @Test
+    public void import_fullReportOfCsvWithMultipleErrors_noIdsGenerated() {
+        int nextId = EmployeeId.generate().value + 1;
+        assertThrows(CommandException.class, () ->
+                new ImportCommand(MULTIPLE_ERRORS_FILE.toString(), true).importData(model));
+        assertEquals(nextId, EmployeeId.generate().value);
+    }
+
+    // File with all columns present, checked in full, so that the rows are given ids in order
+    @Test
+    public void import_fullReportOfValidCsv_idsInRowOrder() throws Exception {
+        int nextId = EmployeeId.generate().value + 1;
+        new ImportCommand(ALL_COLUMNS_PRESENT_FILE.toString(), true).importData(model);
+        List<Person> importedPersons = model.getAddressBook().getPersonList();
+        for (int i = 0; i < importedPersons.size(); i++) {
+            assertEquals(nextId + i, importedPersons.get(i).getEmployeeId().value);
+        }
+    }
+
+    // File with the same data as the existing employees, merged
+    @Test
+    public void import_mergeUnchangedCsv_nothingChanged() throws Exception {
+        Model mergeModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        CommandResult result = new ImportCommand(ALL_COLUMNS_PRESENT_FILE.toString(), false, true)
+                .importData(mergeModel);
+
+        assertEquals(String.format(MESSAGE_MERGE_SUCCESS, 0, 0, 7), result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPersonList(), mergeModel.getAddressBook().getPersonList());
+    }
+
+    // File that updates, keeps and adds employees, merged
+    @Test
+    public void import_mergeChangedCsv_onlyChangesApplied() throws Exception {
+        Model mergeModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person originalAlice = mergeModel.getAddressBook().getPersonList().get(0);
+        CommandResult result = new ImportCommand(MERGE_CHANGES_FILE.toString(), true, true).importData(mergeModel);
+
+        assertEquals(String.format(MESSAGE_MERGE_SUCCESS, 1, 2, 1), result.getFeedbackToUser());
+        List<Person> mergedPersons = mergeModel.getAddressBook().getPersonList();
+        assertEquals(8, mergedPersons.size());
+
+        // Matched by email, keeping the id and the fields that are not in the file
+        Person mergedAlice = mergedPersons.get(0);
+        assertEquals(originalAlice.getEmployeeId(), mergedAlice.getEmployeeId());
+        assertEquals("Senior Quality Assurance", mergedAlice.getRole().toString());
+        assertEquals(ALICE.getLeaveBalance(), mergedAlice.getLeaveBalance());
+        assertEquals(ALICE.getHoursWorked(), mergedAlice.getHoursWorked());
+        assertEquals(ALICE.getTags(), mergedAlice.getTags());
+
+        // Matched by phone
+        assertEquals(BENSON.getName(), mergedPersons.get(1).getName());
+        assertEquals(new Email("benson@example.com"), mergedPersons.get(1).getEmail());
+
+        // Not matched, so added with default values
+        assertEquals(HOON.getName(), mergedPersons.get(7).getName());
+        assertEquals("0", mergedPersons.get(7).getLeaveBalance().toString());
+    }
+
+    // File with two rows matching the same employee, merged
+    @Test
+    public void import_mergeRowsMatchingSameEmployee_failure() {
+        Model mergeModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(MESSAGE_MERGE_SAME_EMPLOYEE, 1, 2, ALICE.getName());
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new ImportCommand(MERGE_SAME_EMPLOYEE_FILE.toString(), false, true).importData(mergeModel));
+        assertEquals(getTypicalAddressBook().getPersonList(), mergeModel.getAddressBook().getPersonList());
+    }
+
+    // File giving an employee the phone of another employee that is not in the file, merged
+    @Test
+    public void import_mergeDuplicatePhoneWithExistingEmployee_failure() {
+        Model mergeModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(MESSAGE_MERGE_DUPLICATE, "Contact Number", ALICE.getName(),
+                BENSON.getName());
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new ImportCommand(MERGE_DUPLICATE_PHONE_FILE.toString(), false, true).importData(mergeModel));
+        assertEquals(getTypicalAddressBook().getPersonList(), mergeModel.getAddressBook().getPersonList());
+    }
+
     /**
      * A default model stub that have all of the methods failing.
      */
@@ -274,6 +427,16 @@ public class ImportCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void setPersons(List<Person> targets, List<Person> editedPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void mergePersons(List<Person> targets, List<Person> editedPersons, List<Person> newPersons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Person> getFilteredPersonList() {
             throw new AssertionError("This method should not be called.");
@@ -294,6 +457,11 @@ public class ImportCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public PersonIndexes getPersonIndexes() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isFilteredPersonListEmpty() {
             throw new AssertionError("This method should not be called.");
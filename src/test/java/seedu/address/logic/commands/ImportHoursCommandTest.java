@@ -0,0 +1,123 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.ImportCommand.MESSAGE_ROW_ERROR;
+import static seedu.address.logic.commands.ImportHoursCommand.MESSAGE_ERROR_REPORT;
+import static seedu.address.logic.commands.ImportHoursCommand.MESSAGE_FORMAT_ERROR;
+import static seedu.address.logic.commands.ImportHoursCommand.MESSAGE_MISSING_FILE;
+import static seedu.address.logic.commands.ImportHoursCommand.MESSAGE_ROW_EXCEEDS_CAPACITY;
+import static seedu.address.logic.commands.ImportHoursCommand.MESSAGE_ROW_UNKNOWN_EMPLOYEE;
+import static seedu.address.logic.commands.ImportHoursCommand.MESSAGE_SUCCESS;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.HoursWorked;
+import seedu.address.model.person.Person;
+
+public class ImportHoursCommandTest {
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "ImportHoursTest");
+    private static final Path VALID_HOURS_FILE = TEST_DATA_FOLDER.resolve("ValidHours.csv");
+    private static final Path INVALID_ROWS_FILE = TEST_DATA_FOLDER.resolve("InvalidRows.csv");
+    private static final Path MISSING_EMPLOYEE_COLUMN_FILE = TEST_DATA_FOLDER.resolve("MissingEmployeeColumn.csv");
+    private static final Path HEADER_ONLY_FILE = TEST_DATA_FOLDER.resolve("HeaderOnly.csv");
+    private static final Path MISSING_FILE = TEST_DATA_FOLDER.resolve("DoesNotExist.csv");
+
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void constructor_nullFilepath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportHoursCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_hoursAddedToAllEmployees() throws Exception {
+        Person originalAlice = model.getAddressBook().getPersonList().get(0);
+        CommandResult result = new ImportHoursCommand(VALID_HOURS_FILE.toString()).execute(model);
+
+        assertEquals(String.format(MESSAGE_SUCCESS, 4, 3), result.getFeedbackToUser());
+        List<Person> persons = model.getAddressBook().getPersonList();
+
+        // Two rows by email are summed, and the id is kept
+        Person updatedAlice = persons.get(0);
+        assertEquals(originalAlice.getEmployeeId(), updatedAlice.getEmployeeId());
+        assertEquals(ALICE.getHoursWorked().value + 12, updatedAlice.getHoursWorked().value);
+        assertEquals(ALICE.getOvertime().value + 2, updatedAlice.getOvertime().value);
+
+        // By contact number, with a blank overtime
+        assertEquals(BENSON.getHoursWorked().value + 10, persons.get(1).getHoursWorked().value);
+        assertEquals(BENSON.getOvertime(), persons.get(1).getOvertime());
+        assertEquals(CARL.getHoursWorked().value + 5, persons.get(2).getHoursWorked().value);
+
+        // Employees not in the file are unchanged
+        assertEquals(getTypicalAddressBook().getPersonList().subList(3, persons.size()), persons.subList(3,
+                persons.size()));
+        assertEquals(updatedAlice, model.getViewingPerson().getPerson());
+    }
+
+    @Test
+    public void execute_invalidRows_allErrorsReportedAndNothingChanged() {
+        int aliceCapacity = HoursWorked.MAX_HOURS_WORKED - ALICE.getHoursWorked().value - 8;
+        String expectedMessage = String.format(MESSAGE_ERROR_REPORT, 4, String.join("\n",
+                String.format(MESSAGE_ROW_ERROR, 2, String.format(MESSAGE_ROW_UNKNOWN_EMPLOYEE,
+                        "nobody@example.com")),
+                String.format(MESSAGE_ROW_ERROR, 3, HoursWorked.MESSAGE_CONSTRAINTS),
+                String.format(MESSAGE_ROW_ERROR, 4, String.format(MESSAGE_ROW_EXCEEDS_CAPACITY, CARL.getName(),
+                        HoursWorked.MAX_HOURS_WORKED, "hours worked",
+                        HoursWorked.MAX_HOURS_WORKED - CARL.getHoursWorked().value)),
+                String.format(MESSAGE_ROW_ERROR, 5, String.format(MESSAGE_ROW_EXCEEDS_CAPACITY, ALICE.getName(),
+                        HoursWorked.MAX_HOURS_WORKED, "hours worked", aliceCapacity))));
+
+        assertThrows(CommandException.class, expectedMessage, () ->
+                new ImportHoursCommand(INVALID_ROWS_FILE.toString()).execute(model));
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_missingEmployeeColumn_throwsCommandException() {
+        assertThrows(CommandException.class, MESSAGE_FORMAT_ERROR, () ->
+                new ImportHoursCommand(MISSING_EMPLOYEE_COLUMN_FILE.toString()).execute(model));
+    }
+
+    @Test
+    public void execute_headerOnly_throwsCommandException() {
+        assertThrows(CommandException.class, MESSAGE_FORMAT_ERROR, () ->
+                new ImportHoursCommand(HEADER_ONLY_FILE.toString()).execute(model));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertThrows(CommandException.class, MESSAGE_MISSING_FILE, () ->
+                new ImportHoursCommand(MISSING_FILE.toString()).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportHoursCommand command = new ImportHoursCommand("a.csv");
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new ImportHoursCommand("a.csv")));
+        assertFalse(command.equals(new ImportHoursCommand("b.csv")));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
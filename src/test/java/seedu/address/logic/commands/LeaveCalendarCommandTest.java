@@ -0,0 +1,73 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class LeaveCalendarCommandTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2021, 10, 1);
+    private static final LocalDate SECOND = LocalDate.of(2021, 10, 2);
+    private static final LocalDate THIRD = LocalDate.of(2021, 10, 3);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noLeaves_everyDayZero() {
+        String expectedMessage = String.format(LeaveCalendarCommand.MESSAGE_SUCCESS, FIRST, SECOND, 0)
+                + "\n" + String.format(LeaveCalendarCommand.MESSAGE_DAY, FIRST, 0)
+                + "\n" + String.format(LeaveCalendarCommand.MESSAGE_DAY, SECOND, 0);
+        assertCommandSuccess(new LeaveCalendarCommand(FIRST, SECOND), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_employeesOnLeave_headcountPerDay() {
+        Person aliceOnLeave = new PersonBuilder(ALICE).withLeavesTaken(Arrays.asList(FIRST, THIRD)).build();
+        Person bensonOnLeave = new PersonBuilder(BENSON).withLeavesTaken(Arrays.asList(FIRST)).build();
+        for (Model m : Arrays.asList(model, expectedModel)) {
+            m.setPersons(Arrays.asList(ALICE, BENSON), Arrays.asList(aliceOnLeave, bensonOnLeave));
+        }
+
+        String expectedMessage = String.format(LeaveCalendarCommand.MESSAGE_SUCCESS, FIRST, THIRD, 2)
+                + "\n" + String.format(LeaveCalendarCommand.MESSAGE_DAY, FIRST, 2)
+                + "\n" + String.format(LeaveCalendarCommand.MESSAGE_DAY, SECOND, 0)
+                + "\n" + String.format(LeaveCalendarCommand.MESSAGE_DAY, THIRD, 1);
+        assertCommandSuccess(new LeaveCalendarCommand(FIRST, THIRD), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        LeaveCalendarCommand command = new LeaveCalendarCommand(FIRST, THIRD);
+
+        // same object -> returns true
+        assertTrue(command.equals(command));
+
+        // same values -> returns true
+        assertTrue(command.equals(new LeaveCalendarCommand(FIRST, THIRD)));
+
+        // different types -> returns false
+        assertFalse(command.equals(1));
+
+        // null -> returns false
+        assertFalse(command.equals(null));
+
+        // different range -> returns false
+        assertFalse(command.equals(new LeaveCalendarCommand(FIRST, SECOND)));
+        assertFalse(command.equals(new LeaveCalendarCommand(SECOND, THIRD)));
+    }
+}
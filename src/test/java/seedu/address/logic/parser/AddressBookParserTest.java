@@ -4,10 +4,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LEAVE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
@@ -19,6 +22,7 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.LeaveCalendarCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.PayCommand;
 import seedu.address.logic.commands.SetOvertimePayRateCommand;
@@ -111,6 +115,13 @@ public class AddressBookParserTest {
         assertEquals(new DeductLeaveBalanceCommand(INDEX_FIRST_PERSON, numberOfLeaves), command);
     }
 
+    @Test
+    public void parseCommand_leaveCalendar() throws Exception {
+        LeaveCalendarCommand command = (LeaveCalendarCommand) parser.parseCommand(
+                LeaveCalendarCommand.COMMAND_WORD + " " + PREFIX_DATE + "2021-10-01:2021-10-31");
+        assertEquals(new LeaveCalendarCommand(LocalDate.of(2021, 10, 1), LocalDate.of(2021, 10, 31)), command);
+    }
+
     @Test
     public void parseCommand_startPayroll() throws Exception {
         assertTrue(parser.parseCommand(StartPayrollCommand.COMMAND_WORD) instanceof StartPayrollCommand);
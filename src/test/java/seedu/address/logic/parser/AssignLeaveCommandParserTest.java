@@ -2,12 +2,14 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DATE_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FINDDATE_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -126,4 +128,52 @@ public class AssignLeaveCommandParserTest {
                 LocalDate.parse(VALID_TYPICAL_DATE)));
     }
 
+    // Several dates and a range -> Success, without repeats
+    @Test
+    public void parse_datesAndRange_success() {
+        String input = " " + FIRST_INDEX + " " + PREFIX_DATE + "2020-02-28 " + PREFIX_DATE + "2020-02-27:2020-03-01";
+        assertParseSuccess(parser, input, new AssignLeaveCommand(INDEX_FIRST_PERSON,
+                List.of(LocalDate.parse("2020-02-27"), LocalDate.parse("2020-02-28"), LocalDate.parse("2020-02-29"),
+                        LocalDate.parse("2020-03-01"))));
+    }
+
+    // All employees in the filtered list -> Success
+    @Test
+    public void parse_all_success() {
+        String input = " " + AssignLeaveCommand.KEYWORD_ALL + " " + PREFIX_DATE + VALID_TYPICAL_DATE;
+        assertParseSuccess(parser, input, new AssignLeaveCommand(List.of(LocalDate.parse(VALID_TYPICAL_DATE))));
+    }
+
+    // Roster with a space in its filepath -> Success
+    @Test
+    public void parse_roster_success() {
+        String filepath = "/Users/Owner/New Folder/roster.csv";
+        String input = " " + AssignLeaveCommand.FLAG_ROSTER + " " + filepath + " " + PREFIX_DATE + VALID_TYPICAL_DATE;
+        assertParseSuccess(parser, input, new AssignLeaveCommand(filepath,
+                List.of(LocalDate.parse(VALID_TYPICAL_DATE))));
+    }
+
+    // Range ending before it starts -> Failure
+    @Test
+    public void parse_reversedRange_failure() {
+        String input = " " + FIRST_INDEX + " " + PREFIX_DATE + "2020-03-01:2020-02-01";
+        assertParseFailure(parser, input, String.format(AssignLeaveCommandParser.MESSAGE_INVALID_DATE_RANGE,
+                AssignLeaveCommand.MESSAGE_USAGE));
+    }
+
+    // Invalid range -> Failure
+    @Test
+    public void parse_invalidRange_failure() {
+        String input = " " + FIRST_INDEX + " " + PREFIX_DATE + "2020-03-01:" + INVALID_DAY_DATE;
+        assertParseFailure(parser, input, String.format(MESSAGE_INVALID_FINDDATE_FORMAT,
+                AssignLeaveCommand.MESSAGE_USAGE));
+    }
+
+    // More dates than the maximum leave balance -> Failure
+    @Test
+    public void parse_tooManyDates_failure() {
+        String input = " " + AssignLeaveCommand.KEYWORD_ALL + " " + PREFIX_DATE + "2020-01-01:2021-01-01";
+        assertParseFailure(parser, input, String.format(AssignLeaveCommandParser.MESSAGE_TOO_MANY_DATES,
+                AssignLeaveCommand.MESSAGE_USAGE));
+    }
 }
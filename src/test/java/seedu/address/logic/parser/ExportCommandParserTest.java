@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+    private static final String TEST_FILEPATH_WITH_SPACE = "/Users/Owner/Desktop/New Folder/Employees.csv";
+
+    private ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + ExportCommand.FLAG_ALL + " " + ExportCommand.FLAG_JSON_LINES,
+                expectedMessage);
+    }
+
+    @Test
+    public void parse_filepathWithSpace_success() {
+        assertParseSuccess(parser, " " + TEST_FILEPATH_WITH_SPACE,
+                new ExportCommand(TEST_FILEPATH_WITH_SPACE, false, false));
+    }
+
+    @Test
+    public void parse_flagsInAnyOrder_success() {
+        assertParseSuccess(parser, " " + ExportCommand.FLAG_ALL + " " + TEST_FILEPATH_WITH_SPACE,
+                new ExportCommand(TEST_FILEPATH_WITH_SPACE, true, false));
+        assertParseSuccess(parser, " " + ExportCommand.FLAG_JSON_LINES + " " + ExportCommand.FLAG_ALL + " "
+                + TEST_FILEPATH_WITH_SPACE, new ExportCommand(TEST_FILEPATH_WITH_SPACE, true, true));
+    }
+}
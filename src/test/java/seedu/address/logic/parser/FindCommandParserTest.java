@@ -22,6 +22,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.model.person.NumericField.HOURS_WORKED;
+import static seedu.address.model.person.NumericField.LEAVE_BALANCE;
+import static seedu.address.model.person.NumericField.OVERTIME;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.equal;
+import static seedu.address.model.person.NumericRange.lessThan;
+import static seedu.address.model.person.NumericRange.lessThanEqual;
+import static seedu.address.model.person.NumericRange.moreThan;
+import static seedu.address.model.person.NumericRange.moreThanEqual;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
@@ -34,26 +43,18 @@ import org.junit.jupiter.api.Test;
 import javafx.util.Pair;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.NumericRange;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.AddressContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.AnyOfPredicate;
 import seedu.address.model.person.predicates.EmailContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.HoursEqualPredicate;
-import seedu.address.model.person.predicates.HoursLessThanPredicate;
-import seedu.address.model.person.predicates.HoursMoreThanEqualPredicate;
-import seedu.address.model.person.predicates.LeaveEqualPredicate;
-import seedu.address.model.person.predicates.LeaveLessThanPredicate;
-import seedu.address.model.person.predicates.LeaveMoreThanEqualPredicate;
 import seedu.address.model.person.predicates.LeavesTakenContainsDatesPredicate;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.OvertimeEqualPredicate;
-import seedu.address.model.person.predicates.OvertimeLessThanEqualPredicate;
-import seedu.address.model.person.predicates.OvertimeMoreThanPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.NumericComparisonPredicate;
 import seedu.address.model.person.predicates.PersonIsPaidPredicate;
 import seedu.address.model.person.predicates.PhoneNumberMatchesPredicate;
 import seedu.address.model.person.predicates.RoleContainsKeywordsPredicate;
-import seedu.address.model.person.predicates.SalaryIsEqualPredicate;
-import seedu.address.model.person.predicates.SalaryIsLessThanEqualPredicate;
-import seedu.address.model.person.predicates.SalaryIsMoreThanPredicate;
 import seedu.address.model.person.predicates.TagContainsKeywordsPredicate;
 import seedu.address.testutil.PersonBuilder;
 
@@ -75,6 +76,60 @@ public class FindCommandParserTest {
         assertParseFailure(parser, " asdfpw", String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_explainFlagOnly_throwsParseException() {
+        assertParseFailure(parser, " " + FindCommand.FLAG_EXPLAIN,
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + FindCommand.FLAG_EXPLAIN + " " + FindCommand.FLAG_EXPLAIN + " unpaid",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_explainFlag_returnsExplainingFindCommand() throws Exception {
+        FindCommand expectedFindCommand = new FindCommand(Arrays.asList(new PersonIsPaidPredicate(),
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice"))), true);
+        assertEquals(expectedFindCommand, parser.parse(" " + FindCommand.FLAG_EXPLAIN + " unpaid "
+                + PREFIX_NAME + "Alice"));
+        assertEquals(expectedFindCommand, parser.parse(" unpaid " + FindCommand.FLAG_EXPLAIN + " "
+                + PREFIX_NAME + "Alice"));
+    }
+
+    @Test
+    public void parse_findExpression_returnsFindCommand() throws Exception {
+        NameContainsKeywordsPredicate alicePredicate = new NameContainsKeywordsPredicate(Arrays.asList("Alice"));
+        NameContainsKeywordsPredicate bobPredicate = new NameContainsKeywordsPredicate(Arrays.asList("Bob"));
+        FindCommand expectedFindCommand = new FindCommand(Arrays.asList(
+                new AnyOfPredicate(Arrays.asList(alicePredicate, bobPredicate)),
+                new NotPredicate(new NumericComparisonPredicate(SALARY, moreThan(20)))), true);
+        assertEquals(expectedFindCommand, parser.parse(" " + FindCommand.FLAG_EXPLAIN + " (" + PREFIX_NAME + "Alice OR "
+                + PREFIX_NAME + "Bob) AND NOT " + PREFIX_HOURLYSALARY + ">20"));
+
+        // Invalid condition inside an expression
+        assertParseFailure(parser, " NOT " + PREFIX_HOURLYSALARY + "20",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_NAME + "Alice OR " + PREFIX_HOURLYSALARY + "20",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_operatorWordsAndParenthesesInValue_searchedForInValue() throws Exception {
+        FindCommand expectedFindCommand = new FindCommand(Arrays.asList(
+                new AddressContainsKeywordsPredicate(Arrays.asList("Blk", "5", "(Lift", "B)"))), false);
+        assertEquals(expectedFindCommand, parser.parse(" " + PREFIX_ADDRESS + "Blk 5 (Lift B)"));
+
+        expectedFindCommand = new FindCommand(Arrays.asList(
+                new NameContainsKeywordsPredicate(Arrays.asList("Ng", "OR"))), false);
+        assertEquals(expectedFindCommand, parser.parse(" " + PREFIX_NAME + "Ng OR"));
+    }
+
+    @Test
+    public void parse_nonFiniteSalaryArg_throwsParseException() {
+        for (String value : new String[] {">=NaN", "<=NaN", ">=Infinity", "<=-Infinity"}) {
+            assertParseFailure(parser, " " + PREFIX_HOURLYSALARY + value,
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
+    }
+
     @Test
     public void parse_noComparisonOperatorSalaryArg_throwsParseException() {
         assertParseFailure(parser, " " + PREFIX_HOURLYSALARY + "5",
@@ -285,8 +340,9 @@ public class FindCommandParserTest {
 
     @Test
     public void parse_validSalary_returnsFindCommand() {
-        FindCommand expectedFindCommand =
-                new FindCommand(new SalaryIsEqualPredicate(Double.parseDouble(VALID_HOURLYSALARY_AMY)));
+        double salary = Double.parseDouble(VALID_HOURLYSALARY_AMY);
+        FindCommand expectedFindCommand = new FindCommand(
+                new NumericComparisonPredicate(SALARY, new NumericRange(salary - 0.01, false, salary + 0.01, false)));
         try {
             // Test equals comparison
             FindCommand parsedFindCommand = parser.parse(" " + PREFIX_HOURLYSALARY + "=" + VALID_HOURLYSALARY_AMY);
@@ -298,7 +354,7 @@ public class FindCommandParserTest {
             // Test more than comparison
             parsedFindCommand = parser.parse(" " + PREFIX_HOURLYSALARY + ">" + VALID_HOURLYSALARY_AMY);
             expectedFindCommand =
-                    new FindCommand(new SalaryIsMoreThanPredicate(Double.parseDouble(VALID_HOURLYSALARY_AMY)));
+                    new FindCommand(new NumericComparisonPredicate(SALARY, moreThan(salary)));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertFalse(parsedFindCommand.getPredicate().test(AMY));
@@ -307,7 +363,7 @@ public class FindCommandParserTest {
             // Test less than equal comparison
             parsedFindCommand = parser.parse(" " + PREFIX_HOURLYSALARY + "<=" + VALID_HOURLYSALARY_AMY);
             expectedFindCommand =
-                    new FindCommand(new SalaryIsLessThanEqualPredicate(Double.parseDouble(VALID_HOURLYSALARY_AMY)));
+                    new FindCommand(new NumericComparisonPredicate(SALARY, lessThanEqual(salary)));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertTrue(parsedFindCommand.getPredicate().test(AMY));
@@ -319,8 +375,8 @@ public class FindCommandParserTest {
 
     @Test
     public void parse_validHoursWorked_returnsFindCommand() {
-        FindCommand expectedFindCommand =
-                new FindCommand(new HoursEqualPredicate(Integer.parseInt(VALID_HOURSWORKED_AMY)));
+        FindCommand expectedFindCommand = new FindCommand(
+                new NumericComparisonPredicate(HOURS_WORKED, equal(Integer.parseInt(VALID_HOURSWORKED_AMY))));
         try {
             // Test equals comparison
             FindCommand parsedFindCommand = parser.parse(" " + PREFIX_HOURSWORKED + "=" + VALID_HOURSWORKED_AMY);
@@ -331,8 +387,8 @@ public class FindCommandParserTest {
 
             // Test more than equal comparison
             parsedFindCommand = parser.parse(" " + PREFIX_HOURSWORKED + ">=" + VALID_HOURSWORKED_AMY);
-            expectedFindCommand =
-                    new FindCommand(new HoursMoreThanEqualPredicate(Integer.parseInt(VALID_HOURSWORKED_AMY)));
+            expectedFindCommand = new FindCommand(new NumericComparisonPredicate(HOURS_WORKED,
+                    moreThanEqual(Integer.parseInt(VALID_HOURSWORKED_AMY))));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertTrue(parsedFindCommand.getPredicate().test(AMY));
@@ -340,8 +396,8 @@ public class FindCommandParserTest {
 
             // Test less than comparison
             parsedFindCommand = parser.parse(" " + PREFIX_HOURSWORKED + "<" + VALID_HOURSWORKED_AMY);
-            expectedFindCommand =
-                    new FindCommand(new HoursLessThanPredicate(Integer.parseInt(VALID_HOURSWORKED_AMY)));
+            expectedFindCommand = new FindCommand(
+                    new NumericComparisonPredicate(HOURS_WORKED, lessThan(Integer.parseInt(VALID_HOURSWORKED_AMY))));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertFalse(parsedFindCommand.getPredicate().test(AMY));
@@ -353,8 +409,8 @@ public class FindCommandParserTest {
 
     @Test
     public void parse_validLeavesLeft_returnsFindCommand() {
-        FindCommand expectedFindCommand =
-                new FindCommand(new LeaveEqualPredicate(Integer.parseInt(VALID_LEAVES_AMY)));
+        FindCommand expectedFindCommand = new FindCommand(
+                new NumericComparisonPredicate(LEAVE_BALANCE, equal(Integer.parseInt(VALID_LEAVES_AMY))));
         try {
             // Test equals comparison
             FindCommand parsedFindCommand = parser.parse(" " + PREFIX_LEAVE + "=" + VALID_LEAVES_AMY);
@@ -365,8 +421,8 @@ public class FindCommandParserTest {
 
             // Test more than equal comparison
             parsedFindCommand = parser.parse(" " + PREFIX_LEAVE + ">=" + VALID_LEAVES_AMY);
-            expectedFindCommand =
-                    new FindCommand(new LeaveMoreThanEqualPredicate(Integer.parseInt(VALID_LEAVES_AMY)));
+            expectedFindCommand = new FindCommand(
+                    new NumericComparisonPredicate(LEAVE_BALANCE, moreThanEqual(Integer.parseInt(VALID_LEAVES_AMY))));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertTrue(parsedFindCommand.getPredicate().test(AMY));
@@ -374,8 +430,8 @@ public class FindCommandParserTest {
 
             // Test less than comparison
             parsedFindCommand = parser.parse(" " + PREFIX_LEAVE + "<" + VALID_LEAVES_AMY);
-            expectedFindCommand =
-                    new FindCommand(new LeaveLessThanPredicate(Integer.parseInt(VALID_LEAVES_AMY)));
+            expectedFindCommand = new FindCommand(
+                    new NumericComparisonPredicate(LEAVE_BALANCE, lessThan(Integer.parseInt(VALID_LEAVES_AMY))));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertFalse(parsedFindCommand.getPredicate().test(AMY));
@@ -388,7 +444,7 @@ public class FindCommandParserTest {
     @Test
     public void parse_validOvertime_returnsFindCommand() {
         FindCommand expectedFindCommand =
-                new FindCommand(new OvertimeEqualPredicate(Integer.parseInt(VALID_OVERTIME_AMY)));
+                new FindCommand(new NumericComparisonPredicate(OVERTIME, equal(Integer.parseInt(VALID_OVERTIME_AMY))));
         try {
             // Test equals comparison
             FindCommand parsedFindCommand = parser.parse(" " + PREFIX_OVERTIME + "=" + VALID_OVERTIME_AMY);
@@ -399,8 +455,8 @@ public class FindCommandParserTest {
 
             // Test less than equal comparison
             parsedFindCommand = parser.parse(" " + PREFIX_OVERTIME + "<=" + VALID_OVERTIME_AMY);
-            expectedFindCommand =
-                    new FindCommand(new OvertimeLessThanEqualPredicate(Integer.parseInt(VALID_OVERTIME_AMY)));
+            expectedFindCommand = new FindCommand(
+                    new NumericComparisonPredicate(OVERTIME, lessThanEqual(Integer.parseInt(VALID_OVERTIME_AMY))));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertTrue(parsedFindCommand.getPredicate().test(AMY));
@@ -408,8 +464,8 @@ public class FindCommandParserTest {
 
             // Test more than comparison
             parsedFindCommand = parser.parse(" " + PREFIX_OVERTIME + ">" + VALID_OVERTIME_AMY);
-            expectedFindCommand =
-                    new FindCommand(new OvertimeMoreThanPredicate(Integer.parseInt(VALID_OVERTIME_AMY)));
+            expectedFindCommand = new FindCommand(
+                    new NumericComparisonPredicate(OVERTIME, moreThan(Integer.parseInt(VALID_OVERTIME_AMY))));
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, AMY);
             assertPredicatesAreEqual(expectedFindCommand, parsedFindCommand, BOB);
             assertFalse(parsedFindCommand.getPredicate().test(AMY));
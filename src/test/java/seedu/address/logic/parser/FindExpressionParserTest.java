@@ -0,0 +1,125 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.predicates.AllOfPredicate;
+import seedu.address.model.person.predicates.AnyOfPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
+import seedu.address.model.person.predicates.NotPredicate;
+import seedu.address.model.person.predicates.PersonIsPaidPredicate;
+import seedu.address.model.person.predicates.RoleContainsKeywordsPredicate;
+
+public class FindExpressionParserTest {
+
+    private final FindExpressionParser parser =
+            new FindExpressionParser(List.of(PREFIX_NAME, PREFIX_ROLE), List.of("unpaid"),
+                    FindExpressionParserTest::parseCondition);
+
+    private final Predicate<Person> alice = name("Alice");
+    private final Predicate<Person> bob = name("Bob");
+    private final Predicate<Person> carl = name("Carl");
+
+    /**
+     * Parses the conditions on names and roles, and the status keyword, of the expressions in these tests.
+     */
+    private static Predicate<Person> parseCondition(Prefix prefix, String value) {
+        if (prefix == null) {
+            return new PersonIsPaidPredicate();
+        }
+        List<String> keywords = Arrays.asList(value.split("\\s+"));
+        return prefix.equals(PREFIX_NAME)
+                ? new NameContainsKeywordsPredicate(keywords)
+                : new RoleContainsKeywordsPredicate(keywords);
+    }
+
+    private static Predicate<Person> name(String... keywords) {
+        return new NameContainsKeywordsPredicate(Arrays.asList(keywords));
+    }
+
+    private static Predicate<Person> allOf(Predicate<Person> first, Predicate<Person> second) {
+        return new AllOfPredicate(List.of(first, second));
+    }
+
+    private static Predicate<Person> anyOf(Predicate<Person> first, Predicate<Person> second) {
+        return new AnyOfPredicate(List.of(first, second));
+    }
+
+    @Test
+    public void isExpression() {
+        assertTrue(parser.isExpression("n/Alice OR n/Bob"));
+        assertTrue(parser.isExpression("NOT n/Alice"));
+        assertTrue(parser.isExpression("(n/Alice)"));
+        assertTrue(parser.isExpression("n/Alice AND unpaid"));
+
+        // usual find arguments -> returns false
+        assertFalse(parser.isExpression("n/Alice Bob r/Admin"));
+        assertFalse(parser.isExpression("n/and or not"));
+
+        // operators and parentheses within a value -> returns false
+        assertFalse(parser.isExpression("r/Blk 5 (Lift B)"));
+        assertFalse(parser.isExpression("n/Ng OR"));
+        assertFalse(parser.isExpression("r/Research AND Development n/Bob"));
+        assertFalse(parser.isExpression("n/Alice NOT Bob)"));
+    }
+
+    @Test
+    public void parse_conditionsWithoutOperators_joinedByAnd() throws Exception {
+        assertEquals(alice, parser.parse("n/Alice"));
+        assertEquals(allOf(name("Alice", "Bob"), new RoleContainsKeywordsPredicate(Arrays.asList("IT", "Admin"))),
+                parser.parse("n/Alice Bob r/IT Admin"));
+    }
+
+    @Test
+    public void parse_andBindsTighterThanOr() throws Exception {
+        assertEquals(anyOf(alice, allOf(bob, carl)), parser.parse("n/Alice OR n/Bob AND n/Carl"));
+        assertEquals(anyOf(allOf(alice, bob), carl), parser.parse("n/Alice n/Bob OR n/Carl"));
+    }
+
+    @Test
+    public void parse_parenthesesAndNot() throws Exception {
+        assertEquals(allOf(new NotPredicate(anyOf(alice, bob)), carl), parser.parse("NOT (n/Alice OR n/Bob) n/Carl"));
+        assertEquals(allOf(anyOf(alice, bob), new PersonIsPaidPredicate()),
+                parser.parse("((n/Alice) OR n/Bob) AND unpaid"));
+
+        // Double negation -> operand itself
+        assertEquals(alice, parser.parse("NOT NOT n/Alice"));
+    }
+
+    @Test
+    public void parse_operatorWordsAndParenthesesInValue_keptInValue() throws Exception {
+        assertEquals(new RoleContainsKeywordsPredicate(Arrays.asList("Blk", "5", "(Lift", "B)")),
+                parser.parse("r/Blk 5 (Lift B)"));
+        assertEquals(name("Ng", "OR"), parser.parse("n/Ng OR"));
+        assertEquals(name("Alice)"), parser.parse("n/Alice)"));
+
+        // parentheses matched within the value are kept in it, the rest close groups
+        assertEquals(anyOf(new RoleContainsKeywordsPredicate(Arrays.asList("Blk", "(Lift", "B)")), bob),
+                parser.parse("(r/Blk (Lift B)) OR n/Bob"));
+
+        // operators within a value, followed by another condition -> operators
+        assertEquals(allOf(new RoleContainsKeywordsPredicate(Arrays.asList("Research", "AND", "Development")),
+                new NotPredicate(bob)), parser.parse("r/Research AND Development NOT n/Bob"));
+        assertEquals(anyOf(alice, new PersonIsPaidPredicate()), parser.parse("n/Alice OR unpaid"));
+    }
+
+    @Test
+    public void parse_invalidExpression_throwsParseException() {
+        for (String args : new String[] {"(n/Alice", "(n/Alice OR n/Bob", "AND n/Alice", "()", "NOT",
+            "n/Alice OR OR n/Bob"}) {
+            assertThrows(ParseException.class, () -> parser.parse(args), args);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
@@ -35,5 +36,36 @@ public class ImportCommandParserTest {
 
 
     }
-}
 
+    // Checks the file in full when the report flag comes before the file path.
+    @Test
+    public void parse_fullReportFlag_success() throws Exception {
+        String input = ImportCommand.COMMAND_WORD + " " + ImportCommand.FLAG_FULL_REPORT + " "
+                + TEST_FILEPATH_WITH_SPACE;
+        assertEquals(new ImportCommand(TEST_FILEPATH_WITH_SPACE, true), parser.parse(input));
+    }
+
+    // Merges the file when both flags are given, in any order.
+    @Test
+    public void parse_mergeAndFullReportFlags_success() throws Exception {
+        String input = ImportCommand.COMMAND_WORD + " " + ImportCommand.FLAG_MERGE + " "
+                + TEST_FILEPATH_WITH_SPACE;
+        assertEquals(new ImportCommand(TEST_FILEPATH_WITH_SPACE, false, true), parser.parse(input));
+
+        input = ImportCommand.COMMAND_WORD + " " + ImportCommand.FLAG_FULL_REPORT + " " + ImportCommand.FLAG_MERGE
+                + " " + TEST_FILEPATH_WITH_SPACE;
+        assertEquals(new ImportCommand(TEST_FILEPATH_WITH_SPACE, true, true), parser.parse(input));
+
+        input = ImportCommand.COMMAND_WORD + " " + ImportCommand.FLAG_MERGE + " " + ImportCommand.FLAG_FULL_REPORT
+                + " " + TEST_FILEPATH_WITH_SPACE;
+        assertEquals(new ImportCommand(TEST_FILEPATH_WITH_SPACE, true, true), parser.parse(input));
+    }
+
+    // Displays error message if only the report flag is given.
+    @Test
+    public void parse_fullReportFlagWithoutFilePath_failure() {
+        String input = ImportCommand.COMMAND_WORD + " " + ImportCommand.FLAG_FULL_REPORT;
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, input, expectedMessage);
+    }
+}
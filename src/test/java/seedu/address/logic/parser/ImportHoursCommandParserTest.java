@@ -0,0 +1,26 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ImportHoursCommand;
+
+public class ImportHoursCommandParserTest {
+    private static final String TEST_FILEPATH_WITH_SPACE = "/Users/Owner/Desktop/New Folder/timesheet.csv";
+
+    private final ImportHoursCommandParser parser = new ImportHoursCommandParser();
+
+    @Test
+    public void parse_missingFilePath_failure() {
+        assertParseFailure(parser, "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ImportHoursCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_filepathWithSpace_success() {
+        assertParseSuccess(parser, " " + TEST_FILEPATH_WITH_SPACE, new ImportHoursCommand(TEST_FILEPATH_WITH_SPACE));
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_FINDDATE_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.LeaveCalendarCommand;
+
+public class LeaveCalendarCommandParserTest {
+
+    private static LeaveCalendarCommandParser parser = new LeaveCalendarCommandParser();
+
+    @Test
+    public void parse_singleDate_success() {
+        LocalDate date = LocalDate.of(2021, 10, 1);
+        assertParseSuccess(parser, " " + PREFIX_DATE + "2021-10-01", new LeaveCalendarCommand(date, date));
+    }
+
+    @Test
+    public void parse_dateRange_success() {
+        assertParseSuccess(parser, " " + PREFIX_DATE + "2021-10-01:2021-10-31",
+                new LeaveCalendarCommand(LocalDate.of(2021, 10, 1), LocalDate.of(2021, 10, 31)));
+    }
+
+    @Test
+    public void parse_missingDate_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, LeaveCalendarCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_DATE, expectedMessage);
+        assertParseFailure(parser, " 1 " + PREFIX_DATE + "2021-10-01", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidDates_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_FINDDATE_FORMAT, LeaveCalendarCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + PREFIX_DATE + "2021-02-29", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_DATE + "2021-10-01:", expectedMessage);
+        assertParseFailure(parser, " " + PREFIX_DATE + "2021-10-01:2021-10-02:2021-10-03", expectedMessage);
+    }
+
+    @Test
+    public void parse_startAfterEnd_failure() {
+        assertParseFailure(parser, " " + PREFIX_DATE + "2021-10-31:2021-10-01",
+                String.format(AssignLeaveCommandParser.MESSAGE_INVALID_DATE_RANGE, LeaveCalendarCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_rangeTooLong_failure() {
+        String expectedMessage = String.format(LeaveCalendarCommandParser.MESSAGE_TOO_MANY_DAYS,
+                LeaveCalendarCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + PREFIX_DATE + "2021-01-01:2022-01-01", expectedMessage);
+        assertParseSuccess(parser, " " + PREFIX_DATE + "2021-01-01:2021-12-31",
+                new LeaveCalendarCommand(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31)));
+    }
+}
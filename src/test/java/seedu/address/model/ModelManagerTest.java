@@ -7,16 +7,21 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.predicates.NameContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +98,28 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_moreEmployeesThanThreshold_sameResultsAsSerialFilter() {
+        UserPrefs parallelPrefs = new UserPrefs();
+        parallelPrefs.setParallelFilterThreshold(0);
+        ModelManager parallelModel = new ModelManager(getTypicalAddressBook(), parallelPrefs);
+        ModelManager serialModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+
+        parallelModel.updateFilteredPersonList(predicate);
+        serialModel.updateFilteredPersonList(predicate);
+        assertEquals(Arrays.asList(BENSON, DANIEL), parallelModel.getFilteredPersonList());
+        assertEquals(serialModel.getFilteredPersonList(), parallelModel.getFilteredPersonList());
+
+        // persons changed after filtering are tested against the predicate itself
+        Person editedAlice = new PersonBuilder(ALICE).withEmployeeId(ALICE.getEmployeeId())
+                .withName("Alice Meier").build();
+        parallelModel.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(editedAlice, BENSON, DANIEL), parallelModel.getFilteredPersonList());
+        parallelModel.deletePerson(BENSON);
+        assertEquals(Arrays.asList(editedAlice, DANIEL), parallelModel.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -30,6 +31,20 @@ public class HourlySalaryTest {
         assertThrows(IllegalArgumentException.class, () -> new HourlySalary(alphanumericSalary));
     }
 
+    @Test
+    public void constructor_invalidParsedSalary_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new HourlySalary(-1));
+        assertThrows(IllegalArgumentException.class, () -> new HourlySalary(1000.01));
+        assertThrows(IllegalArgumentException.class, () -> new HourlySalary(3.125));
+        assertThrows(IllegalArgumentException.class, () -> new HourlySalary(Double.NaN));
+    }
+
+    @Test
+    public void constructor_validParsedSalary_sameAsString() {
+        assertEquals(new HourlySalary("12.34"), new HourlySalary(12.34));
+        assertEquals(new HourlySalary("1000"), new HourlySalary(1000));
+    }
+
     @Test
     public void isValidHourlySalary() {
         // null hourlySalary
@@ -25,6 +25,11 @@ public class LeaveBalanceTest {
 
         // Negative Zero
         assertThrows(IllegalArgumentException.class, LeaveBalance.MESSAGE_CONSTRAINTS, () -> new LeaveBalance("-0"));
+
+        // Parsed amount out of bounds
+        assertThrows(IllegalArgumentException.class, LeaveBalance.MESSAGE_CONSTRAINTS, () -> new LeaveBalance(-1));
+        assertThrows(IllegalArgumentException.class, LeaveBalance.MESSAGE_CONSTRAINTS, () ->
+                new LeaveBalance(LeaveBalance.MAX_LEAVES + 1));
     }
 
     @Test
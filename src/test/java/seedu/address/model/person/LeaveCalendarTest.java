@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+
+public class LeaveCalendarTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2021, 10, 1);
+    private static final LocalDate SECOND = LocalDate.of(2021, 10, 2);
+    private static final LocalDate THIRD = LocalDate.of(2021, 10, 3);
+    private static final LocalDate LAST = LocalDate.of(2021, 10, 31);
+
+    private final EmployeeId alice = new EmployeeId(1);
+    private final EmployeeId bob = new EmployeeId(2);
+    private final LeaveCalendar calendar = new LeaveCalendar();
+
+    @Test
+    public void update_addedEmployees_foundOnTheirDays() {
+        calendar.update(alice, null, new LeavesTaken(Arrays.asList(FIRST, THIRD)));
+        calendar.update(bob, null, new LeavesTaken(Arrays.asList(THIRD)));
+
+        assertEquals(CompressedBitmap.of(alice.value), calendar.getEmployeesOnLeave(FIRST));
+        assertTrue(calendar.getEmployeesOnLeave(SECOND).isEmpty());
+        assertEquals(CompressedBitmap.of(alice.value, bob.value), calendar.getEmployeesOnLeave(THIRD));
+        assertEquals(CompressedBitmap.of(alice.value), calendar.getEmployeesOnLeave(FIRST, SECOND));
+        assertEquals(CompressedBitmap.of(alice.value, bob.value), calendar.getEmployeesOnLeave(FIRST, LAST));
+    }
+
+    @Test
+    public void update_changedLeaves_onlyDifferingDaysChanged() {
+        LeavesTaken oldLeaves = new LeavesTaken(Arrays.asList(FIRST, SECOND));
+        LeavesTaken newLeaves = new LeavesTaken(Arrays.asList(SECOND, THIRD));
+        calendar.update(alice, null, oldLeaves);
+        calendar.update(bob, null, oldLeaves);
+
+        calendar.update(alice, oldLeaves, newLeaves);
+        assertEquals(CompressedBitmap.of(bob.value), calendar.getEmployeesOnLeave(FIRST));
+        assertEquals(CompressedBitmap.of(alice.value, bob.value), calendar.getEmployeesOnLeave(SECOND));
+        assertEquals(CompressedBitmap.of(alice.value), calendar.getEmployeesOnLeave(THIRD));
+
+        calendar.update(alice, newLeaves, null);
+        calendar.update(bob, oldLeaves, new LeavesTaken());
+        assertArrayEquals(new int[3], calendar.getHeadcounts(FIRST, THIRD));
+    }
+
+    @Test
+    public void update_equalLeaves_calendarUnchanged() {
+        calendar.update(alice, null, new LeavesTaken(Arrays.asList(FIRST)));
+        calendar.update(alice, new LeavesTaken(Arrays.asList(FIRST)), new LeavesTaken(Arrays.asList(FIRST)));
+        assertEquals(CompressedBitmap.of(alice.value), calendar.getEmployeesOnLeave(FIRST));
+    }
+
+    @Test
+    public void getEmployeesOnLeave_startAfterEnd_returnsEmptySet() {
+        calendar.update(alice, null, new LeavesTaken(Arrays.asList(FIRST, SECOND)));
+        assertTrue(calendar.getEmployeesOnLeave(SECOND, FIRST).isEmpty());
+    }
+
+    @Test
+    public void getHeadcounts_validRange_countsEveryDay() {
+        calendar.update(alice, null, new LeavesTaken(Arrays.asList(FIRST, THIRD, LAST)));
+        calendar.update(bob, null, new LeavesTaken(Arrays.asList(THIRD, LAST.plusDays(1))));
+
+        assertArrayEquals(new int[] {1, 0, 2}, calendar.getHeadcounts(FIRST, THIRD));
+        assertArrayEquals(new int[] {2}, calendar.getHeadcounts(THIRD, THIRD));
+        assertEquals(1, calendar.getHeadcounts(FIRST, LAST)[30]);
+    }
+
+    @Test
+    public void getHeadcounts_startAfterEnd_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> calendar.getHeadcounts(SECOND, FIRST));
+    }
+
+    @Test
+    public void clear_employeesOnLeave_calendarEmptied() {
+        calendar.update(alice, null, new LeavesTaken(Arrays.asList(FIRST)));
+        calendar.clear();
+        assertTrue(calendar.getEmployeesOnLeave(FIRST).isEmpty());
+    }
+}
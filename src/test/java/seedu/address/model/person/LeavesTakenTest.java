@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LeavesTakenTest {
+
+    private static final LocalDate FIRST = LocalDate.of(2021, 10, 1);
+    private static final LocalDate SECOND = LocalDate.of(2021, 10, 5);
+    private static final LocalDate THIRD = LocalDate.of(2021, 11, 20);
+
+    // Given out of order and with a repeat
+    private final LeavesTaken leavesTaken = new LeavesTaken(List.of(THIRD, FIRST, SECOND, FIRST));
+
+    @Test
+    public void constructor_unsortedDates_sortedWithoutRepeats() {
+        assertEquals(List.of(FIRST, SECOND, THIRD), leavesTaken.toList());
+        assertEquals(3, leavesTaken.size());
+        assertEquals(leavesTaken, LeavesTaken.fromEpochDays(leavesTaken.toEpochDays()));
+    }
+
+    @Test
+    public void addDate() {
+        LocalDate between = SECOND.plusDays(1);
+        assertEquals(List.of(FIRST, SECOND, between, THIRD), leavesTaken.addDate(between).toList());
+        assertEquals(List.of(FIRST.minusDays(1), FIRST, SECOND, THIRD),
+                leavesTaken.addDate(FIRST.minusDays(1)).toList());
+        assertThrows(IllegalArgumentException.class, () -> leavesTaken.addDate(SECOND));
+    }
+
+    @Test
+    public void addDates() {
+        LocalDate before = FIRST.minusDays(1);
+        LocalDate after = THIRD.plusDays(1);
+        assertEquals(List.of(before, FIRST, SECOND, THIRD, after),
+                leavesTaken.addDates(List.of(after, before)).toList());
+        assertThrows(IllegalArgumentException.class, () -> leavesTaken.addDates(List.of(before, THIRD)));
+    }
+
+    @Test
+    public void getTakenDates() {
+        assertEquals(List.of(THIRD, FIRST), leavesTaken.getTakenDates(List.of(THIRD, FIRST.plusDays(1), FIRST)));
+    }
+
+    @Test
+    public void removeDatesBefore() {
+        assertEquals(List.of(THIRD), leavesTaken.removeDatesBefore(SECOND).toList());
+        assertEquals(List.of(SECOND, THIRD), leavesTaken.removeDatesBefore(SECOND.minusDays(1)).toList());
+        assertSame(leavesTaken, leavesTaken.removeDatesBefore(FIRST.minusDays(1)));
+        assertEquals(new LeavesTaken(), leavesTaken.removeDatesBefore(THIRD));
+    }
+
+    @Test
+    public void containsDate() {
+        assertTrue(leavesTaken.containsDate(SECOND));
+        assertFalse(leavesTaken.containsDate(SECOND.plusDays(1)));
+        assertFalse(new LeavesTaken().containsDate(SECOND));
+    }
+
+    @Test
+    public void containsDateRange() {
+        assertTrue(leavesTaken.containsDateRange(SECOND, SECOND));
+        assertTrue(leavesTaken.containsDateRange(SECOND.plusDays(1), THIRD));
+        assertFalse(leavesTaken.containsDateRange(SECOND.plusDays(1), THIRD.minusDays(1)));
+        assertFalse(leavesTaken.containsDateRange(THIRD.plusDays(1), THIRD.plusDays(10)));
+    }
+
+    @Test
+    public void toStringMethods() {
+        assertEquals("2021-10-01 2021-10-05 2021-11-20", leavesTaken.toString());
+        assertEquals("Applied Leave Dates:\n1. 2021-10-01\n2. 2021-10-05\n3. 2021-11-20",
+                leavesTaken.toDisplayString());
+        assertEquals("No leaves assigned yet!", new LeavesTaken().toDisplayString());
+    }
+
+    @Test
+    public void equals() {
+        // Same dates added in a different order -> returns true
+        assertEquals(leavesTaken, new LeavesTaken().addDate(SECOND).addDate(THIRD).addDate(FIRST));
+        assertEquals(leavesTaken.hashCode(), new LeavesTaken(List.of(FIRST, SECOND, THIRD)).hashCode());
+
+        assertFalse(leavesTaken.equals(null));
+        assertFalse(leavesTaken.equals(new LeavesTaken(List.of(FIRST, SECOND))));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class NumericRangeTest {
+
+    @Test
+    public void contains() {
+        assertTrue(NumericRange.moreThan(10).contains(10.5));
+        assertFalse(NumericRange.moreThan(10).contains(10));
+        assertTrue(NumericRange.moreThanEqual(10).contains(10));
+        assertTrue(NumericRange.equal(10).contains(10));
+        assertFalse(NumericRange.equal(10).contains(10.01));
+        assertTrue(NumericRange.lessThan(10).contains(-1));
+        assertFalse(NumericRange.lessThan(10).contains(10));
+        assertTrue(NumericRange.lessThanEqual(10).contains(10));
+    }
+
+    @Test
+    public void isEmpty() {
+        assertFalse(NumericRange.equal(10).isEmpty());
+        assertFalse(NumericRange.moreThan(10).isEmpty());
+        assertTrue(new NumericRange(10, false, 10, true).isEmpty());
+        assertTrue(new NumericRange(11, true, 10, true).isEmpty());
+        assertTrue(NumericRange.moreThanEqual(Double.NaN).isEmpty());
+        assertTrue(NumericRange.lessThanEqual(Double.NaN).isEmpty());
+    }
+
+    @Test
+    public void equals() {
+        NumericRange range = NumericRange.moreThan(10);
+
+        assertTrue(range.equals(range));
+        assertTrue(range.equals(new NumericRange(10, false, Double.POSITIVE_INFINITY, true)));
+
+        assertFalse(range.equals(null));
+        assertFalse(range.equals(10));
+        assertFalse(range.equals(NumericRange.moreThanEqual(10)));
+        assertFalse(range.equals(NumericRange.moreThan(11)));
+    }
+}
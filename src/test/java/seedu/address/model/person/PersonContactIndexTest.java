@@ -0,0 +1,40 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonContactIndexTest {
+
+    private final PersonContactIndex contactIndex = new PersonContactIndex(List.of(ALICE, BENSON));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonContactIndex(null));
+    }
+
+    @Test
+    public void findByEmail() {
+        assertEquals(Optional.of(BENSON), contactIndex.findByEmail(BENSON.getEmail()));
+        assertEquals(Optional.empty(), contactIndex.findByEmail(new Email("nobody@example.com")));
+    }
+
+    @Test
+    public void findByPhone() {
+        assertEquals(Optional.of(ALICE), contactIndex.findByPhone(ALICE.getPhone()));
+        assertEquals(Optional.empty(), contactIndex.findByPhone(new Phone("11111111")));
+    }
+
+    @Test
+    public void find_emailBeforePhone() {
+        assertEquals(Optional.of(ALICE), contactIndex.find(ALICE.getEmail(), BENSON.getPhone()));
+        assertEquals(Optional.of(BENSON), contactIndex.find(new Email("nobody@example.com"), BENSON.getPhone()));
+        assertEquals(Optional.empty(), contactIndex.find(new Email("nobody@example.com"), new Phone("11111111")));
+    }
+}
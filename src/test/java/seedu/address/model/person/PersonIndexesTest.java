@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonIndexesTest {
+
+    private final Person alice = new PersonBuilder().withName("Alice").withHourlySalary("20")
+            .withHoursWorked("10").withLeaves("5").build();
+    private final Person bob = new PersonBuilder().withName("Bob").withHourlySalary("50")
+            .withHoursWorked("10").withLeaves("14").build();
+    private final PersonIndexes indexes = new PersonIndexes();
+
+    private static CompressedBitmap idsOf(Person... persons) {
+        return CompressedBitmap.of(Arrays.stream(persons).mapToInt(person -> person.getEmployeeId().value).toArray());
+    }
+
+    @Test
+    public void getNumericIndex_personsAdded_rangesScanned() {
+        indexes.add(alice);
+        indexes.add(bob);
+        NumericIndex salaries = indexes.getNumericIndex(NumericField.SALARY);
+
+        assertEquals(idsOf(bob), salaries.getEmployeesInRange(NumericRange.moreThanEqual(50)));
+        assertEquals(idsOf(alice), salaries.getEmployeesInRange(NumericRange.lessThan(50)));
+        assertTrue(salaries.getEmployeesInRange(NumericRange.moreThan(50)).isEmpty());
+        assertTrue(salaries.getEmployeesInRange(new NumericRange(30, true, 20, true)).isEmpty());
+        assertEquals(idsOf(alice, bob),
+                indexes.getNumericIndex(NumericField.HOURS_WORKED).getEmployeesInRange(NumericRange.equal(10)));
+        assertEquals(1, salaries.countInRange(NumericRange.moreThanEqual(50)));
+        assertEquals(2, indexes.getPersonCount());
+    }
+
+    @Test
+    public void replace_changedFields_reindexed() {
+        indexes.add(alice);
+        Person editedAlice = new PersonBuilder(alice).withEmployeeId(alice.getEmployeeId())
+                .withLeaves("6").build();
+        int modificationCount = indexes.getModificationCount();
+
+        indexes.replace(alice, editedAlice);
+        NumericIndex leaveBalances = indexes.getNumericIndex(NumericField.LEAVE_BALANCE);
+        assertTrue(leaveBalances.getEmployeesInRange(NumericRange.equal(5)).isEmpty());
+        assertEquals(idsOf(alice), leaveBalances.getEmployeesInRange(NumericRange.equal(6)));
+        assertNotEquals(modificationCount, indexes.getModificationCount());
+    }
+
+    @Test
+    public void remove_person_droppedFromEveryIndex() {
+        indexes.add(alice);
+        indexes.remove(alice);
+        assertEquals(0, indexes.getPersonCount());
+        for (NumericField field : NumericField.values()) {
+            assertTrue(indexes.getNumericIndex(field)
+                    .getEmployeesInRange(NumericRange.moreThanEqual(Double.NEGATIVE_INFINITY)).isEmpty());
+        }
+    }
+
+    @Test
+    public void getTokenIndex_personsAdded_tokensLookedUp() {
+        indexes.add(alice);
+        indexes.add(bob);
+        TokenIndex names = indexes.getTokenIndex(TokenField.NAME);
+
+        assertEquals(idsOf(alice), names.getEmployeesWithToken("ALICE"));
+        assertTrue(names.getEmployeesWithToken("Ali").isEmpty());
+        assertEquals(idsOf(alice), names.getEmployeesWithTokenContaining("Ali"));
+        assertEquals(idsOf(alice, bob), names.getEmployeesWithTokenContaining(""));
+    }
+
+    @Test
+    public void estimateWithTokenContaining_tokensChanged_countsFromGrams() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withTags("friends", "colleagues").build();
+        indexes.add(alice);
+        indexes.add(amy);
+        TokenIndex names = indexes.getTokenIndex(TokenField.NAME);
+
+        assertEquals(1, names.estimateWithTokenContaining("LIC"));
+        assertEquals(1, names.estimateWithTokenContaining("ee"));
+        assertEquals(0, names.estimateWithTokenContaining("bob"));
+        assertEquals(3, names.estimateWithTokenContaining(""));
+        // "beee" is not in a token, but all of its grams are in "bee"
+        assertEquals(1, names.estimateWithTokenContaining("beee"));
+
+        indexes.replace(amy, new PersonBuilder(amy).withEmployeeId(amy.getEmployeeId()).withName("Amy Lee").build());
+        assertEquals(0, names.estimateWithTokenContaining("bee"));
+        assertEquals(1, names.estimateWithTokenContaining("lee"));
+        assertEquals(2, names.estimateWithTokenContaining("l"));
+
+        indexes.remove(alice);
+        assertEquals(0, names.estimateWithTokenContaining("ali"));
+        assertEquals(2, names.estimateWithTokenContaining(""));
+    }
+
+    @Test
+    public void replace_changedTokens_reindexed() {
+        Person amy = new PersonBuilder().withName("Amy Bee").withTags("friends", "colleagues").build();
+        indexes.add(amy);
+        Person editedAmy = new PersonBuilder(amy).withEmployeeId(amy.getEmployeeId()).withName("Amy Lee")
+                .withTags("friends").build();
+
+        indexes.replace(amy, editedAmy);
+        TokenIndex names = indexes.getTokenIndex(TokenField.NAME);
+        assertEquals(idsOf(amy), names.getEmployeesWithToken("amy"));
+        assertTrue(names.getEmployeesWithToken("bee").isEmpty());
+        assertEquals(idsOf(amy), names.getEmployeesWithToken("lee"));
+        TokenIndex tags = indexes.getTokenIndex(TokenField.TAG);
+        assertTrue(tags.getEmployeesWithToken("colleagues").isEmpty());
+        assertEquals(idsOf(amy), tags.getEmployeesWithToken("friends"));
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class RoleTest {
@@ -41,4 +44,11 @@ public class RoleTest {
         assertTrue(Role.isValidRole("Software Engineer")); // with capital letters
         assertTrue(Role.isValidRole("Software Engineer with 10 years experience and 20 years knowledge")); // long names
     }
+
+    @Test
+    public void getLowerCaseValueAndTokens() {
+        Role role = new Role("Software Developer (Back-end)");
+        assertEquals("software developer (back-end)", role.getLowerCaseValue());
+        assertEquals(Set.of("software", "developer", "(back-end)"), role.getTokens());
+    }
 }
@@ -1,21 +1,32 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.person.exceptions.DuplicateEmailException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.DuplicatePhoneException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
@@ -23,6 +34,10 @@ public class UniquePersonListTest {
 
     private final UniquePersonList uniquePersonList = new UniquePersonList();
 
+    private static CompressedBitmap idsOf(Person... persons) {
+        return CompressedBitmap.of(Arrays.stream(persons).mapToInt(person -> person.getEmployeeId().value).toArray());
+    }
+
     @Test
     public void contains_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
@@ -47,6 +62,29 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentlyCasedName_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void hasDuplicatePhone_phoneInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        assertTrue(uniquePersonList.hasDuplicatePhone(bobWithAlicePhone));
+        assertFalse(uniquePersonList.hasDuplicatePhone(BOB));
+    }
+
+    @Test
+    public void hasDuplicateEmail_emailInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.hasDuplicateEmail(bobWithAliceEmail));
+        assertFalse(uniquePersonList.hasDuplicateEmail(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -102,6 +140,17 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentityFields_updatesLookups() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertFalse(uniquePersonList.hasDuplicatePhone(ALICE));
+        assertFalse(uniquePersonList.hasDuplicateEmail(ALICE));
+        assertTrue(uniquePersonList.hasDuplicatePhone(BOB));
+        assertTrue(uniquePersonList.hasDuplicateEmail(BOB));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -109,6 +158,132 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPersonsBatch_targetPersonNotInList_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, BENSON), Arrays.asList(ALICE, BENSON)));
+    }
+
+    @Test
+    public void setPersonsBatch_mismatchedLists_throwsIllegalArgumentException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(IllegalArgumentException.class, () -> uniquePersonList.setPersons(
+                Collections.singletonList(ALICE), Collections.emptyList()));
+    }
+
+    @Test
+    public void setPersonsBatch_editedPersonsHaveNonUniqueIdentity_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedAlice = new PersonBuilder(ALICE).withName(BENSON.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Collections.singletonList(ALICE), Collections.singletonList(editedAlice)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(BENSON);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPersonsBatch_editedPersonsSwapIdentities_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON), Arrays.asList(BENSON, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void setPersonsBatch_validPersons_replacesOnlyTargetsInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        List<List<String>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changes.add(describe(change)));
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPersons(Arrays.asList(CARL, ALICE), Arrays.asList(BOB, editedAlice));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(editedAlice);
+        expectedUniquePersonList.add(BENSON);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(List.of(Arrays.asList("replaced 0-1", "replaced 2-3")), changes);
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void mergePersons_newPersonHasNonUniqueIdentity_listUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withName(BOB.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.mergePersons(
+                Collections.singletonList(ALICE), Collections.singletonList(editedAlice),
+                Collections.singletonList(BOB)));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void mergePersons_validPersons_changesOnlyReplacedAndAddedPersonsInOneChange() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        List<List<String>> changes = new ArrayList<>();
+        uniquePersonList.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                changes.add(describe(change)));
+        Person editedBenson = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.mergePersons(Collections.singletonList(BENSON), Collections.singletonList(editedBenson),
+                Arrays.asList(CARL, BOB));
+
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        expectedUniquePersonList.add(editedBenson);
+        expectedUniquePersonList.add(CARL);
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        // the replacement and the additions next to it are reported together, leaving the first person out
+        assertEquals(List.of(Arrays.asList("replaced 1-4")), changes);
+    }
+
+    @Test
+    public void mergePersons_editedPersonTakesNameOfNewPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withName(CARL.getName().fullName).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.mergePersons(
+                Collections.singletonList(BENSON), Collections.singletonList(editedBenson),
+                Collections.singletonList(CARL)));
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void mergePersons_editedPersonTakesNameOfReplacedPerson_success() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withName(ALICE.getName().fullName).build();
+        uniquePersonList.mergePersons(Arrays.asList(ALICE, BENSON), Arrays.asList(CARL, editedBenson),
+                Collections.emptyList());
+        assertEquals(Arrays.asList(CARL, editedBenson), uniquePersonList.asUnmodifiableObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    /**
+     * Returns a description of each of the changes in {@code change}, with the range of positions it covers.
+     */
+    private static List<String> describe(ListChangeListener.Change<? extends Person> change) {
+        List<String> descriptions = new ArrayList<>();
+        while (change.next()) {
+            String kind = change.wasReplaced() ? "replaced" : change.wasAdded() ? "added" : "other";
+            descriptions.add(kind + " " + change.getFrom() + "-" + change.getTo());
+        }
+        return descriptions;
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -125,6 +300,33 @@ public class UniquePersonListTest {
         uniquePersonList.remove(ALICE);
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.hasDuplicatePhone(ALICE));
+        assertFalse(uniquePersonList.hasDuplicateEmail(ALICE));
+    }
+
+    @Test
+    public void remove_personBeforeOthers_othersStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(CARL);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setPerson(CARL, BOB);
+        uniquePersonList.remove(BENSON);
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void remove_equalPersonWithOtherEmployeeId_removesPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        // PersonBuilder issues a new employee id, so the copy is only found by equality
+        uniquePersonList.remove(new PersonBuilder(BENSON).build());
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(ALICE);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
     @Test
@@ -139,6 +341,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -154,6 +358,10 @@ public class UniquePersonListTest {
         UniquePersonList expectedUniquePersonList = new UniquePersonList();
         expectedUniquePersonList.add(BOB);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.hasDuplicatePhone(ALICE));
+        assertTrue(uniquePersonList.hasDuplicatePhone(BOB));
+        assertTrue(uniquePersonList.hasDuplicateEmail(BOB));
     }
 
     @Test
@@ -162,6 +370,59 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithDuplicatePhones_reportsEarliestRows() {
+        Person bensonWithCarlPhone = new PersonBuilder(BENSON).withPhone(CARL.getPhone().value).build();
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> persons = Arrays.asList(ALICE, bensonWithCarlPhone, CARL, bobWithAlicePhone);
+        DuplicatePhoneException expected = new DuplicatePhoneException(new int[]{0, 3});
+        assertThrows(DuplicatePhoneException.class, expected.getMessage(), () -> uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicateEmails_throwsDuplicateEmailException() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        List<Person> persons = Arrays.asList(ALICE, BENSON, bobWithAliceEmail);
+        DuplicateEmailException expected = new DuplicateEmailException(new int[]{0, 2});
+        assertThrows(DuplicateEmailException.class, expected.getMessage(), () -> uniquePersonList.setPersons(persons));
+    }
+
+    @Test
+    public void findDuplicatePhones_multipleConflicts_returnsEveryConflictingRow() {
+        Person bensonWithAlicePhone = new PersonBuilder(BENSON).withPhone(ALICE.getPhone().value).build();
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<int[]> duplicates = UniquePersonList.findDuplicatePhones(
+                Arrays.asList(ALICE, CARL, bensonWithAlicePhone, bobWithAlicePhone));
+        assertEquals(2, duplicates.size());
+        assertArrayEquals(new int[]{0, 2}, duplicates.get(0));
+        assertArrayEquals(new int[]{0, 3}, duplicates.get(1));
+    }
+
+    @Test
+    public void findDuplicatePersons_uniqueList_returnsEmptyList() {
+        assertTrue(UniquePersonList.findDuplicatePersons(Arrays.asList(ALICE, BENSON, CARL)).isEmpty());
+        assertTrue(UniquePersonList.findDuplicateEmails(Arrays.asList(ALICE, BENSON, CARL)).isEmpty());
+    }
+
+    @Test
+    public void getLeaveCalendar_personsChanged_calendarKeptInSync() {
+        LocalDate date = LocalDate.of(2021, 10, 1);
+        Person aliceOnLeave = new PersonBuilder(ALICE).withLeavesTaken(Arrays.asList(date)).build();
+        Person bensonOnLeave = new PersonBuilder(BENSON).withEmployeeId(BENSON.getEmployeeId())
+                .withLeavesTaken(Arrays.asList(date)).build();
+        LeaveCalendar calendar = uniquePersonList.getPersonIndexes().getLeaveCalendar();
+        uniquePersonList.add(aliceOnLeave);
+        uniquePersonList.add(BENSON);
+        assertEquals(idsOf(aliceOnLeave), calendar.getEmployeesOnLeave(date));
+
+        uniquePersonList.mergePersons(Arrays.asList(BENSON), Arrays.asList(bensonOnLeave), Arrays.asList(CARL));
+        assertEquals(idsOf(aliceOnLeave, BENSON), calendar.getEmployeesOnLeave(date));
+
+        uniquePersonList.setPerson(aliceOnLeave, ALICE);
+        uniquePersonList.remove(bensonOnLeave);
+        assertTrue(calendar.getEmployeesOnLeave(date).isEmpty());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,69 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.moreThan;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class AnyOfPredicateTest {
+
+    private final NameContainsKeywordsPredicate alicePredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Alice"));
+    private final NumericComparisonPredicate salaryPredicate = new NumericComparisonPredicate(SALARY, moreThan(20));
+    private final PhoneNumberMatchesPredicate phonePredicate =
+            new PhoneNumberMatchesPredicate(Collections.singletonList("91234567"));
+
+    @Test
+    public void equals() {
+        AnyOfPredicate firstPredicate = new AnyOfPredicate(Arrays.asList(alicePredicate, salaryPredicate));
+
+        // same values -> returns true
+        assertTrue(firstPredicate.equals(new AnyOfPredicate(Arrays.asList(alicePredicate, salaryPredicate))));
+
+        // nested predicates are flattened -> returns true
+        assertTrue(firstPredicate.equals(new AnyOfPredicate(Arrays.asList(
+                new AnyOfPredicate(Arrays.asList(alicePredicate)), salaryPredicate))));
+
+        // different type -> returns false
+        assertFalse(firstPredicate.equals(new AllOfPredicate(Arrays.asList(alicePredicate, salaryPredicate))));
+
+        // different order -> returns false
+        assertFalse(firstPredicate.equals(new AnyOfPredicate(Arrays.asList(salaryPredicate, alicePredicate))));
+    }
+
+    @Test
+    public void test_anyOperandPassed_returnsTrue() {
+        AnyOfPredicate predicate = new AnyOfPredicate(Arrays.asList(alicePredicate, salaryPredicate));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").withHourlySalary("15").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Carol").withHourlySalary("25").build()));
+    }
+
+    @Test
+    public void test_allOperandsFailed_returnsFalse() {
+        AnyOfPredicate predicate = new AnyOfPredicate(Arrays.asList(alicePredicate, salaryPredicate));
+        assertFalse(predicate.test(new PersonBuilder().withName("Carol").withHourlySalary("15").build()));
+
+        // No operands
+        assertFalse(new AnyOfPredicate(Collections.emptyList()).test(new PersonBuilder().build()));
+    }
+
+    @Test
+    public void isIndexed() {
+        assertTrue(new AnyOfPredicate(Arrays.asList(alicePredicate, salaryPredicate)).isIndexed());
+        assertFalse(new AnyOfPredicate(Arrays.asList(alicePredicate, phonePredicate)).isIndexed());
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("(name has any of the words [Alice] OR hourly salary > 20.0)",
+                new AnyOfPredicate(Arrays.asList(alicePredicate, salaryPredicate)).toString());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.person.NumericField.HOURS_WORKED;
+import static seedu.address.model.person.NumericField.LEAVE_BALANCE;
+import static seedu.address.model.person.NumericField.OVERTIME;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.equal;
+import static seedu.address.model.person.NumericRange.lessThan;
+import static seedu.address.model.person.NumericRange.lessThanEqual;
+import static seedu.address.model.person.NumericRange.moreThan;
+import static seedu.address.model.person.NumericRange.moreThanEqual;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.bitmap.CompressedBitmap;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.NumericField;
+import seedu.address.model.person.NumericRange;
+
+/**
+ * Checks that every {@code IndexedPredicate} finds the same employees in the indexes as by testing every person.
+ */
+public class IndexedPredicateTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    private void assertSameMatches(IndexedPredicate predicate) {
+        CompressedBitmap expected = CompressedBitmap.of(addressBook.getPersonList().stream()
+                .filter(predicate)
+                .mapToInt(person -> person.getEmployeeId().value)
+                .toArray());
+        assertEquals(expected, predicate.getMatchingEmployees(addressBook.getPersonIndexes()));
+    }
+
+    private void assertSameMatchesForComparisons(NumericField field, double value) {
+        List<NumericRange> ranges = Arrays.asList(moreThan(value), moreThanEqual(value), equal(value),
+                lessThan(value), lessThanEqual(value), new NumericRange(value - 0.01, false, value + 0.01, false));
+        ranges.forEach(range -> assertSameMatches(new NumericComparisonPredicate(field, range)));
+    }
+
+    @Test
+    public void getMatchingEmployees_salaryComparisons_sameAsTest() {
+        for (double value : new double[] {0, 9.5, 15, 16, 20.05, 1000}) {
+            assertSameMatchesForComparisons(SALARY, value);
+        }
+    }
+
+    @Test
+    public void getMatchingEmployees_hoursAndOvertimeComparisons_sameAsTest() {
+        for (int value : new int[] {0, 8, 40, 60, 70, 744}) {
+            assertSameMatchesForComparisons(HOURS_WORKED, value);
+            assertSameMatchesForComparisons(OVERTIME, value);
+        }
+    }
+
+    @Test
+    public void getMatchingEmployees_leaveComparisons_sameAsTest() {
+        for (int value : new int[] {0, 10, 14, 20, 365}) {
+            assertSameMatchesForComparisons(LEAVE_BALANCE, value);
+        }
+    }
+
+    @Test
+    public void getMatchingEmployees_keywords_sameAsTest() {
+        String[] keywords = {"alice", "MEIER", "Mei", "street", "ave", "#08-111", "e", "@example.com", "developer",
+            "friends", "OWES", "nobody"};
+        for (String keyword : keywords) {
+            List<String> keywordList = Arrays.asList(keyword, "zzz");
+            List<IndexedPredicate> predicates = Arrays.asList(new NameContainsKeywordsPredicate(keywordList),
+                    new RoleContainsKeywordsPredicate(keywordList), new AddressContainsKeywordsPredicate(keywordList),
+                    new EmailContainsKeywordsPredicate(keywordList), new TagContainsKeywordsPredicate(keywordList));
+            predicates.forEach(this::assertSameMatches);
+        }
+    }
+
+    @Test
+    public void getMatchingEmployees_combinedPredicates_sameAsTest() {
+        IndexedPredicate meier = new NameContainsKeywordsPredicate(Arrays.asList("Meier"));
+        IndexedPredicate highSalary = new NumericComparisonPredicate(SALARY, moreThanEqual(16));
+        IndexedPredicate friends = new TagContainsKeywordsPredicate(Arrays.asList("friends"));
+        List<IndexedPredicate> predicates = Arrays.asList(new AllOfPredicate(Arrays.asList(meier, highSalary)),
+                new AnyOfPredicate(Arrays.asList(meier, highSalary, friends)),
+                new AnyOfPredicate(Arrays.asList(new AllOfPredicate(Arrays.asList(meier, friends)), highSalary)),
+                new NotPredicate(meier),
+                new AllOfPredicate(Arrays.asList(highSalary, new NotPredicate(new AnyOfPredicate(
+                        Arrays.asList(meier, friends))))));
+        predicates.forEach(this::assertSameMatches);
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.moreThan;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NotPredicateTest {
+
+    private final NumericComparisonPredicate salaryPredicate = new NumericComparisonPredicate(SALARY, moreThan(20));
+
+    @Test
+    public void equals() {
+        NotPredicate predicate = new NotPredicate(salaryPredicate);
+
+        // same values -> returns true
+        assertTrue(predicate.equals(new NotPredicate(new NumericComparisonPredicate(SALARY, moreThan(20)))));
+
+        // null -> returns false
+        assertFalse(predicate.equals(null));
+
+        // different operand -> returns false
+        assertFalse(predicate.equals(new NotPredicate(new NumericComparisonPredicate(SALARY, moreThan(30)))));
+    }
+
+    @Test
+    public void test() {
+        NotPredicate predicate = new NotPredicate(salaryPredicate);
+        assertTrue(predicate.test(new PersonBuilder().withHourlySalary("15").build()));
+        assertFalse(predicate.test(new PersonBuilder().withHourlySalary("25").build()));
+    }
+
+    @Test
+    public void isIndexed() {
+        assertTrue(new NotPredicate(salaryPredicate).isIndexed());
+        assertFalse(new NotPredicate(new PhoneNumberMatchesPredicate(Arrays.asList("98765432"))).isIndexed());
+    }
+
+    @Test
+    public void negate() {
+        assertEquals(new NotPredicate(salaryPredicate), NotPredicate.negate(salaryPredicate));
+
+        // Double negation -> operand itself
+        assertEquals(salaryPredicate, NotPredicate.negate(NotPredicate.negate(salaryPredicate)));
+    }
+}
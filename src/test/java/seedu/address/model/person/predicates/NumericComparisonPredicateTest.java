@@ -0,0 +1,129 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.NumericField.HOURS_WORKED;
+import static seedu.address.model.person.NumericField.LEAVE_BALANCE;
+import static seedu.address.model.person.NumericField.OVERTIME;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.equal;
+import static seedu.address.model.person.NumericRange.lessThan;
+import static seedu.address.model.person.NumericRange.lessThanEqual;
+import static seedu.address.model.person.NumericRange.moreThan;
+import static seedu.address.model.person.NumericRange.moreThanEqual;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NumericRange;
+import seedu.address.testutil.PersonBuilder;
+
+class NumericComparisonPredicateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NumericComparisonPredicate(null, equal(5)));
+        assertThrows(NullPointerException.class, () -> new NumericComparisonPredicate(SALARY, null));
+    }
+
+    @Test
+    public void equals() {
+        NumericComparisonPredicate firstPredicate = new NumericComparisonPredicate(HOURS_WORKED, lessThan(5));
+        NumericComparisonPredicate secondPredicate = new NumericComparisonPredicate(HOURS_WORKED, lessThan(5));
+
+        // same object -> return true
+        assertTrue(firstPredicate.equals(firstPredicate));
+
+        // same field and range -> return true
+        assertTrue(firstPredicate.equals(secondPredicate));
+
+        // different type -> return false
+        assertFalse(firstPredicate.equals(5));
+
+        // null -> return false
+        assertFalse(firstPredicate.equals(null));
+
+        // different value -> return false
+        assertFalse(firstPredicate.equals(new NumericComparisonPredicate(HOURS_WORKED, lessThan(10))));
+
+        // different comparison -> return false
+        assertFalse(firstPredicate.equals(new NumericComparisonPredicate(HOURS_WORKED, lessThanEqual(5))));
+
+        // different field -> return false
+        assertFalse(firstPredicate.equals(new NumericComparisonPredicate(OVERTIME, lessThan(5))));
+    }
+
+    @Test
+    public void test_hoursWorked() {
+        PersonBuilder less = new PersonBuilder().withHoursWorked("4");
+        PersonBuilder same = new PersonBuilder().withHoursWorked("5");
+        PersonBuilder more = new PersonBuilder().withHoursWorked("6");
+
+        NumericComparisonPredicate predicate = new NumericComparisonPredicate(HOURS_WORKED, lessThan(5));
+        assertTrue(predicate.test(less.build()));
+        assertFalse(predicate.test(same.build()));
+        assertFalse(predicate.test(more.build()));
+
+        predicate = new NumericComparisonPredicate(HOURS_WORKED, moreThanEqual(5));
+        assertFalse(predicate.test(less.build()));
+        assertTrue(predicate.test(same.build()));
+        assertTrue(predicate.test(more.build()));
+    }
+
+    @Test
+    public void test_overtime() {
+        PersonBuilder less = new PersonBuilder().withOvertime("4");
+        PersonBuilder same = new PersonBuilder().withOvertime("5");
+        PersonBuilder more = new PersonBuilder().withOvertime("6");
+
+        NumericComparisonPredicate predicate = new NumericComparisonPredicate(OVERTIME, equal(5));
+        assertFalse(predicate.test(less.build()));
+        assertTrue(predicate.test(same.build()));
+        assertFalse(predicate.test(more.build()));
+
+        predicate = new NumericComparisonPredicate(OVERTIME, lessThanEqual(5));
+        assertTrue(predicate.test(less.build()));
+        assertTrue(predicate.test(same.build()));
+        assertFalse(predicate.test(more.build()));
+    }
+
+    @Test
+    public void test_leaveBalance() {
+        PersonBuilder less = new PersonBuilder().withLeaves("4");
+        PersonBuilder same = new PersonBuilder().withLeaves("5");
+        PersonBuilder more = new PersonBuilder().withLeaves("6");
+
+        NumericComparisonPredicate predicate = new NumericComparisonPredicate(LEAVE_BALANCE, moreThan(5));
+        assertFalse(predicate.test(less.build()));
+        assertFalse(predicate.test(same.build()));
+        assertTrue(predicate.test(more.build()));
+    }
+
+    @Test
+    public void test_hourlySalary() {
+        PersonBuilder less = new PersonBuilder().withHourlySalary("5.4");
+        PersonBuilder same = new PersonBuilder().withHourlySalary("5.5");
+        PersonBuilder more = new PersonBuilder().withHourlySalary("5.6");
+
+        NumericComparisonPredicate predicate =
+                new NumericComparisonPredicate(SALARY, new NumericRange(5.49, false, 5.51, false));
+        assertFalse(predicate.test(less.build()));
+        assertTrue(predicate.test(same.build()));
+        assertFalse(predicate.test(more.build()));
+
+        predicate = new NumericComparisonPredicate(SALARY, moreThan(5.5));
+        assertFalse(predicate.test(less.build()));
+        assertFalse(predicate.test(same.build()));
+        assertTrue(predicate.test(more.build()));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("hourly salary > 20.0", new NumericComparisonPredicate(SALARY, moreThan(20)).toString());
+        assertEquals("hours worked <= 8.0", new NumericComparisonPredicate(HOURS_WORKED, lessThanEqual(8)).toString());
+        assertEquals("overtime = 5.0", new NumericComparisonPredicate(OVERTIME, equal(5)).toString());
+        assertEquals("leave balance >= 14.0",
+                new NumericComparisonPredicate(LEAVE_BALANCE, moreThanEqual(14)).toString());
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.person.predicates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.model.person.NumericField.HOURS_WORKED;
+import static seedu.address.model.person.NumericField.SALARY;
+import static seedu.address.model.person.NumericRange.lessThan;
+import static seedu.address.model.person.NumericRange.moreThan;
+import static seedu.address.model.person.NumericRange.moreThanEqual;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+public class QueryPlanTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    private final NameContainsKeywordsPredicate meierPredicate =
+            new NameContainsKeywordsPredicate(Collections.singletonList("Meier"));
+    private final NumericComparisonPredicate salaryPredicate = new NumericComparisonPredicate(SALARY, lessThan(1000));
+    private final PhoneNumberMatchesPredicate phonePredicate =
+            new PhoneNumberMatchesPredicate(Arrays.asList("98765432", "87652533"));
+
+    private List<Person> findPersons(Predicate<Person> predicate) {
+        return addressBook.getPersonList().stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    @Test
+    public void constructor_unselectiveIndexedFilter_testedAfterSelectiveFilters() {
+        List<Predicate<Person>> filters = Arrays.asList(salaryPredicate, phonePredicate, meierPredicate);
+        QueryPlan plan = new QueryPlan(filters, addressBook.getPersonIndexes(), false);
+
+        // Every employee earns less than 1000, so the salary is only tested on the employees named Meier
+        assertEquals(Arrays.asList(meierPredicate), plan.getLookupFilters());
+        assertEquals(Arrays.asList(phonePredicate, salaryPredicate), plan.getTestedFilters());
+        assertEquals(Arrays.asList(BENSON, DANIEL), findPersons(plan.execute()));
+    }
+
+    @Test
+    public void constructor_indexedFilters_lookedUpFromFewestMatches() {
+        RoleContainsKeywordsPredicate rolePredicate =
+                new RoleContainsKeywordsPredicate(Collections.singletonList("e"));
+        NameContainsKeywordsPredicate bensonPredicate =
+                new NameContainsKeywordsPredicate(Collections.singletonList("Benson"));
+        List<Predicate<Person>> filters = Arrays.asList(meierPredicate, rolePredicate, bensonPredicate);
+        QueryPlan plan = new QueryPlan(filters, addressBook.getPersonIndexes(), false);
+
+        assertEquals(bensonPredicate, plan.getLookupFilters().get(0));
+        assertEquals(Arrays.asList(BENSON), findPersons(plan.execute()));
+    }
+
+    @Test
+    public void explain_noEmployeesLeft_laterLookupsSkipped() {
+        List<Predicate<Person>> filters = Arrays.asList(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice")),
+                new NameContainsKeywordsPredicate(Collections.singletonList("Benson")),
+                new NameContainsKeywordsPredicate(Collections.singletonList("Carl")));
+        QueryPlan plan = new QueryPlan(filters, addressBook.getPersonIndexes(), true);
+
+        assertEquals(Collections.emptyList(), findPersons(plan.execute()));
+        String explanation = plan.explain();
+        assertTrue(explanation.startsWith("Plan for 3 filter(s) over 7 employee(s):"));
+        assertTrue(explanation.contains("3. Index lookup of name has any of the words [Carl] (estimated 1): "
+                + "skipped, as no employees were left"));
+    }
+
+    @Test
+    public void explain_testedFilters_countsRecorded() {
+        List<Predicate<Person>> filters = Arrays.asList(salaryPredicate, phonePredicate, meierPredicate);
+        QueryPlan plan = new QueryPlan(filters, addressBook.getPersonIndexes(), true);
+        findPersons(plan.execute());
+
+        String explanation = plan.explain();
+        assertTrue(explanation.contains("1. Index lookup of name has any of the words [Meier] (estimated 2): "
+                + "2 found in "));
+        assertTrue(explanation.contains("2. Test of phone is any of [98765432, 87652533]: 2 of 2 passed in "));
+        assertTrue(explanation.contains("3. Test of hourly salary < 1000.0: 2 of 2 passed in "));
+
+        // Tests after the plan is explained are not recorded
+        findPersons(plan.execute());
+        assertEquals(explanation.replaceAll("[0-9.]+ ms", ""), plan.explain().replaceAll("[0-9.]+ ms", ""));
+    }
+
+    @Test
+    public void execute_sameResultsAsTestingEveryFilter() {
+        List<Predicate<Person>> filters = Arrays.asList(new NumericComparisonPredicate(SALARY, moreThanEqual(16)),
+                new NumericComparisonPredicate(HOURS_WORKED, moreThan(50)), new PersonIsPaidPredicate(),
+                new AddressContainsKeywordsPredicate(Collections.singletonList("ave")));
+        Predicate<Person> allFilters = filters.stream().reduce(x -> true, Predicate::and);
+        QueryPlan plan = new QueryPlan(filters, addressBook.getPersonIndexes(), false);
+        assertEquals(findPersons(allFilters), findPersons(plan.execute()));
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookStorageConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    @BeforeEach
+    public void setUp() {
+        jsonStorage = new JsonAddressBookStorage(testFolder.resolve("HeRon.json"));
+        binaryStorage = new BinaryAddressBookStorage(testFolder.resolve("HeRon.bin"));
+    }
+
+    @Test
+    public void convert_missingSource_targetUnchanged() throws Exception {
+        assertFalse(AddressBookStorageConverter.convert(jsonStorage, binaryStorage));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameData() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookStorageConverter.convert(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+
+        Files.delete(jsonStorage.getAddressBookFilePath());
+        assertTrue(AddressBookStorageConverter.convert(binaryStorage, jsonStorage));
+        assertEquals(original, jsonStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void migrate_targetExists_nothingMigrated() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        binaryStorage.saveAddressBook(original);
+
+        assertFalse(AddressBookStorageConverter.migrate(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+        assertTrue(Files.exists(jsonStorage.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void migrate_targetMissing_sourceMovedAside() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        jsonStorage.saveAddressBook(original);
+
+        assertTrue(AddressBookStorageConverter.migrate(jsonStorage, binaryStorage));
+        assertEquals(original, binaryStorage.readAddressBook().get());
+        assertFalse(Files.exists(jsonStorage.getAddressBookFilePath()));
+        assertTrue(Files.exists(testFolder.resolve("HeRon.json" + AddressBookStorageConverter.MIGRATED_FILE_SUFFIX)));
+    }
+}
@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private JournaledAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        storage = new JournaledAddressBookStorage(filePath, 100);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_smallChanges_onlyJournalWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        Person editedAlice = new PersonBuilder(ALICE).withEmployeeId(ALICE.getEmployeeId())
+                .withAddress(VALID_ADDRESS_BOB).build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        original.removePerson(BENSON);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        // One line naming the snapshot, then one put, one remove and one put
+        assertEquals(4, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new JournaledAddressBookStorage(filePath, 100).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_personsReordered_snapshotWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        // A new employee id is appended when replayed, so a person edited in place under a new id reorders the list
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new JournaledAddressBookStorage(filePath, 100).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_unchangedAddressBook_nothingWritten() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<String> journal = Files.readAllLines(storage.getJournalFilePath());
+
+        storage.saveAddressBook(original);
+        assertEquals(journal, Files.readAllLines(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactsIntoSnapshot() throws Exception {
+        storage = new JournaledAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(2, Files.readAllLines(storage.getJournalFilePath()).size());
+
+        original.removePerson(BENSON);
+        storage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(original, new JournaledAddressBookStorage(filePath, 1).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_continuesJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath, 100);
+        AddressBook readBack = new AddressBook(reopenedStorage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        reopenedStorage.saveAddressBook(readBack);
+
+        assertEquals(3, Files.readAllLines(storage.getJournalFilePath()).size());
+        assertEquals(readBack, new JournaledAddressBookStorage(filePath, 100).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_journalIgnored() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+
+        // Snapshot replaced without starting a new journal, as when a compaction is interrupted
+        original.removePerson(BENSON);
+        original.addPerson(ALICE);
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertEquals(original, new JournaledAddressBookStorage(filePath, 100).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordSkipped() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"put\",\"pers".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertEquals(original, new JournaledAddressBookStorage(filePath, 100).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_unknownOperation_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Files.write(storage.getJournalFilePath(), "{\"operation\":\"rename\"}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+        assertThrows(DataConversionException.class, () ->
+                new JournaledAddressBookStorage(filePath, 100).readAddressBook());
+    }
+}
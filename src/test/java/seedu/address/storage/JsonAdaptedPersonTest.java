@@ -1,6 +1,7 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -16,11 +17,13 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.CalculatedPay;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.HourlySalary;
 import seedu.address.model.person.HoursWorked;
 import seedu.address.model.person.LeaveBalance;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Overtime;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Role;
 
@@ -29,6 +32,7 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_CALCULATEDPAY_CHAR = "a";
     private static final String INVALID_CALCULATEDPAY_NEGATIVE = "-1";
     private static final String INVALID_EMAIL = "example.com";
+    private static final String INVALID_EMPLOYEE_ID = "-5";
     private static final String INVALID_HOURLYSALARY_CHAR = "yolo";
     private static final String INVALID_HOURLYSALARY_NEGATIVE = "-3000";
     private static final String INVALID_HOURSWORKED_CHAR = "A day";
@@ -42,6 +46,7 @@ public class JsonAdaptedPersonTest {
     private static final String INVALID_ROLE = "Pro <Junior> Java Expert";
     private static final String INVALID_TAG = "#friend";
 
+    private static final String VALID_EMPLOYEE_ID = BENSON.getEmployeeId().toString();
     private static final String VALID_ADDRESS = BENSON.getAddress().toString();
     private static final String VALID_CALCULATEDPAY = BENSON.getCalculatedPay().toString();
     private static final String VALID_EMAIL = BENSON.getEmail().toString();
@@ -63,10 +68,37 @@ public class JsonAdaptedPersonTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsEmployeeId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON);
+        assertEquals(BENSON.getEmployeeId(), person.toModelType().getEmployeeId());
+    }
+
+    @Test
+    public void toModelType_invalidEmployeeId_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
+                VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
+        assertThrows(IllegalValueException.class, EmployeeId.MESSAGE_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_nullEmployeeId_issuesNewEmployeeId() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(null,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
+                VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
+        Person modelPerson = person.toModelType();
+        assertEquals(BENSON, modelPerson);
+        assertNotEquals(BENSON.getEmployeeId(), modelPerson.getEmployeeId());
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
+                new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                        INVALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
                 VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                         VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Name.MESSAGE_CONSTRAINTS;
@@ -75,7 +107,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullName_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                null, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName());
@@ -85,7 +118,8 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                        VALID_NAME, INVALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                         VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
                         VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Phone.MESSAGE_CONSTRAINTS;
@@ -94,7 +128,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, null, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
                 VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName());
@@ -104,7 +139,8 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidEmail_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
+                new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                        VALID_NAME, VALID_PHONE, INVALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
                         VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                         VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Email.MESSAGE_CONSTRAINTS;
@@ -113,7 +149,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullEmail_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, null, VALID_ADDRESS, VALID_ROLE,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, null, VALID_ADDRESS, VALID_ROLE,
                 VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Email.class.getSimpleName());
@@ -123,7 +160,8 @@ public class JsonAdaptedPersonTest {
     @Test
     public void toModelType_invalidAddress_throwsIllegalValueException() {
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS, VALID_ROLE,
+                new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                        VALID_NAME, VALID_PHONE, VALID_EMAIL, INVALID_ADDRESS, VALID_ROLE,
                         VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                         VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Address.MESSAGE_CONSTRAINTS;
@@ -132,7 +170,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullAddress_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_ROLE,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, null, VALID_ROLE,
                 VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName());
@@ -141,7 +180,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullRole_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, null,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, null,
                 VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName());
@@ -150,7 +190,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_invalidRole_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 INVALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Role.MESSAGE_CONSTRAINTS;
@@ -159,7 +200,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullLeaves_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, null, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, LeaveBalance.class.getSimpleName());
@@ -168,7 +210,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_negativeLeaves_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, INVALID_LEAVES_NEGATIVE, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = LeaveBalance.MESSAGE_CONSTRAINTS;
@@ -177,7 +220,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_characterInLeaves_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, INVALID_LEAVES_CHAR, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = LeaveBalance.MESSAGE_CONSTRAINTS;
@@ -186,7 +230,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullSalary_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, null, VALID_HOURSWORKED, VALID_OVERTIME,
                 VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, HourlySalary.class.getSimpleName());
@@ -195,7 +240,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_negativeSalary_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, INVALID_HOURLYSALARY_NEGATIVE, VALID_HOURSWORKED,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = HourlySalary.MESSAGE_CONSTRAINTS;
@@ -204,7 +250,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_characterInSalary_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, INVALID_HOURLYSALARY_CHAR, VALID_HOURSWORKED,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = HourlySalary.MESSAGE_CONSTRAINTS;
@@ -213,7 +260,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_nullHoursWorked_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, null,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = String.format(MISSING_FIELD_MESSAGE_FORMAT, HoursWorked.class.getSimpleName());
@@ -222,7 +270,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_negativeHoursWorked_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, INVALID_HOURSWORKED_NEGATIVE,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = HoursWorked.MESSAGE_CONSTRAINTS;
@@ -231,7 +280,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_characterInHoursWorked_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, INVALID_HOURSWORKED_CHAR,
                 VALID_OVERTIME, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = HoursWorked.MESSAGE_CONSTRAINTS;
@@ -240,7 +290,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_negativeOvertime_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
                 INVALID_OVERTIME_NEGATIVE, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Overtime.MESSAGE_CONSTRAINTS;
@@ -249,7 +300,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_characterInOvertime_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED,
                 INVALID_OVERTIME_CHAR, VALID_CALCULATEDPAY, VALID_TAGS);
         String expectedMessage = Overtime.MESSAGE_CONSTRAINTS;
@@ -258,7 +310,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_negativeCalculatedPay_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 INVALID_CALCULATEDPAY_NEGATIVE, VALID_TAGS);
         String expectedMessage = CalculatedPay.MESSAGE_CONSTRAINTS;
@@ -267,7 +320,8 @@ public class JsonAdaptedPersonTest {
 
     @Test
     public void toModelType_characterInCalculatedPay_throwsIllegalValueException() {
-        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
                 VALID_ROLE, VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                 INVALID_CALCULATEDPAY_CHAR, VALID_TAGS);
         String expectedMessage = CalculatedPay.MESSAGE_CONSTRAINTS;
@@ -279,7 +333,8 @@ public class JsonAdaptedPersonTest {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
         invalidTags.add(new JsonAdaptedTag(INVALID_TAG));
         JsonAdaptedPerson person =
-                new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
+                new JsonAdaptedPerson(VALID_EMPLOYEE_ID,
+                        VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS, VALID_ROLE,
                         VALID_LEAVES, VALID_LEAVES_TAKEN, VALID_HOURLYSALARY, VALID_HOURSWORKED, VALID_OVERTIME,
                         VALID_CALCULATEDPAY, invalidTags);
         assertThrows(IllegalValueException.class, person::toModelType);
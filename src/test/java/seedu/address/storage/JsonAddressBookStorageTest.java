@@ -9,15 +9,21 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +92,50 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_validAddressBook_readableAsSerializableAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(filePath,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(original, dataFromFile.toModelType());
+        // Only the data file is left behind, without any temporary file
+        assertEquals(1, Files.list(testFolder).count());
+    }
+
+    @Test
+    public void readAddressBook_serializableAddressBookFile_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_manyPersonsSomeWithoutId_convertedInOrderWithUniqueIds() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        int firstStoredId = EmployeeId.generate().value + 1;
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            // Every 700th person has no id, and would be given a stored id if ids were generated as they are read
+            String employeeId = i % 700 == 0 ? null : String.valueOf(firstStoredId + i);
+            persons.add(new JsonAdaptedPerson(employeeId, "Person " + i, String.valueOf(10000000 + i),
+                    "person" + i + "@example.com", "4th street", "Accountant", "10", List.of(), "15.00", "70",
+                    "0", "0", List.of()));
+        }
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons), filePath);
+
+        List<Person> readBack = new JsonAddressBookStorage(filePath).readAddressBook().get().getPersonList();
+        assertEquals(persons.size(), readBack.size());
+        for (int i = 0; i < persons.size(); i++) {
+            assertEquals("Person " + i, readBack.get(i).getName().fullName);
+        }
+        assertEquals(String.valueOf(firstStoredId + 1), readBack.get(1).getEmployeeId().toString());
+        assertEquals(persons.size(), readBack.stream().map(Person::getEmployeeId).distinct().count());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,16 +1,23 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.EmployeeId;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +26,8 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_EMPLOYEE_ID_FILE =
+            TEST_DATA_FOLDER.resolve("duplicateEmployeeIdAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -42,4 +51,58 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void toModelType_duplicateEmployeeIds_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(DUPLICATE_EMPLOYEE_ID_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EMPLOYEE_ID,
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_missingIdBeforeStoredId_generatedIdDoesNotClash() throws Exception {
+        // The id that would be generated next is stored for the second person
+        String nextId = String.valueOf(EmployeeId.generate().value + 1);
+        JsonAdaptedPerson withoutId = new JsonAdaptedPerson(null, "Alice", "10000001", "alice@example.com",
+                "4th street", "Accountant", "10", List.of(), "15.00", "70", "0", "0", List.of());
+        JsonAdaptedPerson withId = new JsonAdaptedPerson(nextId, "Bob", "10000002", "bob@example.com",
+                "4th street", "Accountant", "10", List.of(), "15.00", "70", "0", "0", List.of());
+        AddressBook addressBook = new JsonSerializableAddressBook(List.of(withoutId, withId)).toModelType();
+
+        List<Person> persons = addressBook.getPersonList();
+        assertEquals(nextId, persons.get(1).getEmployeeId().toString());
+        assertNotEquals(persons.get(1).getEmployeeId(), persons.get(0).getEmployeeId());
+    }
+
+    @Test
+    public void toModelType_inParallel_sameAsInOrder() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertEquals(dataFromFile.toModelType(false), dataFromFile.toModelType(true));
+    }
+
+    @Test
+    public void toModelType_inParallelWithManyInvalidPersons_firstErrorReported() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 1; i <= 2000; i++) {
+            String phone = i == 700 ? "+651234" : String.valueOf(10000000 + i);
+            String email = i == 1500 ? "invalid@email!3e" : "person" + i + "@example.com";
+            persons.add(new JsonAdaptedPerson(String.valueOf(i), "Person " + i, phone, email, "4th street",
+                    "Accountant", "10", List.of(), "15.00", "70", "0", "0", List.of()));
+        }
+        JsonSerializableAddressBook addressBook = new JsonSerializableAddressBook(persons);
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> addressBook.toModelType(true));
+    }
+
+    @Test
+    public void toModelType_duplicatePhones_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (Person person : TypicalPersons.getTypicalPersons()) {
+            persons.add(new JsonAdaptedPerson(person));
+        }
+        persons.add(new JsonAdaptedPerson(new PersonBuilder().withName("Duplicate Phone")
+                .withPhone(TypicalPersons.ALICE.getPhone().value).build()));
+        assertThrows(IllegalValueException.class, () -> new JsonSerializableAddressBook(persons).toModelType());
+    }
 }
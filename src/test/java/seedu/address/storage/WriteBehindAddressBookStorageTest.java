@@ -0,0 +1,157 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookStorageTest {
+    // Long enough that the background write never runs during a test, so that only flushes write the file
+    private static final long NEVER = 3_600_000;
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void saveAddressBook_beforeFlush_fileNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath), NEVER);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertFalse(Files.exists(filePath));
+
+        storage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_writesLatestOnce() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        CountingAddressBookStorage countingStorage = new CountingAddressBookStorage(filePath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(countingStorage, NEVER);
+
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        // Later changes to the saved address book must not leak into the pending snapshot
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flushAddressBook();
+        storage.flushAddressBook();
+
+        assertEquals(1, countingStorage.saveCount);
+        assertEquals(original, countingStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_pendingSave_readsSavedData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath), NEVER);
+        storage.saveAddressBook(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWrite_writesFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        WriteBehindAddressBookStorage storage =
+                new WriteBehindAddressBookStorage(new JsonAddressBookStorage(filePath), 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        for (int attempt = 0; attempt < 100 && !Files.exists(filePath); attempt++) {
+            Thread.sleep(50);
+        }
+        storage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void flushAddressBook_writeFails_throwsIoExceptionAndKeepsData() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        CountingAddressBookStorage countingStorage = new CountingAddressBookStorage(filePath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(countingStorage, NEVER);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        countingStorage.isFailing = true;
+        assertThrows(IOException.class, storage::flushAddressBook);
+
+        countingStorage.isFailing = false;
+        storage.flushAddressBook();
+        assertEquals(getTypicalAddressBook(), countingStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_backgroundWriteInProgress_doesNotWait() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        BlockingAddressBookStorage blockingStorage = new BlockingAddressBookStorage(filePath);
+        WriteBehindAddressBookStorage storage = new WriteBehindAddressBookStorage(blockingStorage, 0);
+        storage.saveAddressBook(getTypicalAddressBook());
+        blockingStorage.writeStarted.await();
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> storage.saveAddressBook(changed));
+
+        blockingStorage.writeAllowed.countDown();
+        storage.flushAddressBook();
+        assertEquals(changed, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} whose writes wait until they are allowed.
+     */
+    private static class BlockingAddressBookStorage extends JsonAddressBookStorage {
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch writeAllowed = new CountDownLatch(1);
+
+        private BlockingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            writeStarted.countDown();
+            try {
+                writeAllowed.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A {@code JsonAddressBookStorage} that counts its writes and can be made to fail them.
+     */
+    private static class CountingAddressBookStorage extends JsonAddressBookStorage {
+        private int saveCount = 0;
+        private boolean isFailing = false;
+
+        private CountingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Set;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.CalculatedPay;
 import seedu.address.model.person.Email;
+import seedu.address.model.person.EmployeeId;
 import seedu.address.model.person.HourlySalary;
 import seedu.address.model.person.HoursWorked;
 import seedu.address.model.person.LeaveBalance;
@@ -54,6 +55,9 @@ public class PersonBuilder {
 
     private Set<Tag> tags;
 
+    // Left unset so that every built person gets a new employee id, unless one is given explicitly.
+    private EmployeeId employeeId;
+
     /**
      * Creates a {@code PersonBuilder} with the default details.
      */
@@ -88,6 +92,14 @@ public class PersonBuilder {
         tags = new HashSet<>(personToCopy.getTags());
     }
 
+    /**
+     * Sets the {@code EmployeeId} of the {@code Person} that we are building.
+     */
+    public PersonBuilder withEmployeeId(EmployeeId employeeId) {
+        this.employeeId = employeeId;
+        return this;
+    }
+
     /**
      * Sets the {@code Name} of the {@code Person} that we are building.
      */
@@ -188,7 +200,11 @@ public class PersonBuilder {
      * Builds a {@code Person}.
      */
     public Person build() {
-        return new Person(name, phone, email, address, role, leaveBalance, leavesTaken,
+        if (employeeId == null) {
+            return new Person(name, phone, email, address, role, leaveBalance, leavesTaken,
+                    hourlySalary, hoursWorked, overtime, calculatedPay, tags);
+        }
+        return new Person(employeeId, name, phone, email, address, role, leaveBalance, leavesTaken,
                 hourlySalary, hoursWorked, overtime, calculatedPay, tags);
     }
 }